@@ -3,6 +3,8 @@ package seedu.budgetbuddy;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.commands.ExitCommand;
 import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+import seedu.budgetbuddy.storage.OnDemandLoader;
+import seedu.budgetbuddy.storage.StorageFormat;
 import seedu.budgetbuddy.transaction.budget.Budget;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
 import seedu.budgetbuddy.transaction.expense.Expense;
@@ -34,6 +36,8 @@ public class BudgetBuddy {
      */
     public BudgetBuddy(String filepath) {
         storage = new Storage(filepath);
+        // Writes the changes already queued for the disk, even if the application is shut down abruptly
+        Runtime.getRuntime().addShutdownHook(new Thread(storage::closeWriter));
         try {
             storage.createFileIfNotExists();
             ArrayList<ArrayList<?>> data = storage.load();
@@ -43,13 +47,15 @@ public class BudgetBuddy {
             ArrayList<Income> incomes = (ArrayList<Income>) data.get(1);
             ArrayList<Budget> budgets = (ArrayList<Budget>) data.get(2);
 
-            int numberOfExpenses = expenses.size();
-            int numberOfIncomes = incomes.size();
+            // Partitions that are not loaded yet still count towards the totals
+            int numberOfExpenses = expenses.size() + OnDemandLoader.getUnloadedExpenseCount();
+            int numberOfIncomes = incomes.size() + OnDemandLoader.getUnloadedIncomeCount();
             int numberOfBudgets = budgets.size();
 
             expenseManager = new ExpenseManager(expenses, numberOfExpenses);
             incomeManager = new IncomeManager(incomes, numberOfIncomes);
             budgetManager = new BudgetManager(budgets, numberOfBudgets);
+            storage.compactIfNeeded();
         } catch (IOException e) {
             Ui.showMessage("Error updating File");
         }
@@ -58,7 +64,7 @@ public class BudgetBuddy {
     /**
      * Runs the BudgetBuddy application. Displays the welcome message and
      * continuously processes user commands until the exit command is executed.
-     * After each command, it saves any changes to the storage file.
+     * After each command that changes the data, it appends the changes to the storage journal.
      */
     public void run() {
         Ui.displayWelcomeMessage();
@@ -72,23 +78,29 @@ public class BudgetBuddy {
             } catch (BudgetBuddyException e) {
                 System.out.println(e.getMessage());
             }
-            try {
-                storage.save(expenseManager, incomeManager, budgetManager);
-            } catch (IOException e) {
-                Ui.showMessage("Error updating File");
+            if (command != null && command.isMutating()) {
+                try {
+                    storage.appendJournal();
+                } catch (IOException e) {
+                    Ui.showMessage("Error updating File");
+                }
             }
         } while (!(command instanceof ExitCommand));
+        storage.close();
         System.exit(0);
     }
 
     /**
      * The entry point for the BudgetBuddy application. Creates a new BudgetBuddy instance
      * with the specified file path and starts the application.
+     * The storage format can be selected with {@code -Dbudgetbuddy.format=binary},
+     * {@code -Dbudgetbuddy.format=partitioned} or {@code -Dbudgetbuddy.format=mapped}; text is the default.
      *
      * @param args Command-line arguments (not used).
      */
     public static void main(String[] args) {
-        new BudgetBuddy("./data/BudgetBuddy.txt").run();
+        StorageFormat format = StorageFormat.fromName(System.getProperty("budgetbuddy.format"));
+        new BudgetBuddy("./data/BudgetBuddy." + format.getFileExtension()).run();
     }
 }
 
@@ -0,0 +1,194 @@
+package seedu.budgetbuddy;
+
+import java.io.PrintStream;
+
+/**
+ * Renders a listing of rows, such as expenses or budgets, one row at a time.
+ * <p>
+ * A listing shown to the user is written into a buffer that is printed whenever it fills up, so that
+ * the first rows appear before the last ones are formatted and memory does not grow with the number of rows.
+ * It looks the same as a message displayed by {@link Ui#displayToUser(String)}.
+ * A listing can be limited to one page of rows with the {@code --page} and {@code --limit} options.
+ * The rows before the page are still counted, so that rows keep the numbers they have in the whole listing,
+ * and the caller stops going through rows once the page is full.
+ * </p>
+ */
+public class Listing {
+    /** The number of rows on a page when a page is requested without a limit. */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int FLUSH_THRESHOLD = 8192;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private final PrintStream out;
+    private final int page;
+    private final int limit;
+    private long firstRow;
+    private long lastRow;
+    private long numberOfRows = 0;
+    private boolean hasMoreRows = false;
+
+    private Listing(PrintStream out, int page, int limit) {
+        assert page >= 0 && limit >= 0 : "Page and limit cannot be negative";
+        this.out = out;
+        this.page = page;
+        this.limit = limit;
+        setPageSize((limit > 0) ? limit : ((page > 0) ? DEFAULT_PAGE_SIZE : 0));
+        if (out != null) {
+            buffer.append(Ui.SEPARATOR).append(System.lineSeparator());
+        }
+    }
+
+    /**
+     * Creates a listing that is shown to the user in full.
+     *
+     * @return The listing.
+     */
+    public static Listing toUser() {
+        return new Listing(System.out, 0, 0);
+    }
+
+    /**
+     * Creates a listing that is shown to the user, limited to one page of rows.
+     *
+     * @param page The number of the page, starting from 1, or 0 for the first page.
+     * @param limit The number of rows on a page, or 0 for {@link #DEFAULT_PAGE_SIZE} if a page is given
+     *     and for every row otherwise.
+     * @return The listing.
+     */
+    public static Listing toUser(int page, int limit) {
+        return new Listing(System.out, page, limit);
+    }
+
+    /**
+     * Creates a listing that collects every row into text, which is read with {@link #toString()}.
+     *
+     * @return The listing.
+     */
+    public static Listing toText() {
+        return new Listing(null, 0, 0);
+    }
+
+    /**
+     * Limits the listing to the given number of rows, unless a page or a limit was requested.
+     *
+     * @param rows The number of rows.
+     */
+    public void setDefaultLimit(int rows) {
+        if (!isPaged()) {
+            setPageSize(rows);
+        }
+    }
+
+    /**
+     * Adds a line that is not a row, such as a heading.
+     *
+     * @param line The line.
+     */
+    public void addLine(String line) {
+        buffer.append(line).append('\n');
+        flushIfFull();
+    }
+
+    /**
+     * Adds a row preceded by its number, if it is on the page.
+     *
+     * @param row The row.
+     * @return Whether more rows can be added, which is false once the page is full.
+     */
+    public boolean addNumberedRow(Object row) {
+        if (!isOnPage()) {
+            return !hasMoreRows;
+        }
+        buffer.append(numberOfRows).append(". ").append(row).append('\n');
+        flushIfFull();
+        return true;
+    }
+
+    /**
+     * Adds a row, if it is on the page.
+     *
+     * @param row The row.
+     * @return Whether more rows can be added, which is false once the page is full.
+     */
+    public boolean addRow(Object row) {
+        if (!isOnPage()) {
+            return !hasMoreRows;
+        }
+        buffer.append(row).append('\n');
+        flushIfFull();
+        return true;
+    }
+
+    /**
+     * Completes the listing and, if it is shown to the user, prints what remains of it.
+     */
+    public void finish() {
+        finish(null);
+    }
+
+    /**
+     * Completes the listing and, if it is shown to the user, prints what remains of it.
+     *
+     * @param emptyMessage The message to show if there are no rows, or null for none.
+     */
+    public void finish(String emptyMessage) {
+        if (numberOfRows > 0 && numberOfRows < firstRow) {
+            buffer.append("There are no entries on page ").append(page).append('.');
+        } else if (emptyMessage != null && numberOfRows == 0) {
+            buffer.append(emptyMessage);
+        }
+        if (hasMoreRows && isPaged()) {
+            buffer.append("There are more entries, use --page ").append(Math.max(page, 1) + 1)
+                    .append(" to see them.");
+        }
+        if (out == null) {
+            return;
+        }
+        buffer.append(System.lineSeparator()).append(Ui.SEPARATOR).append(System.lineSeparator());
+        out.print(buffer);
+        out.flush();
+        buffer.setLength(0);
+    }
+
+    /**
+     * Returns the text of a listing created by {@link #toText()}.
+     *
+     * @return The text of the listing.
+     */
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    /**
+     * Returns whether a page or a limit was requested for the listing.
+     *
+     * @return true if the listing is limited to a requested page.
+     */
+    public boolean isPaged() {
+        return page > 0 || limit > 0;
+    }
+
+    private void setPageSize(int rows) {
+        firstRow = (rows == 0) ? 1 : (long) (Math.max(page, 1) - 1) * rows + 1;
+        lastRow = (rows == 0) ? Long.MAX_VALUE : firstRow + rows - 1;
+    }
+
+    /**
+     * Counts a row and checks whether it is on the page, noting when there are rows after the page.
+     */
+    private boolean isOnPage() {
+        numberOfRows++;
+        if (numberOfRows > lastRow) {
+            hasMoreRows = true;
+        }
+        return numberOfRows >= firstRow && numberOfRows <= lastRow;
+    }
+
+    private void flushIfFull() {
+        if (out != null && buffer.length() >= FLUSH_THRESHOLD) {
+            out.print(buffer);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import seedu.budgetbuddy.commands.expense.DeleteExpenseCommand;
 import seedu.budgetbuddy.commands.expense.AddExpenseCommand;
 import seedu.budgetbuddy.commands.expense.EditExpenseCommand;
 import seedu.budgetbuddy.commands.expense.SearchExpenseCommand;
+import seedu.budgetbuddy.commands.expense.TopExpensesCommand;
 import seedu.budgetbuddy.commands.expense.ListExpenseCommand;
 import seedu.budgetbuddy.commands.expense.DisplayTotalExpensesCommand;
 import seedu.budgetbuddy.commands.income.AddIncomeCommand;
@@ -13,7 +14,9 @@ import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.commands.budget.DeductBudgetCommand;
 import seedu.budgetbuddy.commands.income.DeleteIncomeCommand;
 import seedu.budgetbuddy.commands.income.DisplayIncomeCommand;
+import seedu.budgetbuddy.commands.ArchiveCommand;
 import seedu.budgetbuddy.commands.ExitCommand;
+import seedu.budgetbuddy.commands.ExportCommand;
 import seedu.budgetbuddy.commands.HelpCommand;
 import seedu.budgetbuddy.commands.IncorrectCommand;
 import seedu.budgetbuddy.commands.budget.ListBudgetCommand;
@@ -22,9 +25,9 @@ import seedu.budgetbuddy.commands.income.ListIncomeCommand;
 import seedu.budgetbuddy.commands.saving.DisplaySavingsCommand;
 import seedu.budgetbuddy.commands.expense.ListMonthlyExpensesCommand;
 import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+import seedu.budgetbuddy.storage.LedgerLineCodec;
 import seedu.budgetbuddy.transaction.budget.Budget;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
-import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.transaction.income.Income;
@@ -37,16 +40,16 @@ import seedu.budgetbuddy.validators.income.DeleteIncomeValidator;
 import seedu.budgetbuddy.validators.income.DisplayIncomeSpentValidator;
 import seedu.budgetbuddy.validators.income.DisplayIncomeValidator;
 import seedu.budgetbuddy.validators.budget.ListBudgetValidator;
+import seedu.budgetbuddy.validators.budget.ListRemainingBudgetValidator;
+import seedu.budgetbuddy.validators.income.ListIncomeValidator;
 import seedu.budgetbuddy.validators.expense.AddExpenseValidator;
 import seedu.budgetbuddy.validators.expense.DeleteExpenseValidator;
 import seedu.budgetbuddy.validators.expense.DisplayTotalExpensesValidator;
 import seedu.budgetbuddy.validators.expense.SearchExpenseValidator;
+import seedu.budgetbuddy.validators.expense.TopExpensesValidator;
 import seedu.budgetbuddy.validators.saving.DisplaySavingsValidator;
 import seedu.budgetbuddy.validators.expense.ListMonthlyExpensesValidator;
 
-import java.time.LocalDate;
-import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 
 /**
@@ -90,7 +93,7 @@ public class Parser {
             return DeleteIncomeValidator.processCommand(userCommandText);
         }
         if (ListIncomeCommand.isCommand(userCommandText)) {
-            return new ListIncomeCommand();
+            return ListIncomeValidator.processCommand(userCommandText);
         }
         if (AddBudgetCommand.isCommand(userCommandText)) {
             return AddBudgetValidator.processCommand(userCommandText);
@@ -113,6 +116,9 @@ public class Parser {
         if (SearchExpenseCommand.isCommand(userCommandText)){
             return SearchExpenseValidator.processCommand(userCommandText);
         }
+        if (TopExpensesCommand.isCommand(userCommandText)) {
+            return TopExpensesValidator.processCommand(userCommandText);
+        }
         if (DisplayTotalExpensesCommand.isCommand(userCommandText)){
             return DisplayTotalExpensesValidator.processCommand(userCommandText);
         }
@@ -126,18 +132,24 @@ public class Parser {
             return new EditExpenseCommand(userCommandText);
         }
         if (ListRemainingBudgetCommand.isCommand(userCommandText)) {
-            return new ListRemainingBudgetCommand();
+            return ListRemainingBudgetValidator.processCommand(userCommandText);
         }
         if (DisplaySavingsCommand.isCommand(userCommandText)){
             return DisplaySavingsValidator.processCommand(userCommandText);
         }
+        if (ExportCommand.isCommand(userCommandText)) {
+            return new ExportCommand();
+        }
+        if (ArchiveCommand.isCommand(userCommandText)) {
+            return new ArchiveCommand();
+        }
         return new IncorrectCommand("Invalid input");
     }
 
     /**
      * Parses a line of input from the file and categorizes it as an expense, income, or budget.
-     * Each line is split based on the delimiter " | ", and the resulting parts are used to create
-     * the appropriate object (Expense, Income, or Budget).
+     * Each line is split based on the delimiter " | " in a single pass by {@link LedgerLineCodec},
+     * and the resulting parts are used to create the appropriate object (Expense, Income, or Budget).
      *
      * @param input The line of text from the file to be parsed.
      * @param expenses The list of expenses to which new Expense objects will be added.
@@ -146,47 +158,6 @@ public class Parser {
      */
     public static void parseFile(String input, ArrayList<Expense> expenses, ArrayList<Income> incomes,
             ArrayList<Budget> budgets) {
-
-        String[] parts = input.split(" \\| ");
-        String type = parts[0]; // Determines if it's expense, income, or budget
-
-        switch (type.toLowerCase()) {
-        case "expense": {
-            String description = parts[1];
-            double amount = Double.parseDouble(parts[2]);
-            LocalDate date = LocalDate.parse(parts[3], DateTimeFormatter.ofPattern("d/M/yyyy"));
-            Category category = Category.valueOf(parts[4].toUpperCase()); // Ensure category exists for expense
-
-            expenses.add(new Expense(description, amount, date, category));
-            break;
-        }
-        case "income": {
-            String description = parts[1];
-            double amount = Double.parseDouble(parts[2]);
-            LocalDate date = LocalDate.parse(parts[3], DateTimeFormatter.ofPattern("d/M/yyyy"));
-
-            incomes.add(new Income(description, amount, date)); // No category needed for income
-            break;
-        }
-        case "budget": {
-            YearMonth budgetDate = YearMonth.parse(parts[2], DateTimeFormatter.ofPattern("yyyy-MM"));
-            // Adjust date format for YearMonth
-            String categoryPart = parts[3].trim();
-            categoryPart = categoryPart.substring(1, categoryPart.length() - 1);
-            Budget budget = new Budget(budgetDate);
-
-            String[] categories = categoryPart.split(", ");
-            for (String categoryEntry : categories) {
-                String[] categorySplit = categoryEntry.split("=");
-                Category category = Category.valueOf(categorySplit[0].toUpperCase());
-                double categoryAmount = Double.parseDouble(categorySplit[1]);
-                budget.addAmount(category, categoryAmount);
-            }
-            budgets.add(budget);
-            break;
-        }
-        default:
-            System.out.println("Unknown type in file: " + type);
-        }
+        LedgerLineCodec.decode(input, 0, input.length(), expenses, incomes, budgets);
     }
 }
@@ -1,22 +1,37 @@
 package seedu.budgetbuddy;
 
-import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.transaction.TransactionIds;
+import seedu.budgetbuddy.transaction.TransactionSlots;
 import seedu.budgetbuddy.transaction.budget.Budget;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
 import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.storage.BinaryLedgerFormat;
+import seedu.budgetbuddy.storage.ColdArchive;
+import seedu.budgetbuddy.storage.Journal;
+import seedu.budgetbuddy.storage.LedgerLineCodec;
+import seedu.budgetbuddy.storage.MappedLedger;
+import seedu.budgetbuddy.storage.MonthPartitions;
+import seedu.budgetbuddy.storage.ParallelTextLoader;
+import seedu.budgetbuddy.storage.PersistenceWriter;
+import seedu.budgetbuddy.storage.StorageFormat;
 import seedu.budgetbuddy.util.LoggerSetup;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.logging.Level;
@@ -26,30 +41,74 @@ import java.util.logging.Logger;
  * The Storage class is responsible for handling the reading and writing of data from
  * and to the disk. It manages the creation of files, loading data into the program,
  * and saving the state of the Expense, Income, and Budget transactions.
+ * Changes made between full snapshots are appended to a journal file next to the data file,
+ * which is compacted into a fresh snapshot once it grows too large. All writes are carried out
+ * by a background {@code PersistenceWriter}, so commands do not wait for the disk.
+ * In the partitioned format, the data is kept in a directory of month partitions instead,
+ * and only the partitions of the changed months are rewritten after each change.
+ * In the mapped format, the transactions are kept in memory-mapped files that are changed in place,
+ * so there is neither a journal nor a snapshot to rewrite.
+ * Otherwise, the transactions of closed years can be moved into a compressed {@code ColdArchive}
+ * next to the data file, so that snapshots no longer include them.
  */
 public class Storage {
     private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String ARCHIVE_SUFFIX = ".archive";
+    private static final String IDS_SUFFIX = ".ids";
+    private static final int MAX_JOURNAL_RECORDS = 1000;
+    private static final long MAX_JOURNAL_BYTES = 1024 * 1024;
     private String filePath;
+    private String journalPath;
+    private StorageFormat format;
+    private int journalGeneration = 1;
+    private int journalRecords = 0;
+    private long journalBytes = 0;
+    private long persistedVersion = 0;
+    private long persistedNextId = 0;
+    private PersistenceWriter writer;
+    private MonthPartitions partitions;
+    private MappedLedger mapped;
+    private ColdArchive archive;
+    private boolean isClosed = false;
+    private boolean isSnapshotWithoutIds = false;
 
     /**
      * Initializes the Storage object with the specified file path.
+     * The storage format is determined from the file extension.
      *
      * @param filepath The path to the file where data will be saved and loaded.
      */
     public Storage(String filepath) {
+        this(filepath, StorageFormat.fromPath(filepath));
+    }
+
+    /**
+     * Initializes the Storage object with the specified file path and storage format.
+     *
+     * @param filepath The path to the file where data will be saved and loaded.
+     * @param format The format in which the snapshot is stored.
+     */
+    public Storage(String filepath, StorageFormat format) {
         this.filePath = filepath;
-        LOGGER.log(Level.INFO, "Storing " + filepath);
+        this.journalPath = filepath + JOURNAL_SUFFIX;
+        this.format = format;
+        this.writer = new PersistenceWriter(filepath, journalPath);
+        LOGGER.log(Level.INFO, "Storing " + filepath + " in " + format + " format");
     }
 
     /**
      * Loads the data from the file located at the specified file path.
      * It parses the file contents and converts it into the respective Expense, Income,
-     * and Budget objects, storing them in lists.
+     * and Budget objects, storing them in lists. Any journal records written after the
+     * snapshot are then replayed on top of it. The ids of the loaded transactions, and the next id stored
+     * along with the data, are reserved, so that new transactions never take the id of a stored one.
      *
      * @return An ArrayList containing three ArrayLists for expenses, incomes, and budgets.
      * @throws FileNotFoundException If the file at the specified path does not exist.
+     * @throws IOException If a binary data file is malformed or cannot be read.
      */
-    public ArrayList<ArrayList<?>> load() throws FileNotFoundException {
+    public ArrayList<ArrayList<?>> load() throws IOException {
         File file = new File(filePath);
         if (!file.exists()) {
             LOGGER.warning("File does not exist: " + file.getAbsolutePath());
@@ -58,14 +117,76 @@ public class Storage {
         ArrayList<Expense> expenses = new ArrayList<>();
         ArrayList<Income> incomes = new ArrayList<>();
         ArrayList<Budget> budgets = new ArrayList<>();
-        Scanner sc = new Scanner(file);
+        loadNextId();
 
-        while (sc.hasNextLine()) {
-            String input = sc.nextLine();
-            LOGGER.fine("Parsing line: " + input);  // Log each line being parsed
-            Parser.parseFile(input, expenses, incomes, budgets);
+        if (format == StorageFormat.PARTITIONED) {
+            partitions = MonthPartitions.open(file.toPath(), expenses, incomes, budgets);
+            return toDataList(expenses, incomes, budgets);
         }
-        sc.close();
+        if (format == StorageFormat.MAPPED) {
+            mapped = MappedLedger.open(file.toPath(), budgets);
+            return toDataList(expenses, incomes, budgets);
+        }
+
+        int coveredGeneration;
+        ArrayList<String> archivedSegments = new ArrayList<>();
+        if (format == StorageFormat.BINARY) {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+                coveredGeneration = BinaryLedgerFormat.decode(in, expenses, incomes, budgets, archivedSegments);
+            }
+        } else {
+            coveredGeneration = ParallelTextLoader.load(file.toPath(), expenses, incomes, budgets,
+                    archivedSegments);
+        }
+        archive = ColdArchive.open(Path.of(filePath + ARCHIVE_SUFFIX), archivedSegments);
+        // Journal records name transactions by id, which a snapshot written before ids were stored does not hold
+        isSnapshotWithoutIds = persistedNextId == 0 && !(expenses.isEmpty() && incomes.isEmpty());
+
+        // A journal rotated out by an unfinished compaction is older than the active one
+        journalGeneration = coveredGeneration + 1;
+        TransactionSlots<Expense> expenseSlots = new TransactionSlots<>();
+        TransactionSlots<Income> incomeSlots = new TransactionSlots<>();
+        expenseSlots.setTransactions(expenses);
+        incomeSlots.setTransactions(incomes);
+        replayJournal(writer.getRotatedJournalPath(), coveredGeneration, expenseSlots, incomeSlots, budgets);
+        replayJournal(journalPath, coveredGeneration, expenseSlots, incomeSlots, budgets);
+        return toDataList(expenseSlots.getTransactions(), incomeSlots.getTransactions(), budgets);
+    }
+
+    /**
+     * Reserves the ids below the next id stored along with the data, which also covers the transactions
+     * that are only read on demand, such as those of partitions and archive segments.
+     */
+    private void loadNextId() throws IOException {
+        Path idsFile = Path.of(filePath + IDS_SUFFIX);
+        if (!Files.exists(idsFile)) {
+            return;
+        }
+        try {
+            persistedNextId = Long.parseLong(Files.readString(idsFile, Charset.defaultCharset()).trim());
+            TransactionIds.reserve(persistedNextId - 1);
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Ignoring malformed next transaction id in " + idsFile);
+        }
+    }
+
+    /**
+     * Hands the next transaction id to the background writer if it changed since it was last written.
+     * It is written ahead of files holding transactions that are not read when the data is loaded,
+     * so that their ids are reserved before any new transaction is created.
+     */
+    private void writeNextId() {
+        long nextId = TransactionIds.getNextId();
+        if (nextId == persistedNextId) {
+            return;
+        }
+        persistedNextId = nextId;
+        writer.writeFiles(Map.of(Path.of(filePath + IDS_SUFFIX),
+                String.valueOf(nextId).getBytes(Charset.defaultCharset())));
+    }
+
+    private static ArrayList<ArrayList<?>> toDataList(ArrayList<Expense> expenses, ArrayList<Income> incomes,
+            ArrayList<Budget> budgets) {
         ArrayList<ArrayList<?>> list = new ArrayList<>();
         list.add(expenses);
         list.add(incomes);
@@ -75,9 +196,177 @@ public class Storage {
         return list;
     }
 
+    /**
+     * Replays a journal file, if it exists and is not yet covered by the snapshot,
+     * on top of the lists loaded from the snapshot.
+     *
+     * @param path The path of the journal file.
+     * @param coveredGeneration The latest journal generation already contained in the snapshot.
+     * @param expenses The slots of the loaded expenses.
+     * @param incomes The slots of the loaded incomes.
+     * @param budgets The list of loaded budgets.
+     * @throws FileNotFoundException If the journal file disappears while it is being read.
+     */
+    private void replayJournal(String path, int coveredGeneration, TransactionSlots<Expense> expenses,
+            TransactionSlots<Income> incomes, ArrayList<Budget> budgets) throws FileNotFoundException {
+        File journal = new File(path);
+        if (!journal.exists()) {
+            return;
+        }
+        int records = 0;
+        int generation = coveredGeneration + 1;
+        Scanner sc = new Scanner(journal);
+        while (sc.hasNextLine()) {
+            String record = sc.nextLine();
+            if (record.startsWith(Journal.CHECKPOINT)) {
+                generation = Journal.parseCheckpoint(record);
+                if (generation <= coveredGeneration) {
+                    LOGGER.info("Skipping journal already covered by the snapshot: " + path);
+                    break;
+                }
+            } else if (!record.isBlank()) {
+                Journal.replay(record, expenses, incomes, budgets);
+                records++;
+            }
+        }
+        sc.close();
+        if (path.equals(journalPath)) {
+            journalGeneration = Math.max(journalGeneration, generation);
+            journalRecords = records;
+            journalBytes = journal.length();
+        }
+        LOGGER.info("Replayed " + records + " journal record(s) from " + path);
+    }
+
+    /**
+     * Hands the changes recorded since the last call to the background writer, which appends them
+     * to the journal file. Nothing is done when the mutation version of the ledger has not changed
+     * since the last call. Once the journal grows past its size or record threshold,
+     * a compaction is started in the background.
+     * In the partitioned format, the partitions of the changed months are rewritten instead,
+     * and in the mapped format the changed transactions are written in place into the mapped files.
+     * When archive segments were added or thawed, a fresh snapshot listing the remaining segments is written,
+     * and so is one after the first change to a snapshot that was written before the ids of transactions were.
+     *
+     * @throws IOException If an earlier background write to the journal or data file failed.
+     */
+    public void appendJournal() throws IOException {
+        writer.reportFailure();
+        if (archive != null && archive.isRestructured()) {
+            // New segments must exist before the snapshot that lists them, thawed ones are removed after it
+            writeNextId();
+            writer.writeFiles(archive.takeNewSegmentFiles());
+            Journal.clearPendingRecords();
+            persistedVersion = Journal.getVersion();
+            queueSnapshot();
+            writer.writeFiles(archive.takeThawedSegmentFiles());
+            return;
+        }
+        if (Journal.getVersion() == persistedVersion) {
+            return;
+        }
+        persistedVersion = Journal.getVersion();
+        if (partitions != null) {
+            writeNextId();
+            writer.writeFiles(partitions.encodeChanges(Journal.getChangedMonths(), Journal.isBudgetChanged()));
+            Journal.clearPendingRecords();
+            return;
+        }
+        if (mapped != null) {
+            writeMappedChanges();
+            return;
+        }
+        ArrayList<String> records = Journal.drainPendingRecords();
+        if (isSnapshotWithoutIds && !records.isEmpty()) {
+            // The records could not be replayed on the snapshot, so a snapshot holding the ids replaces them
+            writeNextId();
+            queueSnapshot();
+            return;
+        }
+        if (!records.isEmpty()) {
+            writer.appendRecords(records, journalGeneration);
+            journalRecords += records.size();
+            for (String record : records) {
+                journalBytes += record.length() + System.lineSeparator().length();
+            }
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Writes the changed transactions into the mapped files, and hands the budgets file to the background
+     * writer if a budget changed.
+     *
+     * @throws IOException If the mapped files cannot be grown to hold the new transactions.
+     */
+    private void writeMappedChanges() throws IOException {
+        if (Journal.isBudgetChanged()) {
+            writer.writeFiles(mapped.encodeBudgets());
+        }
+        try {
+            mapped.writeChanges(Journal.getChangedMonths());
+        } finally {
+            Journal.clearPendingRecords();
+        }
+    }
+
+    /**
+     * Starts a background compaction if the journal has grown past its size or record threshold.
+     */
+    public void compactIfNeeded() {
+        if (journalRecords >= MAX_JOURNAL_RECORDS || journalBytes >= MAX_JOURNAL_BYTES) {
+            compactInBackground();
+        }
+    }
+
+    /**
+     * Starts writing a fresh snapshot in the background, unless one is already pending.
+     * The ledger is captured on the calling thread so that later commands cannot change it midway,
+     * and new records go to a fresh journal generation.
+     */
+    public void compactInBackground() {
+        if (writer.isSnapshotPending()) {
+            return;
+        }
+        LOGGER.info("Compacting " + journalRecords + " journal record(s) in the background");
+        queueSnapshot();
+    }
+
+    /**
+     * Writes any remaining changes and waits for the background writer to finish.
+     * Called when the application exits. Calling it again has no effect.
+     */
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            appendJournal();
+            writer.flush();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to write the final changes", e);
+        }
+        if (mapped != null) {
+            mapped.force();
+        }
+        writer.close();
+    }
+
+    /**
+     * Waits for the background writer to write the changes already handed to it, and stops it.
+     * Used when the application is shut down abruptly, while a command may still be changing the ledger,
+     * so the ledger and the changes not yet handed over are left alone.
+     */
+    public void closeWriter() {
+        writer.close();
+    }
+
     /**
      * Saves the current state of the Expense, Income, and Budget data to the file.
-     * The file is overwritten with the latest data.
+     * The file is overwritten with the latest data and the journal, now covered by it, is cleared.
+     * In the mapped format, where the mapped files are the data itself, only the pending changes are written.
+     * This method waits until the snapshot has been written.
      *
      * @param expenseList The ExpenseManager containing the current list of expenses.
      * @param incomeList The IncomeManager containing the current list of incomes.
@@ -92,32 +381,110 @@ public class Storage {
         assert budgetList != null : "Budget list cannot be null";      // Assert that the budget list is not null
         LOGGER.info("Saving data to file: " + filePath);
 
-        FileWriter fw = new FileWriter(filePath, false); // Overwrites the file
+        if (mapped != null) {
+            // The mapped files are the data itself, so only the pending changes are written
+            persistedVersion = Journal.getVersion();
+            writeMappedChanges();
+            writer.flush();
+            mapped.force();
+            return;
+        }
+        Journal.clearPendingRecords();
+        persistedVersion = Journal.getVersion();
+        writeNextId();
+        if (partitions != null) {
+            writer.writeFiles(partitions.encodeAll());
+        } else {
+            queueSnapshot();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Captures the ledger as a snapshot covering the active journal generation,
+     * queues it for the background writer and starts a new journal generation.
+     */
+    private void queueSnapshot() {
+        int coveredGeneration = journalGeneration;
+        journalGeneration++;
+        journalRecords = 0;
+        journalBytes = 0;
+        isSnapshotWithoutIds = false;
+        writer.writeSnapshot(encodeSnapshot(coveredGeneration));
+    }
+
+    /**
+     * Exports the current Expense, Income, and Budget data as a human-readable text file,
+     * regardless of the format the data is stored in.
+     *
+     * @param exportPath The path of the text file to write.
+     * @throws IOException If an I/O error occurs while writing to the file.
+     */
+    public static void exportText(String exportPath) throws IOException {
+        StringBuilder text = new StringBuilder();
+        appendTextLines(text, ExpenseManager.getExpenses(), IncomeManager.getIncomes());
+        FileWriter fw = new FileWriter(exportPath, false);
+        fw.write(text.toString());
+        fw.close();
+        LOGGER.info("Exported data to text file: " + exportPath);
+    }
+
+    /**
+     * Encodes the current Expense, Income, and Budget data as a snapshot in the storage format.
+     * Archived transactions are left out, and the snapshot lists the segments holding them instead.
+     *
+     * @param coveredGeneration The latest journal generation contained in the snapshot.
+     * @return The bytes of the snapshot.
+     */
+    private byte[] encodeSnapshot(int coveredGeneration) {
+        List<Expense> expenses = (archive == null) ? ExpenseManager.getExpenses() : archive.getLiveExpenses();
+        List<Income> incomes = (archive == null) ? IncomeManager.getIncomes() : archive.getLiveIncomes();
+        List<String> archivedSegments = (archive == null) ? List.of() : archive.getSegmentNames();
+        if (format == StorageFormat.BINARY) {
+            return BinaryLedgerFormat.encode(expenses, incomes, BudgetManager.getBudgets(), coveredGeneration,
+                    archivedSegments);
+        }
+        StringBuilder text = new StringBuilder();
+        appendTextLines(text, expenses, incomes);
+        if (!archivedSegments.isEmpty()) {
+            text.append(ColdArchive.ARCHIVE).append(String.join(Journal.DELIMITER, archivedSegments))
+                    .append(System.lineSeparator());
+        }
+        text.append(Journal.CHECKPOINT).append(coveredGeneration).append(System.lineSeparator());
+        return text.toString().getBytes(Charset.defaultCharset());
+    }
+
+    /**
+     * Appends the lines of a text snapshot holding the given expenses and incomes, and the current budgets,
+     * to the given builder.
+     *
+     * @param text The builder to append to.
+     * @param expenses The expenses to convert.
+     * @param incomes The incomes to convert.
+     */
+    private static void appendTextLines(StringBuilder text, List<Expense> expenses, List<Income> incomes) {
+        String lineSeparator = System.lineSeparator();
 
         // Save expenses
-        for (Expense expense : ExpenseManager.getExpenses()) {
+        for (Expense expense : expenses) {
             if (expense != null) {
-                String line = getString(expense);
-                fw.write(line + System.lineSeparator());
+                LedgerLineCodec.appendExpense(text, expense).append(lineSeparator);
             }
         }
 
         // Save incomes
-        for (Income income : IncomeManager.getIncomes()) {
+        for (Income income : incomes) {
             if (income != null) {
-                String line = getString(income);
-                fw.write(line + System.lineSeparator());
+                LedgerLineCodec.appendIncome(text, income).append(lineSeparator);
             }
         }
 
         // Save budgets
         for (Budget budget : BudgetManager.getBudgets()) {
             if (budget != null) {
-                String line = getString(budget.getTotalMonthlyBudget(), budget.getDate(), budget.getCategoryBudgets());
-                fw.write(line + System.lineSeparator());
+                LedgerLineCodec.appendBudget(text, budget).append(lineSeparator);
             }
         }
-        fw.close();
     }
 
     /**
@@ -127,52 +494,40 @@ public class Storage {
      * @param transaction The transaction to be converted.
      * @return A string representation of the transaction.
      */
-    private String getString(Transaction transaction) {
+    public static String getString(Transaction transaction) {
         StringBuilder line = new StringBuilder();
 
         if (transaction instanceof Expense expense) {
-            line.append("expense | ")
-                    .append(expense.getDescription()).append(" | ")
-                    .append(expense.getAmount()).append(" | ")
-                    .append(expense.getDate().format(DateTimeFormatter.ofPattern("d/M/yyyy"))).append(" | ")
-                    .append(expense.getCategory());
+            LedgerLineCodec.appendExpense(line, expense);
         } else if (transaction instanceof Income income) {
-            line.append("income | ")
-                    .append(income.getDescription()).append(" | ")
-                    .append(income.getAmount()).append(" | ")
-                    .append(income.getDate().format(DateTimeFormatter.ofPattern("d/M/yyyy")));
+            LedgerLineCodec.appendIncome(line, income);
         }
 
         return line.toString();
     }
 
     /**
-     * Converts the total monthly budget, date, and category-specific budgets into a formatted string
-     * representation for saving to a file.
+     * Converts a Budget object into a string representation for saving to the file.
      *
-     * @param totalBudget The total budget for the month.
-     * @param date The date in the format YYYY-MM representing the budget month.
-     * @param categoryBudgets A map containing category names as keys and their respective budget amounts as values.
-     * @return A formatted string representing the total budget, date, and category-specific budgets.
+     * @param budget The budget to be converted.
+     * @return A string representation of the budget.
      */
-    private String getString(double totalBudget, YearMonth date, Map<Category, Double> categoryBudgets) {
-        StringBuilder line = new StringBuilder();
-        line.append("budget | ");
-        line.append(totalBudget).append(" | ");
-        line.append(date.format(DateTimeFormatter.ofPattern("yyyy-MM"))).append(" | ");
-        line.append(categoryBudgets.toString());
-        return line.toString();
+    public static String getString(Budget budget) {
+        return LedgerLineCodec.appendBudget(new StringBuilder(), budget).toString();
     }
 
     /**
      * Creates a new file at the specified path if it does not already exist.
      * If the file's parent directories do not exist, they will be created.
+     * In the partitioned and mapped formats, a directory is created instead.
      *
      * @throws IOException If an error occurs while creating the file.
      */
     public void createFileIfNotExists() throws IOException {
         File file = new File(filePath);
-        if (!file.exists()) {
+        if (format == StorageFormat.PARTITIONED || format == StorageFormat.MAPPED) {
+            file.mkdirs();
+        } else if (!file.exists()) {
             File parentDir = file.getParentFile();
             if (parentDir != null && !parentDir.exists()) {
                 parentDir.mkdirs();
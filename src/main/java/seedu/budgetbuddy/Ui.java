@@ -130,7 +130,18 @@ public class Ui {
                 "Example:\nlist budget m/05/2024\n" +
                 "9. list budget for the 12 most recent entries. \n" +
                 "Example:\nlist budget\n" +
-                "10. Exit app. \n" +
+                "10. List expenses between two dates. Note: from - from/dd/MM/yyyy, to - to/dd/MM/yyyy\n" +
+                "Example:\nlist expenses from/01/10/2024 to/15/10/2024\n" +
+                "11. Show one page of a list. Note(optional): page - --page P, rows per page - --limit N\n" +
+                "Example:\nlist expenses --page 2 --limit 20\n" +
+                "12. Show the largest expenses. Note: count - k/N, category (optional) - c/, "
+                + "month (optional) - m/MM/yyyy\n" +
+                "Example:\ntop expenses k/5 c/food m/10/2024\n" +
+                "13. Archive every closed year into compressed segments. \n" +
+                "Example:\narchive\n" +
+                "14. Export all transactions to a text file. \n" +
+                "Example:\nexport text\n" +
+                "15. Exit app. \n" +
                 "Example:\nbye\n";
         displayToUser(message);
     }
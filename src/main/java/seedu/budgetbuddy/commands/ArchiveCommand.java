@@ -0,0 +1,39 @@
+package seedu.budgetbuddy.commands;
+
+import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.storage.ColdArchive;
+
+/**
+ * Represents a command to move the expenses and incomes of closed years into the compressed archive,
+ * so that they are no longer rewritten whenever the data file is saved.
+ */
+public class ArchiveCommand extends Command {
+
+    /**
+     * Checks if the given command string matches the archive command.
+     *
+     * @param command The command string entered by the user.
+     * @return true if the command is "archive", false otherwise.
+     */
+    public static boolean isCommand(String command) {
+        return command.equals("archive");
+    }
+
+    /**
+     * Executes the archive command by archiving every closed year.
+     */
+    @Override
+    public void execute() {
+        Ui.displayToUser(ColdArchive.archiveClosedYears());
+    }
+
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+}
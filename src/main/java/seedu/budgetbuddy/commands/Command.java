@@ -16,4 +16,15 @@ public class Command {
     public void execute() {
         Ui.displayToUser("to be implemented by child classes");
     }
+
+    /**
+     * Returns whether executing this command can change the stored expenses, incomes or budgets.
+     * Read-only commands keep the default, so that nothing is persisted after they run.
+     * Child classes that change the data should override this method to return true.
+     *
+     * @return true if the command can change the stored data, false otherwise.
+     */
+    public boolean isMutating() {
+        return false;
+    }
 }
@@ -0,0 +1,42 @@
+package seedu.budgetbuddy.commands;
+
+import seedu.budgetbuddy.Storage;
+import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command to export all expenses, incomes and budgets as a human-readable text file.
+ * This is useful when the data is stored in the binary format.
+ */
+public class ExportCommand extends Command {
+    public static final String EXPORT_PATH = "./data/BudgetBuddy-export.txt";
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+
+    /**
+     * Checks if the given command string matches the export command.
+     *
+     * @param command The command string entered by the user.
+     * @return true if the command is "export text", false otherwise.
+     */
+    public static boolean isCommand(String command) {
+        return command.equals("export text");
+    }
+
+    /**
+     * Executes the export command by writing the text export file.
+     */
+    @Override
+    public void execute() {
+        try {
+            Storage.exportText(EXPORT_PATH);
+            Ui.displayToUser("Your data has been exported to " + EXPORT_PATH);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to export data", e);
+            Ui.displayToUser("Error exporting File");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.budgetbuddy.commands.budget;
 
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.storage.Journal;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.budget.Budget;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
@@ -60,14 +61,26 @@ public class AddBudgetCommand extends Command {
 
         if (existingBudget != null) {
             existingBudget.addAmount(category, amount);
+            Journal.recordBudget(existingBudget);
             Ui.displayBudgetTransactionMessage(existingBudget.toString(), BudgetManager.getNumberOfBudgets());
             LOGGER.info("Updated existing budget for date: " + date + " with amount: " + amount);
         } else {
             Budget budget = new Budget(date);
             BudgetManager.addBudget(budget);
             budget.addAmount(category, amount);
+            Journal.recordBudget(budget);
             Ui.displayBudgetTransactionMessage(budget.toString(), BudgetManager.getNumberOfBudgets());
             LOGGER.info("Added new budget for date: " + date + " with amount: " + amount);
         }
     }
+
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
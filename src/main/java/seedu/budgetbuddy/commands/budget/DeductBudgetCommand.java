@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.commands.budget;
 
 import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.storage.Journal;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.budget.Budget;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
@@ -53,6 +54,21 @@ public class DeductBudgetCommand extends Command {
         // Assume validation has guaranteed that existingBudget is not null
         Budget existingBudget = BudgetManager.getBudget(date);
         existingBudget.deductAmount(category, amount);
+        if (BudgetManager.getBudget(date) == null) {
+            Journal.recordBudgetDeleted(date);
+        } else {
+            Journal.recordBudget(existingBudget);
+        }
         LOGGER.info("Deducted " + amount + " from budget for date: " + date);
     }
+
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.budgetbuddy.commands.budget;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.budget.BudgetManager;
 
@@ -11,6 +12,8 @@ import java.time.YearMonth;
  */
 public class ListBudgetCommand extends Command {
     private YearMonth date;
+    private int page;
+    private int limit;
 
     /**
      * Constructs a ListBudgetCommand with an optional YearMonth.
@@ -18,7 +21,20 @@ public class ListBudgetCommand extends Command {
      * @param date The YearMonth for which budgets should be listed, or null for all budgets.
      */
     public ListBudgetCommand(YearMonth date) {
+        this(date, 0, 0);
+    }
+
+    /**
+     * Constructs a ListBudgetCommand with an optional YearMonth, limited to one page of budgets.
+     *
+     * @param date The YearMonth for which budgets should be listed, or null for all budgets.
+     * @param page The number of the page, or 0 for the first page.
+     * @param limit The number of budgets on a page, or 0 for the default.
+     */
+    public ListBudgetCommand(YearMonth date, int page, int limit) {
         this.date = date;
+        this.page = page;
+        this.limit = limit;
     }
     /**
      * Checks if the provided command matches the command to list budget.
@@ -35,6 +51,6 @@ public class ListBudgetCommand extends Command {
      */
     @Override
     public void execute() {
-        BudgetManager.listBudgets(date); // List all budgets
+        BudgetManager.listBudgets(date, Listing.toUser(page, limit)); // List all budgets
     }
 }
@@ -1,5 +1,6 @@
 package seedu.budgetbuddy.commands.budget;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.budget.RemainingBudgetManager;
 
@@ -8,6 +9,26 @@ import seedu.budgetbuddy.transaction.budget.RemainingBudgetManager;
  * This command retrieves and displays the current budgets for the user.
  */
 public class ListRemainingBudgetCommand extends Command {
+    private final int page;
+    private final int limit;
+
+    /**
+     * Constructs a ListRemainingBudgetCommand that lists every remaining budget.
+     */
+    public ListRemainingBudgetCommand() {
+        this(0, 0);
+    }
+
+    /**
+     * Constructs a ListRemainingBudgetCommand that lists one page of remaining budgets.
+     *
+     * @param page The number of the page, or 0 for the first page.
+     * @param limit The number of remaining budgets on a page, or 0 for the default.
+     */
+    public ListRemainingBudgetCommand(int page, int limit) {
+        this.page = page;
+        this.limit = limit;
+    }
     /**
      * Checks if the provided command matches the command to list budget.
      *
@@ -23,6 +44,6 @@ public class ListRemainingBudgetCommand extends Command {
      */
     @Override
     public void execute() {
-        new RemainingBudgetManager().listRemainingBudgets();
+        new RemainingBudgetManager().listRemainingBudgets(Listing.toUser(page, limit));
     }
 }
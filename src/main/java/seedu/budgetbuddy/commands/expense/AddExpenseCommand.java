@@ -51,6 +51,16 @@ public class AddExpenseCommand extends Command {
         ExpenseManager.addExpense(new Expense(description, amount, date, category));
     }
 
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     public String getDescription() {
         return description;
     }
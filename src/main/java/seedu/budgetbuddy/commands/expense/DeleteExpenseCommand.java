@@ -37,4 +37,14 @@ public class DeleteExpenseCommand extends Command {
     public void execute(){
         ExpenseManager.deleteExpense(index);
     }
+
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
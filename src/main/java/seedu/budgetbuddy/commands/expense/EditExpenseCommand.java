@@ -3,6 +3,8 @@ package seedu.budgetbuddy.commands.expense;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+import seedu.budgetbuddy.storage.ColdArchive;
+import seedu.budgetbuddy.storage.Journal;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
@@ -138,6 +140,9 @@ public class EditExpenseCommand extends Command {
      * For any field that is not left empty by user, it will update the Expense object.
      */
     public void processEdit(){
+        LocalDate previousDate = expense.getDate();
+        long previousAmountInCents = expense.getAmountInCents();
+        Category previousCategory = expense.getCategory();
         if(category != EMPTY_CATEGORY) {
             expense.editCategory(category);
         }
@@ -147,7 +152,22 @@ public class EditExpenseCommand extends Command {
         if(amount != EMPTY_AMOUNT) {
             expense.editAmount(amount);
         }
+        int index = ExpenseManager.findPosition(expense);
+        if (index >= 0) {
+            ExpenseManager.reindexExpense(expense, previousDate, previousAmountInCents, previousCategory);
+            ColdArchive.thawIfArchivedExpense(index);
+            Journal.recordEdit(expense, previousDate);
+        }
         Ui.displayToUser("Edited Expense:\n" + expense.toString());
     }
 
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
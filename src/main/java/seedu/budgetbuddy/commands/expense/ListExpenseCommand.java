@@ -1,11 +1,12 @@
 package seedu.budgetbuddy.commands.expense;
 
-import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -19,6 +20,10 @@ public class ListExpenseCommand extends Command {
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private Category category;
     private YearMonth month;
+    private LocalDate from;
+    private LocalDate to;
+    private int page = 0;
+    private int limit = 0;
 
     /**
      * Constructs a ListExpenseCommand with no specified date or category
@@ -59,6 +64,20 @@ public class ListExpenseCommand extends Command {
         this.month = null;
     }
 
+    /**
+     * Constructs a ListExpenseCommand for the expenses dated between two dates, with an optional category field
+     *
+     * @param from The first date of the range.
+     * @param to The last date of the range, inclusive.
+     * @param category The category, or null for every category.
+     */
+    public ListExpenseCommand(LocalDate from, LocalDate to, Category category) {
+        this.category = category;
+        this.month = null;
+        this.from = from;
+        this.to = to;
+    }
+
     /**
      * Checks if the provided command matches the command to list expenses.
      *
@@ -77,23 +96,46 @@ public class ListExpenseCommand extends Command {
         return month;
     }
 
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Limits the listing to one page of expenses.
+     *
+     * @param page The number of the page, or 0 for the first page.
+     * @param limit The number of expenses on a page, or 0 for the default.
+     */
+    public void setPage(int page, int limit) {
+        this.page = page;
+        this.limit = limit;
+    }
+
     /**
      * Executes the command to list all expenses by invoking the ExpenseManager's method.
      */
     @Override
     public void execute() {
-        if (category == null && month == null) {
+        Listing listing = Listing.toUser(page, limit);
+        if (from != null) {
+            LOGGER.info("Displaying expenses listed from " + from + " to " + to + " with Category: " + category);
+            ExpenseManager.listExpensesBetween(from, to, category, listing);
+        } else if (category == null && month == null) {
             LOGGER.log(Level.INFO, "Displaying expenses listed with no Filter");
-            ExpenseManager.listExpenses();
+            ExpenseManager.listExpenses(listing);
         } else if (category == null){
             LOGGER.info("Displaying expenses listed in the Month: " + month);
-            Ui.displayToUser(ExpenseManager.listExpensesWithDate(month));
+            ExpenseManager.listExpensesWithDate(month, listing);
         } else if (month == null) {
             LOGGER.info("Displaying expenses listed with Category: " + category);
-            Ui.displayToUser(ExpenseManager.listExpensesWithCategory(category));
+            ExpenseManager.listExpensesWithCategory(category, listing);
         } else {
             LOGGER.info("Displaying expenses listed with Category: " + category + " and Month: " + month);
-            Ui.displayToUser(ExpenseManager.listExpensesWithCategoryAndDate(category,month));
+            ExpenseManager.listExpensesWithCategoryAndDate(category, month, listing);
         }
     }
 }
@@ -1,11 +1,25 @@
 package seedu.budgetbuddy.commands.expense;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 
 public class SearchExpenseCommand extends Command {
+    /**
+     * Represents how the keyword is matched against the descriptions of the expenses.
+     */
+    public enum MatchType {
+        /** The description contains the whole keyword. */
+        PHRASE,
+        /** The description holds every word of the keyword. */
+        ALL_WORDS,
+        /** The description holds at least one word of the keyword. */
+        ANY_WORD
+    }
+
     private String keyword;
+    private MatchType matchType = MatchType.PHRASE;
 
     /**
      * Constructs SearchExpenseCommand object with empty string as keyword
@@ -22,6 +36,17 @@ public class SearchExpenseCommand extends Command {
         this.keyword = keyword;
     }
 
+    /**
+     * Constructs SearchExpenseCommand object with keyword set as specified keyword,
+     * matched against the descriptions in the given way.
+     * @param keyword
+     * @param matchType How the keyword is matched.
+     */
+    public SearchExpenseCommand(String keyword, MatchType matchType){
+        this.keyword = keyword;
+        this.matchType = matchType;
+    }
+
     /**
      * Processes user input to check if search command is called by user.
      * @param command user input
@@ -37,12 +62,18 @@ public class SearchExpenseCommand extends Command {
     public void execute(){
         if (getKeyword().equals("")){
             Ui.searchEmptyMessage();
+        } else if (matchType == MatchType.PHRASE){
+            ExpenseManager.searchExpenses(getKeyword(), Listing.toUser());
         } else{
-            Ui.displayToUser(ExpenseManager.searchExpenses(getKeyword()));
+            ExpenseManager.searchExpensesByKeywords(getKeyword(), matchType == MatchType.ALL_WORDS, Listing.toUser());
         }
     }
 
     public String getKeyword(){
         return keyword;
     }
+
+    public MatchType getMatchType(){
+        return matchType;
+    }
 }
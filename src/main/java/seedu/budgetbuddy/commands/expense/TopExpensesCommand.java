@@ -0,0 +1,66 @@
+package seedu.budgetbuddy.commands.expense;
+
+import seedu.budgetbuddy.Listing;
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.time.YearMonth;
+import java.util.logging.Logger;
+
+/**
+ * Represents a command that lists the largest expenses, optionally of one category or one month.
+ */
+public class TopExpensesCommand extends Command {
+
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private final int count;
+    private final Category category;
+    private final YearMonth month;
+
+    /**
+     * Constructs a TopExpensesCommand for the given number of expenses.
+     *
+     * @param count The number of expenses to list.
+     * @param category The category of the expenses, or null for every category.
+     * @param month The month of the expenses, or null for every month.
+     */
+    public TopExpensesCommand(int count, Category category, YearMonth month) {
+        this.count = count;
+        this.category = category;
+        this.month = month;
+    }
+
+    /**
+     * Checks if the provided command matches the command to list the largest expenses.
+     *
+     * @param command The command to be checked.
+     * @return True if the command starts with "top expenses", false otherwise.
+     */
+    public static boolean isCommand(String command) {
+        return command.startsWith("top expenses");
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Executes the command to list the largest expenses by invoking the ExpenseManager's method.
+     */
+    @Override
+    public void execute() {
+        LOGGER.info("Displaying the " + count + " largest expenses with Category: " + category
+                + " and Month: " + month);
+        ExpenseManager.listTopExpenses(count, category, month, Listing.toUser());
+    }
+}
@@ -46,4 +46,14 @@ public class AddIncomeCommand extends Command {
     public void execute() {
         IncomeManager.addIncome(new Income(description, amount, date));
     }
+
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
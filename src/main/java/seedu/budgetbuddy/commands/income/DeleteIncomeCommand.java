@@ -37,4 +37,14 @@ public class DeleteIncomeCommand extends Command {
     public void execute(){
         IncomeManager.deleteIncome(index);
     }
+
+    /**
+     * Returns true, as this command changes the stored data.
+     *
+     * @return true.
+     */
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
@@ -6,10 +6,13 @@ import seedu.budgetbuddy.transaction.income.IncomeSpent;
 import java.time.YearMonth;
 
 /**
- * Represents a command to display the percentage of income spent for a specified month.
+ * Represents a command to display the percentage of income spent for a specified month,
+ * or for every month of a range.
  */
 public class DisplayIncomeSpentCommand extends Command {
     private YearMonth month;
+    private YearMonth from;
+    private YearMonth to;
 
     /**
      * Constructs a DisplayIncomeSpentCommand with the specified month.
@@ -20,6 +23,17 @@ public class DisplayIncomeSpentCommand extends Command {
         this.month = month;
     }
 
+    /**
+     * Constructs a DisplayIncomeSpentCommand for every month of the specified range.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    public DisplayIncomeSpentCommand(YearMonth from, YearMonth to) {
+        this.from = from;
+        this.to = to;
+    }
+
     /**
      * Checks if the given command is a display income spent command.
      *
@@ -31,10 +45,14 @@ public class DisplayIncomeSpentCommand extends Command {
     }
 
     /**
-     * Executes the command to display the percentage of income spent for the specified month.
+     * Executes the command to display the percentage of income spent for the specified month or range.
      */
     @Override
     public void execute() {
+        if (month == null) {
+            IncomeSpent.displaySpentPercentages(from, to);
+            return;
+        }
         IncomeSpent.displaySpentPercentage(month);
     }
 }
@@ -1,5 +1,6 @@
 package seedu.budgetbuddy.commands.income;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 
@@ -8,15 +9,35 @@ import seedu.budgetbuddy.transaction.income.IncomeManager;
  * This command retrieves and displays the current incomes for the user.
  */
 public class ListIncomeCommand extends Command {
+    private final int page;
+    private final int limit;
+
+    /**
+     * Constructs a ListIncomeCommand that lists every income.
+     */
+    public ListIncomeCommand() {
+        this(0, 0);
+    }
+
+    /**
+     * Constructs a ListIncomeCommand that lists one page of incomes.
+     *
+     * @param page The number of the page, or 0 for the first page.
+     * @param limit The number of incomes on a page, or 0 for the default.
+     */
+    public ListIncomeCommand(int page, int limit) {
+        this.page = page;
+        this.limit = limit;
+    }
 
     /**
      * Checks if the provided command matches the command to list incomes.
      *
      * @param command The command to be checked.
-     * @return True if the command matches "list incomes", false otherwise.
+     * @return True if the command matches "list incomes", with or without options, false otherwise.
      */
     public static boolean isCommand(String command) {
-        return command.equals("list incomes");
+        return command.equals("list incomes") || command.startsWith("list incomes ");
     }
 
     /**
@@ -24,6 +45,6 @@ public class ListIncomeCommand extends Command {
      */
     @Override
     public void execute() {
-        IncomeManager.listIncomes();
+        IncomeManager.listIncomes(Listing.toUser(page, limit));
     }
 }
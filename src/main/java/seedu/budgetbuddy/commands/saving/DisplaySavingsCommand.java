@@ -4,11 +4,15 @@ import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.transaction.saving.SavingsManager;
 
+import java.time.YearMonth;
+
 /**
  * Represents a command that displays the savings of the user.
  */
 public class DisplaySavingsCommand extends Command{
     private boolean byMonth;
+    private YearMonth from;
+    private YearMonth to;
 
     /**
      * Constructs a new DisplaySavingsCommand object.
@@ -18,6 +22,17 @@ public class DisplaySavingsCommand extends Command{
         this.byMonth = byMonth;
     }
 
+    /**
+     * Constructs a new DisplaySavingsCommand object for the savings of a range of months.
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    public DisplaySavingsCommand(YearMonth from, YearMonth to) {
+        this.byMonth = true;
+        this.from = from;
+        this.to = to;
+    }
+
     /**
      * Checks if the user command matches the display savings command.
      * @param command Command by user.
@@ -28,10 +43,12 @@ public class DisplaySavingsCommand extends Command{
     }
 
     /**
-     * Executes command to display savings to user, either by month or in total.
+     * Executes command to display savings to user, either by month, over a range of months or in total.
      */
     public void execute(){
-        if (byMonth){
+        if (from != null){
+            Ui.displayToUser(SavingsManager.displaySavingsInRange(from, to));
+        } else if (byMonth){
             Ui.displayToUser(SavingsManager.displayTotalSavingsByMonth());
         } else{
             Ui.displayToUser(SavingsManager.displayTotalSavings());
@@ -3,6 +3,7 @@ package seedu.budgetbuddy.graphs;
 import org.knowm.xchart.SwingWrapper;
 import org.knowm.xchart.XYChart;
 import org.knowm.xchart.XYChartBuilder;
+import seedu.budgetbuddy.transaction.Money;
 import seedu.budgetbuddy.transaction.expense.Expense;
 
 import javax.swing.JFrame;
@@ -25,15 +26,16 @@ public class ExpensesOverMonthGraph {
      * @return A map where the keys are YearMonth objects and the values are total expenses for that month.
      */
     public static Map<YearMonth, Double> monthMapBuilder(ArrayList<Expense> expenses) {
-        Map<YearMonth, Double> monthlyExpenseMap = new HashMap<>();
+        Map<YearMonth, Long> monthlyCentsMap = new HashMap<>();
 
         for (Expense expense : expenses) {
             YearMonth month = YearMonth.from(expense.getDate()); // Correctly get YearMonth
-            double amount = expense.getAmount();
 
-            // Accumulate the expense amounts for each month
-            monthlyExpenseMap.put(month, monthlyExpenseMap.getOrDefault(month, 0.0) + amount);
+            // Accumulate the expense amounts for each month, in cents so that the totals are exact
+            monthlyCentsMap.merge(month, expense.getAmountInCents(), Long::sum);
         }
+        Map<YearMonth, Double> monthlyExpenseMap = new HashMap<>();
+        monthlyCentsMap.forEach((month, cents) -> monthlyExpenseMap.put(month, Money.toAmount(cents)));
         return monthlyExpenseMap;
     }
 
@@ -0,0 +1,216 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Money;
+import seedu.budgetbuddy.transaction.TransactionIds;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Encodes and decodes the ledger snapshot in a versioned binary format.
+ * <p>
+ * The file starts with a header holding a magic number, the format version, the number of
+ * expenses, incomes and budgets, and the journal generation covered by the snapshot.
+ * Since version 2, it is followed by the names of the archive segments the snapshot relies on,
+ * and since version 3 every transaction starts with its id as an 8-byte long.
+ * Since version 4, amounts are stored as 8-byte longs in cents, and before as 8-byte doubles.
+ * Dates are stored as epoch days, months as epoch months,
+ * categories as their ordinals and descriptions as length-prefixed UTF-8.
+ * </p>
+ */
+public class BinaryLedgerFormat {
+    public static final int MAGIC = 0x42424C47; // "BBLG"
+    public static final short VERSION = 4;
+
+    /**
+     * Encodes the ledger into the bytes of a binary snapshot.
+     *
+     * @param expenses The expenses to encode.
+     * @param incomes The incomes to encode.
+     * @param budgets The budgets to encode.
+     * @param coveredGeneration The latest journal generation contained in the snapshot.
+     * @return The encoded snapshot.
+     */
+    public static byte[] encode(List<Expense> expenses, List<Income> incomes, List<Budget> budgets,
+            int coveredGeneration) {
+        return encode(expenses, incomes, budgets, coveredGeneration, List.of());
+    }
+
+    /**
+     * Encodes the ledger into the bytes of a binary snapshot that relies on the given archive segments.
+     *
+     * @param expenses The expenses to encode.
+     * @param incomes The incomes to encode.
+     * @param budgets The budgets to encode.
+     * @param coveredGeneration The latest journal generation contained in the snapshot.
+     * @param archivedSegments The names of the archive segments holding the other transactions.
+     * @return The encoded snapshot.
+     */
+    public static byte[] encode(List<Expense> expenses, List<Income> incomes, List<Budget> budgets,
+            int coveredGeneration, List<String> archivedSegments) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(expenses.size());
+            out.writeInt(incomes.size());
+            out.writeInt(budgets.size());
+            out.writeInt(coveredGeneration);
+            out.writeInt(archivedSegments.size());
+            for (String segment : archivedSegments) {
+                writeString(out, segment);
+            }
+            for (Expense expense : expenses) {
+                out.writeLong(expense.getId());
+                writeString(out, expense.getDescription());
+                out.writeLong(expense.getAmountInCents());
+                out.writeInt((int) expense.getDate().toEpochDay());
+                out.writeByte(expense.getCategory().ordinal());
+            }
+            for (Income income : incomes) {
+                out.writeLong(income.getId());
+                writeString(out, income.getDescription());
+                out.writeLong(income.getAmountInCents());
+                out.writeInt((int) income.getDate().toEpochDay());
+            }
+            for (Budget budget : budgets) {
+                out.writeInt(toEpochMonth(budget.getDate()));
+                Set<Category> budgetedCategories = budget.getCategoryBudgets().keySet();
+                out.writeByte(budgetedCategories.size());
+                for (Category category : budgetedCategories) {
+                    out.writeByte(category.ordinal());
+                    out.writeLong(budget.getCategoryBudgetInCents(category));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory cannot fail", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a binary snapshot into the given lists. An empty stream is treated as an empty ledger.
+     *
+     * @param input The stream to read the snapshot from.
+     * @param expenses The list to add the decoded expenses to.
+     * @param incomes The list to add the decoded incomes to.
+     * @param budgets The list to add the decoded budgets to.
+     * @return The latest journal generation contained in the snapshot.
+     * @throws IOException If the snapshot is truncated, malformed, or of an unsupported version.
+     */
+    public static int decode(InputStream input, ArrayList<Expense> expenses, ArrayList<Income> incomes,
+            ArrayList<Budget> budgets) throws IOException {
+        return decode(input, expenses, incomes, budgets, new ArrayList<>());
+    }
+
+    /**
+     * Decodes a binary snapshot into the given lists, including the archive segments it relies on.
+     * Snapshots of version 1 rely on no segments, and the transactions of snapshots before version 3
+     * are given new ids.
+     *
+     * @param input The stream to read the snapshot from.
+     * @param expenses The list to add the decoded expenses to.
+     * @param incomes The list to add the decoded incomes to.
+     * @param budgets The list to add the decoded budgets to.
+     * @param archivedSegments The list to add the names of the archive segments to.
+     * @return The latest journal generation contained in the snapshot.
+     * @throws IOException If the snapshot is truncated, malformed, or of an unsupported version.
+     */
+    public static int decode(InputStream input, ArrayList<Expense> expenses, ArrayList<Income> incomes,
+            ArrayList<Budget> budgets, List<String> archivedSegments) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        int magic;
+        try {
+            magic = in.readInt();
+        } catch (EOFException e) {
+            return 0; // A newly created data file is empty
+        }
+        if (magic != MAGIC) {
+            throw new IOException("Not a BudgetBuddy binary data file");
+        }
+        short version = in.readShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported binary data file version: " + version);
+        }
+        int numberOfExpenses = in.readInt();
+        int numberOfIncomes = in.readInt();
+        int numberOfBudgets = in.readInt();
+        int coveredGeneration = in.readInt();
+        if (version >= 2) {
+            int numberOfSegments = in.readInt();
+            for (int i = 0; i < numberOfSegments; i++) {
+                archivedSegments.add(readString(in));
+            }
+        }
+        Category[] categories = Category.values();
+
+        expenses.ensureCapacity(expenses.size() + numberOfExpenses);
+        for (int i = 0; i < numberOfExpenses; i++) {
+            long id = (version >= 3) ? in.readLong() : TransactionIds.next();
+            String description = readString(in);
+            double amount = readAmount(in, version);
+            LocalDate date = LocalDate.ofEpochDay(in.readInt());
+            Category category = categories[in.readUnsignedByte()];
+            expenses.add(new Expense(id, description, amount, date, category));
+        }
+        incomes.ensureCapacity(incomes.size() + numberOfIncomes);
+        for (int i = 0; i < numberOfIncomes; i++) {
+            long id = (version >= 3) ? in.readLong() : TransactionIds.next();
+            String description = readString(in);
+            double amount = readAmount(in, version);
+            LocalDate date = LocalDate.ofEpochDay(in.readInt());
+            incomes.add(new Income(id, description, amount, date));
+        }
+        for (int i = 0; i < numberOfBudgets; i++) {
+            Budget budget = new Budget(fromEpochMonth(in.readInt()));
+            int numberOfCategories = in.readUnsignedByte();
+            for (int j = 0; j < numberOfCategories; j++) {
+                Category category = categories[in.readUnsignedByte()];
+                budget.addAmount(category, readAmount(in, version));
+            }
+            budgets.add(budget);
+        }
+        return coveredGeneration;
+    }
+
+    /**
+     * Reads an amount, stored in cents since version 4 and as a double before.
+     */
+    private static double readAmount(DataInputStream in, short version) throws IOException {
+        return (version >= 4) ? Money.toAmount(in.readLong()) : in.readDouble();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static int toEpochMonth(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private static YearMonth fromEpochMonth(int epochMonth) {
+        return YearMonth.of(Math.floorDiv(epochMonth, 12), Math.floorMod(epochMonth, 12) + 1);
+    }
+}
@@ -0,0 +1,526 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.Parser;
+import seedu.budgetbuddy.Storage;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the transactions of closed years in immutable, compressed segment files,
+ * so that they are no longer rewritten with every snapshot.
+ * <p>
+ * Each segment holds the expenses and incomes of one year as GZIP-compressed text lines, next to an
+ * uncompressed summary of its totals per month and category. The snapshot lists the segments it relies on,
+ * and archived transactions always come before the others in their lists, so that positions are the same
+ * whether or not the segments are loaded. A segment is only decompressed when a command needs its transactions;
+ * aggregate queries are answered from the summaries instead. Changing or removing an archived transaction
+ * thaws the archive, which moves every archived transaction back into the snapshot.
+ * </p>
+ */
+public class ColdArchive implements OnDemandLoader.Source {
+    public static final String ARCHIVE = "archive" + Journal.DELIMITER;
+    private static final String SEGMENT_SUFFIX = ".gz";
+    private static final String SUMMARY_SUFFIX = ".summary";
+    private static final String COUNT = "count";
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static ColdArchive active = null;
+
+    private final Path directory;
+    private final ArrayList<Segment> segments = new ArrayList<>();
+    private final LinkedHashMap<Path, byte[]> newSegmentFiles = new LinkedHashMap<>();
+    private final LinkedHashMap<Path, byte[]> thawedSegmentFiles = new LinkedHashMap<>();
+    private boolean isRestructured = false;
+    private int nextSequence = 1;
+
+    private ColdArchive(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens the archive in the given directory with the segments listed by the snapshot, reading only
+     * their summaries. Segment files that the snapshot does not list were left behind by an interrupted
+     * archive or thaw, and are removed.
+     *
+     * @param directory The directory holding the segments.
+     * @param segmentNames The names of the segments listed by the snapshot, in order.
+     * @return The opened archive.
+     * @throws IOException If the summary of a listed segment cannot be read.
+     */
+    public static ColdArchive open(Path directory, List<String> segmentNames) throws IOException {
+        ColdArchive archive = new ColdArchive(directory);
+        for (String name : segmentNames) {
+            archive.segments.add(archive.readSegmentSummary(name));
+            archive.nextSequence = Math.max(archive.nextSequence, getSequence(name) + 1);
+        }
+        archive.removeUnlistedFiles(segmentNames);
+        if (active != null) {
+            OnDemandLoader.unregister(active);
+        }
+        active = archive;
+        OnDemandLoader.register(archive);
+        LOGGER.info("Opened archive with " + segmentNames.size() + " segment(s)");
+        return archive;
+    }
+
+    /**
+     * Freezes the expenses and incomes of every year before the current one that are not archived yet
+     * into new segments. They are moved in front of the other transactions, after those already archived.
+     *
+     * @return A message describing what was archived, to be shown to the user.
+     */
+    public static String archiveClosedYears() {
+        if (active == null) {
+            return "Archiving is only available when your data is stored in the text or binary format.";
+        }
+        return active.archiveBefore(Year.now().getValue());
+    }
+
+    /**
+     * Thaws the archive if the expense at the given position is archived, as it is about to be changed or removed.
+     *
+     * @param index The zero-based position of the expense.
+     */
+    public static void thawIfArchivedExpense(int index) {
+        if (active != null && index < active.getArchivedExpenseCount()) {
+            active.thaw();
+        }
+    }
+
+    /**
+     * Thaws the archive if the income at the given position is archived, as it is about to be changed or removed.
+     *
+     * @param index The zero-based position of the income.
+     */
+    public static void thawIfArchivedIncome(int index) {
+        if (active != null && index < active.getArchivedIncomeCount()) {
+            active.thaw();
+        }
+    }
+
+    /**
+     * Retrieves the names of the segments, in the order their transactions come in the lists.
+     *
+     * @return The names of the segments.
+     */
+    public List<String> getSegmentNames() {
+        List<String> names = new ArrayList<>();
+        for (Segment segment : segments) {
+            names.add(segment.name);
+        }
+        return names;
+    }
+
+    /**
+     * Returns the number of archived expenses, whether or not they are loaded.
+     *
+     * @return The number of archived expenses.
+     */
+    public int getArchivedExpenseCount() {
+        int total = 0;
+        for (Segment segment : segments) {
+            total += segment.numberOfExpenses;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of archived incomes, whether or not they are loaded.
+     *
+     * @return The number of archived incomes.
+     */
+    public int getArchivedIncomeCount() {
+        int total = 0;
+        for (Segment segment : segments) {
+            total += segment.numberOfIncomes;
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the expenses in memory that are not archived, which are the ones the snapshot holds.
+     *
+     * @return The expenses that are not archived, in order.
+     */
+    public List<Expense> getLiveExpenses() {
+        ArrayList<Expense> expenses = ExpenseManager.getLoadedExpenses();
+        int archived = 0;
+        for (Segment segment : segments) {
+            archived += segment.isLoaded ? segment.numberOfExpenses : 0;
+        }
+        return expenses.subList(archived, expenses.size());
+    }
+
+    /**
+     * Retrieves the incomes in memory that are not archived, which are the ones the snapshot holds.
+     *
+     * @return The incomes that are not archived, in order.
+     */
+    public List<Income> getLiveIncomes() {
+        ArrayList<Income> incomes = IncomeManager.getLoadedIncomes();
+        int archived = 0;
+        for (Segment segment : segments) {
+            archived += segment.isLoaded ? segment.numberOfIncomes : 0;
+        }
+        return incomes.subList(archived, incomes.size());
+    }
+
+    /**
+     * Returns whether segments were added or thawed since the changes were last taken,
+     * which requires a fresh snapshot that lists the current segments.
+     *
+     * @return true if the archive was restructured, false otherwise.
+     */
+    public boolean isRestructured() {
+        return isRestructured;
+    }
+
+    /**
+     * Returns the files of new segments, which have to be written before the snapshot that lists them.
+     *
+     * @return The paths of the files mapped to their content.
+     */
+    public Map<Path, byte[]> takeNewSegmentFiles() {
+        Map<Path, byte[]> files = new LinkedHashMap<>(newSegmentFiles);
+        newSegmentFiles.clear();
+        return files;
+    }
+
+    /**
+     * Returns the files of thawed segments, which have to be deleted after the snapshot that no longer lists them.
+     * The archive is no longer restructured once these are taken.
+     *
+     * @return The paths of the files mapped to null.
+     */
+    public Map<Path, byte[]> takeThawedSegmentFiles() {
+        Map<Path, byte[]> files = new LinkedHashMap<>(thawedSegmentFiles);
+        thawedSegmentFiles.clear();
+        isRestructured = false;
+        return files;
+    }
+
+    /**
+     * Decompresses the segments of the years in the given range that are not loaded yet.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    @Override
+    public void load(YearMonth from, YearMonth to) {
+        int expensePosition = 0;
+        int incomePosition = 0;
+        for (Segment segment : segments) {
+            if (!segment.isLoaded && segment.year >= from.getYear() && segment.year <= to.getYear()) {
+                loadSegment(segment, expensePosition, incomePosition);
+            }
+            if (segment.isLoaded) {
+                expensePosition += segment.numberOfExpenses;
+                incomePosition += segment.numberOfIncomes;
+            }
+        }
+    }
+
+    /**
+     * Adds the summaries of the segments that are not loaded to the summary, without decompressing them.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @param summary The summary to add to.
+     */
+    @Override
+    public void summarize(YearMonth from, YearMonth to, LedgerSummary summary) {
+        for (Segment segment : segments) {
+            if (!segment.isLoaded) {
+                summary.addAll(segment.summary, from, to);
+            }
+        }
+    }
+
+    /**
+     * Decompresses the segment holding the expense at the given position, if it is archived and not loaded yet.
+     *
+     * @param index The zero-based position of the expense once every segment is loaded.
+     * @return The zero-based position of the expense among those in memory.
+     */
+    @Override
+    public int loadExpense(int index) {
+        return loadSegmentHolding(index, true);
+    }
+
+    /**
+     * Decompresses the segment holding the income at the given position, if it is archived and not loaded yet.
+     *
+     * @param index The zero-based position of the income once every segment is loaded.
+     * @return The zero-based position of the income among those in memory.
+     */
+    @Override
+    public int loadIncome(int index) {
+        return loadSegmentHolding(index, false);
+    }
+
+    /**
+     * Returns the number of expenses in the segments that are not loaded.
+     *
+     * @return The number of unloaded expenses.
+     */
+    @Override
+    public int countUnloadedExpenses() {
+        int total = 0;
+        for (Segment segment : segments) {
+            total += segment.isLoaded ? 0 : segment.numberOfExpenses;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of incomes in the segments that are not loaded.
+     *
+     * @return The number of unloaded incomes.
+     */
+    @Override
+    public int countUnloadedIncomes() {
+        int total = 0;
+        for (Segment segment : segments) {
+            total += segment.isLoaded ? 0 : segment.numberOfIncomes;
+        }
+        return total;
+    }
+
+    private String archiveBefore(int firstOpenYear) {
+        OnDemandLoader.ensureAllLoaded();
+        ArrayList<Expense> expenses = ExpenseManager.getLoadedExpenses();
+        ArrayList<Income> incomes = IncomeManager.getLoadedIncomes();
+        int archivedExpenses = getArchivedExpenseCount();
+        int archivedIncomes = getArchivedIncomeCount();
+
+        TreeMap<Integer, ArrayList<Expense>> closedExpenses = new TreeMap<>();
+        ArrayList<Expense> openExpenses = new ArrayList<>();
+        for (Expense expense : expenses.subList(archivedExpenses, expenses.size())) {
+            int year = expense.getDate().getYear();
+            if (year < firstOpenYear) {
+                closedExpenses.computeIfAbsent(year, key -> new ArrayList<>()).add(expense);
+            } else {
+                openExpenses.add(expense);
+            }
+        }
+        TreeMap<Integer, ArrayList<Income>> closedIncomes = new TreeMap<>();
+        ArrayList<Income> openIncomes = new ArrayList<>();
+        for (Income income : incomes.subList(archivedIncomes, incomes.size())) {
+            int year = income.getDate().getYear();
+            if (year < firstOpenYear) {
+                closedIncomes.computeIfAbsent(year, key -> new ArrayList<>()).add(income);
+            } else {
+                openIncomes.add(income);
+            }
+        }
+        TreeSet<Integer> closedYears = new TreeSet<>(closedExpenses.keySet());
+        closedYears.addAll(closedIncomes.keySet());
+        if (closedYears.isEmpty()) {
+            return "There are no transactions from closed years left to archive.";
+        }
+
+        ArrayList<Expense> reorderedExpenses = new ArrayList<>(expenses.subList(0, archivedExpenses));
+        ArrayList<Income> reorderedIncomes = new ArrayList<>(incomes.subList(0, archivedIncomes));
+        int numberOfExpenses = 0;
+        int numberOfIncomes = 0;
+        for (int year : closedYears) {
+            List<Expense> yearExpenses = closedExpenses.getOrDefault(year, new ArrayList<>());
+            List<Income> yearIncomes = closedIncomes.getOrDefault(year, new ArrayList<>());
+            reorderedExpenses.addAll(yearExpenses);
+            reorderedIncomes.addAll(yearIncomes);
+            numberOfExpenses += yearExpenses.size();
+            numberOfIncomes += yearIncomes.size();
+            addSegment(year, yearExpenses, yearIncomes);
+        }
+        reorderedExpenses.addAll(openExpenses);
+        reorderedIncomes.addAll(openIncomes);
+        ExpenseManager.reorderLoadedExpenses(reorderedExpenses);
+        IncomeManager.reorderLoadedIncomes(reorderedIncomes);
+        isRestructured = true;
+        LOGGER.info("Archived " + numberOfExpenses + " expense(s) and " + numberOfIncomes + " income(s)");
+        return "Archived " + numberOfExpenses + " expense(s) and " + numberOfIncomes + " income(s) from "
+                + closedYears + ".\nArchived transactions are now listed before the others.";
+    }
+
+    private void addSegment(int year, List<Expense> expenses, List<Income> incomes) {
+        Segment segment = new Segment(year + "-" + nextSequence++, year, expenses.size(), incomes.size(),
+                LedgerSummary.of(expenses, incomes));
+        segment.isLoaded = true;
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(compressed), StandardCharsets.UTF_8)) {
+            for (Expense expense : expenses) {
+                out.write(Storage.getString(expense) + System.lineSeparator());
+            }
+            for (Income income : incomes) {
+                out.write(Storage.getString(income) + System.lineSeparator());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Writing to memory cannot fail", e);
+        }
+        StringBuilder summary = new StringBuilder();
+        summary.append(COUNT).append(Journal.DELIMITER).append(expenses.size())
+                .append(Journal.DELIMITER).append(incomes.size()).append(System.lineSeparator());
+        for (String line : segment.summary.encode()) {
+            summary.append(line).append(System.lineSeparator());
+        }
+        newSegmentFiles.put(getSegmentPath(segment.name), compressed.toByteArray());
+        newSegmentFiles.put(getSummaryPath(segment.name), summary.toString().getBytes(StandardCharsets.UTF_8));
+        segments.add(segment);
+    }
+
+    private void thaw() {
+        OnDemandLoader.ensureAllLoaded();
+        for (Segment segment : segments) {
+            thawedSegmentFiles.put(getSegmentPath(segment.name), null);
+            thawedSegmentFiles.put(getSummaryPath(segment.name), null);
+        }
+        LOGGER.info("Thawing " + segments.size() + " archive segment(s)");
+        segments.clear();
+        isRestructured = true;
+    }
+
+    /**
+     * Loads the segment holding the given position of the expenses or incomes, which come before every
+     * transaction that is not archived, and counts the transactions of the segments before it that stay unloaded.
+     */
+    private int loadSegmentHolding(int index, boolean isExpense) {
+        int position = 0;
+        int expensePosition = 0;
+        int incomePosition = 0;
+        int unloadedBefore = 0;
+        for (Segment segment : segments) {
+            int count = isExpense ? segment.numberOfExpenses : segment.numberOfIncomes;
+            if (index < position + count) {
+                if (!segment.isLoaded) {
+                    loadSegment(segment, expensePosition, incomePosition);
+                }
+                break;
+            }
+            position += count;
+            if (segment.isLoaded) {
+                expensePosition += segment.numberOfExpenses;
+                incomePosition += segment.numberOfIncomes;
+            } else {
+                unloadedBefore += count;
+            }
+        }
+        return index - unloadedBefore;
+    }
+
+    private void loadSegment(Segment segment, int expensePosition, int incomePosition) {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(getSegmentPath(segment.name))), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    Parser.parseFile(line, expenses, incomes, new ArrayList<>());
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to load archive segment " + segment.name, e);
+            return;
+        }
+        ExpenseManager.insertLoadedExpenses(expensePosition, expenses);
+        IncomeManager.insertLoadedIncomes(incomePosition, incomes);
+        segment.isLoaded = true;
+        LOGGER.info("Decompressed archive segment " + segment.name);
+    }
+
+    private Segment readSegmentSummary(String name) throws IOException {
+        List<String> lines = Files.readAllLines(getSummaryPath(name), StandardCharsets.UTF_8);
+        try {
+            String[] counts = lines.get(0).split(" \\| ");
+            if (!counts[0].equals(COUNT)) {
+                throw new IOException("Malformed archive summary: " + name);
+            }
+            int year = Integer.parseInt(name.substring(0, name.indexOf('-')));
+            return new Segment(name, year, Integer.parseInt(counts[1]), Integer.parseInt(counts[2]),
+                    LedgerSummary.decode(lines.subList(1, lines.size())));
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed archive summary: " + name, e);
+        }
+    }
+
+    private void removeUnlistedFiles(List<String> segmentNames) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> unlisted = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                String segmentName = name.substring(0, Math.max(name.lastIndexOf('.'), 0));
+                if (!segmentNames.contains(segmentName)) {
+                    unlisted.add(file);
+                }
+            });
+        }
+        for (Path file : unlisted) {
+            LOGGER.info("Removing archive file not listed by the snapshot: " + file);
+            Files.delete(file);
+        }
+    }
+
+    private static int getSequence(String name) {
+        try {
+            return Integer.parseInt(name.substring(name.indexOf('-') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private Path getSegmentPath(String name) {
+        return directory.resolve(name + SEGMENT_SUFFIX);
+    }
+
+    private Path getSummaryPath(String name) {
+        return directory.resolve(name + SUMMARY_SUFFIX);
+    }
+
+    /**
+     * Represents one compressed segment holding the transactions of one year.
+     */
+    private static class Segment {
+        private final String name;
+        private final int year;
+        private final int numberOfExpenses;
+        private final int numberOfIncomes;
+        private final LedgerSummary summary;
+        private boolean isLoaded = false;
+
+        Segment(String name, int year, int numberOfExpenses, int numberOfIncomes, LedgerSummary summary) {
+            this.name = name;
+            this.year = year;
+            this.numberOfExpenses = numberOfExpenses;
+            this.numberOfIncomes = numberOfIncomes;
+            this.summary = summary;
+        }
+    }
+}
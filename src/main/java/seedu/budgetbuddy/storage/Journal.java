@@ -0,0 +1,266 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.Parser;
+import seedu.budgetbuddy.Storage;
+import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.transaction.TransactionSlots;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+/**
+ * Collects the changes made to the ledger as compact journal records.
+ * Each mutating command records exactly what it changed, so that {@code Storage} only has to
+ * append the new records to the journal file instead of rewriting every transaction.
+ * The records are replayed on top of the last full snapshot when the data is loaded.
+ * Deletions and edits name the transaction by its id rather than by its position, so that replaying them
+ * finds it through the id map of {@link TransactionSlots} instead of depending on the order of the lists.
+ * The months whose transactions changed are tracked as well, for storage that is partitioned by month.
+ */
+public class Journal {
+    public static final String DELIMITER = " | ";
+    public static final String CHECKPOINT = "checkpoint" + DELIMITER;
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String ADD = "add";
+    private static final String EDIT = "edit";
+    private static final String PUT = "put";
+    private static final String DELETE = "delete";
+    private static final ArrayList<String> pendingRecords = new ArrayList<>();
+    private static final TreeSet<YearMonth> changedMonths = new TreeSet<>();
+    private static boolean isBudgetChanged = false;
+    private static long version = 0;
+
+    /**
+     * Records that a new expense or income has been added to the end of its list.
+     *
+     * @param transaction The expense or income that was added.
+     */
+    public static void recordAdd(Transaction transaction) {
+        assert transaction != null : "Transaction to be journaled cannot be null";
+        version++;
+        pendingRecords.add(ADD + DELIMITER + Storage.getString(transaction));
+        changedMonths.add(getMonth(transaction));
+    }
+
+    /**
+     * Records that an expense or income has been removed.
+     *
+     * @param transaction The expense or income that was removed.
+     */
+    public static void recordDelete(Transaction transaction) {
+        assert transaction != null : "Transaction to be journaled cannot be null";
+        version++;
+        String type = (transaction instanceof Expense) ? "expense" : "income";
+        pendingRecords.add(DELETE + DELIMITER + type + DELIMITER + transaction.getId());
+        changedMonths.add(getMonth(transaction));
+    }
+
+    /**
+     * Records the new state of an edited expense.
+     *
+     * @param expense The expense after the edit.
+     * @param previousDate The date of the expense before the edit.
+     */
+    public static void recordEdit(Expense expense, LocalDate previousDate) {
+        assert expense != null : "Expense to be journaled cannot be null";
+        version++;
+        pendingRecords.add(EDIT + DELIMITER + expense.getId() + DELIMITER + Storage.getString(expense));
+        changedMonths.add(YearMonth.from(previousDate));
+        changedMonths.add(YearMonth.from(expense.getDate()));
+    }
+
+    /**
+     * Records the new state of a budget after an amount was added to or deducted from it.
+     *
+     * @param budget The budget after the change.
+     */
+    public static void recordBudget(Budget budget) {
+        assert budget != null : "Budget to be journaled cannot be null";
+        version++;
+        pendingRecords.add(PUT + DELIMITER + Storage.getString(budget));
+        isBudgetChanged = true;
+    }
+
+    /**
+     * Records that the budget of the given month has been removed.
+     *
+     * @param date The month of the removed budget.
+     */
+    public static void recordBudgetDeleted(YearMonth date) {
+        version++;
+        pendingRecords.add(DELETE + DELIMITER + "budget" + DELIMITER
+                + date.format(LedgerLineCodec.MONTH_FORMAT));
+        isBudgetChanged = true;
+    }
+
+    /**
+     * Returns the mutation version of the ledger, which grows by one with every recorded change.
+     *
+     * @return The current mutation version.
+     */
+    public static long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the records collected since the last call and clears them.
+     *
+     * @return The pending journal records in the order they were made.
+     */
+    public static ArrayList<String> drainPendingRecords() {
+        ArrayList<String> records = new ArrayList<>(pendingRecords);
+        clearPendingRecords();
+        return records;
+    }
+
+    /**
+     * Discards every pending record, used once the records are covered by a full snapshot.
+     */
+    public static void clearPendingRecords() {
+        pendingRecords.clear();
+        changedMonths.clear();
+        isBudgetChanged = false;
+    }
+
+    /**
+     * Returns the months whose expenses or incomes changed since the pending records were last cleared.
+     *
+     * @return The changed months, in chronological order.
+     */
+    public static TreeSet<YearMonth> getChangedMonths() {
+        return new TreeSet<>(changedMonths);
+    }
+
+    /**
+     * Returns whether a budget changed since the pending records were last cleared.
+     *
+     * @return true if a budget was added, changed or removed, false otherwise.
+     */
+    public static boolean isBudgetChanged() {
+        return isBudgetChanged;
+    }
+
+    /**
+     * Applies one journal record to the transactions loaded from the snapshot.
+     * Deleted and edited transactions are found from their id, and a deleted one leaves a tombstone
+     * in its slot until the slots are compacted.
+     *
+     * @param record The journal record to replay.
+     * @param expenses The slots of the loaded expenses.
+     * @param incomes The slots of the loaded incomes.
+     * @param budgets The list of loaded budgets.
+     */
+    public static void replay(String record, TransactionSlots<Expense> expenses, TransactionSlots<Income> incomes,
+            ArrayList<Budget> budgets) {
+        String[] parts = record.split(" \\| ", 3);
+        try {
+            switch (parts[0]) {
+            case ADD:
+                replayAdd(parts[1] + DELIMITER + parts[2], expenses, incomes, budgets);
+                break;
+            case EDIT:
+                replayEdit(Long.parseLong(parts[1]), parts[2], expenses);
+                break;
+            case PUT:
+                replayPutBudget(parts[1] + DELIMITER + parts[2], budgets);
+                break;
+            case DELETE:
+                replayDelete(parts[1], parts[2], expenses, incomes, budgets);
+                break;
+            default:
+                LOGGER.warning("Unknown journal record: " + record);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warning("Skipping malformed journal record: " + record);
+        }
+    }
+
+    /**
+     * Reads the journal generation from a checkpoint line.
+     * Snapshots end with the generation of the latest journal they contain,
+     * and every journal starts with its own generation.
+     *
+     * @param line The checkpoint line.
+     * @return The journal generation, or 0 if the line is malformed.
+     */
+    public static int parseCheckpoint(String line) {
+        try {
+            return Integer.parseInt(line.substring(CHECKPOINT.length()).trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Malformed checkpoint line: " + line);
+            return 0;
+        }
+    }
+
+    private static YearMonth getMonth(Transaction transaction) {
+        if (transaction instanceof Expense expense) {
+            return YearMonth.from(expense.getDate());
+        }
+        return YearMonth.from(((Income) transaction).getDate());
+    }
+
+    private static void replayAdd(String line, TransactionSlots<Expense> expenses, TransactionSlots<Income> incomes,
+            ArrayList<Budget> budgets) {
+        ArrayList<Expense> addedExpenses = new ArrayList<>();
+        ArrayList<Income> addedIncomes = new ArrayList<>();
+        Parser.parseFile(line, addedExpenses, addedIncomes, budgets);
+        addedExpenses.forEach(expenses::add);
+        addedIncomes.forEach(incomes::add);
+    }
+
+    private static void replayEdit(long id, String line, TransactionSlots<Expense> expenses) {
+        ArrayList<Expense> edited = new ArrayList<>();
+        Parser.parseFile(line, edited, new ArrayList<>(), new ArrayList<>());
+        expenses.replaceSlot(findSlot(expenses, id), edited.get(0));
+    }
+
+    private static void replayPutBudget(String line, ArrayList<Budget> budgets) {
+        ArrayList<Budget> parsed = new ArrayList<>();
+        Parser.parseFile(line, new ArrayList<>(), new ArrayList<>(), parsed);
+        Budget budget = parsed.get(0);
+        for (int i = 0; i < budgets.size(); i++) {
+            if (budgets.get(i).getDate().equals(budget.getDate())) {
+                budgets.set(i, budget);
+                return;
+            }
+        }
+        budgets.add(budget);
+    }
+
+    private static void replayDelete(String type, String key, TransactionSlots<Expense> expenses,
+            TransactionSlots<Income> incomes, ArrayList<Budget> budgets) {
+        switch (type) {
+        case "expense":
+            expenses.removeSlot(findSlot(expenses, Long.parseLong(key)));
+            break;
+        case "income":
+            incomes.removeSlot(findSlot(incomes, Long.parseLong(key)));
+            break;
+        case "budget":
+            YearMonth date = YearMonth.parse(key, LedgerLineCodec.MONTH_FORMAT);
+            budgets.removeIf(budget -> budget.getDate().equals(date));
+            break;
+        default:
+            LOGGER.warning("Unknown journal record type: " + type);
+        }
+    }
+
+    /**
+     * Finds the slot of the transaction with the given id, which is archived or was never stored
+     * when it is not among the loaded ones.
+     */
+    private static int findSlot(TransactionSlots<?> transactions, long id) {
+        int slot = transactions.findSlotById(id);
+        if (slot < 0) {
+            throw new IllegalArgumentException("No loaded transaction with id " + id);
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,368 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Money;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+
+/**
+ * Reads and writes the lines of the text data file in a single pass over their characters.
+ * <p>
+ * A line holds fields separated by " | ". Amounts, dates and months are parsed directly from the
+ * characters of their field, and only unusual values, such as amounts in scientific notation or
+ * dates with a padded year, fall back to {@link Double#parseDouble(String)} and the cached formatters.
+ * The lines written are those of the original format with the id of the transaction as a last field,
+ * so old files keep loading, and transactions read from lines without an id are given a new one.
+ * </p>
+ */
+public class LedgerLineCodec {
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d/M/yyyy");
+    public static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String DELIMITER = " | ";
+    private static final Category[] CATEGORIES = Category.values();
+    /** Largest integer below which every long converts to a double exactly. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Parses a line of the data file and adds the expense, income or budget it holds to the given lists.
+     * Lines of an unknown type are reported and ignored.
+     *
+     * @param text The text holding the line.
+     * @param start The index of the first character of the line.
+     * @param end The index after the last character of the line.
+     * @param expenses The list to add a parsed expense to.
+     * @param incomes The list to add a parsed income to.
+     * @param budgets The list to add a parsed budget to.
+     * @throws RuntimeException If the line is malformed.
+     */
+    public static void decode(String text, int start, int end, ArrayList<Expense> expenses,
+            ArrayList<Income> incomes, ArrayList<Budget> budgets) {
+        int typeEnd = fieldEnd(text, start, end);
+        if (isType(text, start, typeEnd, "expense")) {
+            int descriptionStart = nextField(text, typeEnd, end);
+            int descriptionEnd = fieldEnd(text, descriptionStart, end);
+            int amountStart = nextField(text, descriptionEnd, end);
+            int amountEnd = fieldEnd(text, amountStart, end);
+            int dateStart = nextField(text, amountEnd, end);
+            int dateEnd = fieldEnd(text, dateStart, end);
+            int categoryStart = nextField(text, dateEnd, end);
+            int categoryEnd = fieldEnd(text, categoryStart, end);
+            String description = text.substring(descriptionStart, descriptionEnd);
+            double amount = parseAmount(text, amountStart, amountEnd);
+            LocalDate date = parseDate(text, dateStart, dateEnd);
+            Category category = parseCategory(text, categoryStart, categoryEnd);
+            expenses.add((categoryEnd < end)
+                    ? new Expense(parseId(text, nextField(text, categoryEnd, end), end), description, amount, date,
+                            category)
+                    : new Expense(description, amount, date, category));
+        } else if (isType(text, start, typeEnd, "income")) {
+            int descriptionStart = nextField(text, typeEnd, end);
+            int descriptionEnd = fieldEnd(text, descriptionStart, end);
+            int amountStart = nextField(text, descriptionEnd, end);
+            int amountEnd = fieldEnd(text, amountStart, end);
+            int dateStart = nextField(text, amountEnd, end);
+            int dateEnd = fieldEnd(text, dateStart, end);
+            String description = text.substring(descriptionStart, descriptionEnd);
+            double amount = parseAmount(text, amountStart, amountEnd);
+            LocalDate date = parseDate(text, dateStart, dateEnd);
+            incomes.add((dateEnd < end)
+                    ? new Income(parseId(text, nextField(text, dateEnd, end), end), description, amount, date)
+                    : new Income(description, amount, date));
+        } else if (isType(text, start, typeEnd, "budget")) {
+            // The second field holds the total, which is recomputed from the categories
+            int totalEnd = fieldEnd(text, nextField(text, typeEnd, end), end);
+            int monthStart = nextField(text, totalEnd, end);
+            int monthEnd = fieldEnd(text, monthStart, end);
+            int categoriesStart = nextField(text, monthEnd, end);
+            int categoriesEnd = fieldEnd(text, categoriesStart, end);
+            Budget budget = new Budget(parseMonth(text, monthStart, monthEnd));
+            parseCategoryBudgets(text, categoriesStart, categoriesEnd, budget);
+            budgets.add(budget);
+        } else {
+            System.out.println("Unknown type in file: " + text.substring(start, typeEnd));
+        }
+    }
+
+    /**
+     * Appends the line representing an expense to the given builder.
+     *
+     * @param line The builder to append to.
+     * @param expense The expense to write.
+     * @return The builder.
+     */
+    public static StringBuilder appendExpense(StringBuilder line, Expense expense) {
+        line.append("expense").append(DELIMITER)
+                .append(expense.getDescription()).append(DELIMITER)
+                .append(expense.getAmount()).append(DELIMITER);
+        appendDate(line, expense.getDate()).append(DELIMITER)
+                .append(expense.getCategory().name()).append(DELIMITER)
+                .append(expense.getId());
+        return line;
+    }
+
+    /**
+     * Appends the line representing an income to the given builder.
+     *
+     * @param line The builder to append to.
+     * @param income The income to write.
+     * @return The builder.
+     */
+    public static StringBuilder appendIncome(StringBuilder line, Income income) {
+        line.append("income").append(DELIMITER)
+                .append(income.getDescription()).append(DELIMITER)
+                .append(income.getAmount()).append(DELIMITER);
+        return appendDate(line, income.getDate()).append(DELIMITER).append(income.getId());
+    }
+
+    /**
+     * Appends the line representing a budget to the given builder.
+     * The categories are written in their order, as {@link Budget#getCategoryBudgets()} lists them.
+     *
+     * @param line The builder to append to.
+     * @param budget The budget to write.
+     * @return The builder.
+     */
+    public static StringBuilder appendBudget(StringBuilder line, Budget budget) {
+        line.append("budget").append(DELIMITER)
+                .append(budget.getTotalMonthlyBudget()).append(DELIMITER);
+        appendMonth(line, budget.getDate()).append(DELIMITER).append('{');
+        boolean isFirst = true;
+        for (Category category : Category.values()) {
+            if (!budget.hasCategoryBudget(category)) {
+                continue;
+            }
+            if (!isFirst) {
+                line.append(", ");
+            }
+            line.append(category.name()).append('=').append(Money.format(budget.getCategoryBudgetInCents(category)));
+            isFirst = false;
+        }
+        return line.append('}');
+    }
+
+    /**
+     * Appends a date in the d/M/yyyy format to the given builder.
+     *
+     * @param line The builder to append to.
+     * @param date The date to write.
+     * @return The builder.
+     */
+    public static StringBuilder appendDate(StringBuilder line, LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            return line.append(date.format(DATE_FORMAT));
+        }
+        return line.append(date.getDayOfMonth()).append('/').append(date.getMonthValue()).append('/').append(year);
+    }
+
+    /**
+     * Appends a month in the yyyy-MM format to the given builder.
+     *
+     * @param line The builder to append to.
+     * @param month The month to write.
+     * @return The builder.
+     */
+    public static StringBuilder appendMonth(StringBuilder line, YearMonth month) {
+        int year = month.getYear();
+        if (year < 1000 || year > 9999) {
+            return line.append(month.format(MONTH_FORMAT));
+        }
+        line.append(year).append('-');
+        if (month.getMonthValue() < 10) {
+            line.append('0');
+        }
+        return line.append(month.getMonthValue());
+    }
+
+    /**
+     * Parses an amount from a range of characters, with the same result as {@link Double#parseDouble(String)}.
+     * Plain decimals with up to 15 significant digits are converted by a single exact division,
+     * which rounds correctly; anything else is handed to {@code Double.parseDouble}.
+     *
+     * @param text The text holding the amount.
+     * @param start The index of the first character of the amount.
+     * @param end The index after the last character of the amount.
+     * @return The amount.
+     * @throws NumberFormatException If the characters are not a number.
+     */
+    public static double parseAmount(String text, int start, int end) {
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean isFraction = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == 18) {
+                    return Double.parseDouble(text.substring(start, end));
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (isFraction) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !isFraction) {
+                isFraction = true;
+            } else {
+                return Double.parseDouble(text.substring(start, end));
+            }
+        }
+        if (digits == 0 || mantissa >= MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(text.substring(start, end));
+        }
+        return mantissa / POWERS_OF_TEN[fractionDigits];
+    }
+
+    /**
+     * Parses a date in the d/M/yyyy format from a range of characters,
+     * with the same result as parsing it with {@link #DATE_FORMAT}.
+     *
+     * @param text The text holding the date.
+     * @param start The index of the first character of the date.
+     * @param end The index after the last character of the date.
+     * @return The date.
+     * @throws java.time.format.DateTimeParseException If the characters are not a date.
+     */
+    public static LocalDate parseDate(String text, int start, int end) {
+        int daySlash = text.indexOf('/', start);
+        int monthSlash = (daySlash < 0) ? -1 : text.indexOf('/', daySlash + 1);
+        if (monthSlash > 0 && monthSlash < end) {
+            int day = parseDigits(text, start, daySlash, 2);
+            int month = parseDigits(text, daySlash + 1, monthSlash, 2);
+            int year = (end - monthSlash - 1 == 4) ? parseDigits(text, monthSlash + 1, end, 4) : -1;
+            if (day > 0 && month > 0 && month <= 12 && year > 0
+                    && day <= Month.of(month).length(Year.isLeap(year))) {
+                return LocalDate.of(year, month, day);
+            }
+        }
+        // Unusual dates are left to the formatter, which also resolves days past the end of the month
+        return LocalDate.parse(text.substring(start, end), DATE_FORMAT);
+    }
+
+    /**
+     * Parses a month in the yyyy-MM format from a range of characters,
+     * with the same result as parsing it with {@link #MONTH_FORMAT}.
+     *
+     * @param text The text holding the month.
+     * @param start The index of the first character of the month.
+     * @param end The index after the last character of the month.
+     * @return The month.
+     * @throws java.time.format.DateTimeParseException If the characters are not a month.
+     */
+    public static YearMonth parseMonth(String text, int start, int end) {
+        if (end - start == 7 && text.charAt(start + 4) == '-') {
+            int year = parseDigits(text, start, start + 4, 4);
+            int month = parseDigits(text, start + 5, end, 2);
+            if (year > 0 && month > 0 && month <= 12) {
+                return YearMonth.of(year, month);
+            }
+        }
+        return YearMonth.parse(text.substring(start, end), MONTH_FORMAT);
+    }
+
+    private static Category parseCategory(String text, int start, int end) {
+        for (Category category : CATEGORIES) {
+            String name = category.name();
+            if (name.length() == end - start && text.startsWith(name, start)) {
+                return category;
+            }
+        }
+        // Names in another case are matched the way the original format did
+        return Category.valueOf(text.substring(start, end).toUpperCase());
+    }
+
+    /**
+     * Parses the id of a transaction, which is the last field of its line.
+     */
+    private static long parseId(String text, int start, int end) {
+        long id = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9' || i - start == 18) {
+                return Long.parseLong(text.substring(start, end).trim());
+            }
+            id = id * 10 + (c - '0');
+        }
+        if (start == end) {
+            throw new IllegalArgumentException("Missing transaction id");
+        }
+        return id;
+    }
+
+    private static void parseCategoryBudgets(String text, int start, int end, Budget budget) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start < 2 || text.charAt(start) != '{' || text.charAt(end - 1) != '}') {
+            throw new IllegalArgumentException("Malformed budget categories: " + text.substring(start, end));
+        }
+        int entryStart = start + 1;
+        int entriesEnd = end - 1;
+        while (entryStart < entriesEnd) {
+            int entryEnd = text.indexOf(", ", entryStart);
+            if (entryEnd < 0 || entryEnd > entriesEnd) {
+                entryEnd = entriesEnd;
+            }
+            int equals = text.indexOf('=', entryStart);
+            if (equals < 0 || equals > entryEnd) {
+                throw new IllegalArgumentException("Malformed budget category: "
+                        + text.substring(entryStart, entryEnd));
+            }
+            budget.addAmount(parseCategory(text, entryStart, equals), parseAmount(text, equals + 1, entryEnd));
+            entryStart = entryEnd + 2;
+        }
+    }
+
+    private static boolean isType(String text, int start, int end, String type) {
+        return end - start == type.length() && text.regionMatches(true, start, type, 0, type.length());
+    }
+
+    /**
+     * Returns the index where the field starting at the given index ends, which is the next delimiter
+     * or the end of the line.
+     */
+    private static int fieldEnd(String text, int start, int end) {
+        int delimiter = text.indexOf(DELIMITER, start);
+        return (delimiter < 0 || delimiter + DELIMITER.length() > end) ? end : delimiter;
+    }
+
+    private static int nextField(String text, int fieldEnd, int end) {
+        if (fieldEnd >= end) {
+            throw new IllegalArgumentException("Missing field in line");
+        }
+        return fieldEnd + DELIMITER.length();
+    }
+
+    /**
+     * Parses up to the given number of decimal digits, returning -1 if the range holds anything else.
+     */
+    private static int parseDigits(String text, int start, int end, int maxDigits) {
+        if (end <= start || end - start > maxDigits) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
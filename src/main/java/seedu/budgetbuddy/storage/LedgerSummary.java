@@ -0,0 +1,267 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Money;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Holds the total expenses per month and category, and the total incomes per month,
+ * of transactions that are not kept in memory. Aggregate queries add these totals
+ * to those of the transactions in memory instead of loading every transaction.
+ * Totals are kept in cents, as described in {@link Money}.
+ */
+public class LedgerSummary {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String EXPENSE = "expense";
+    private static final String INCOME = "income";
+
+    private final TreeMap<YearMonth, long[]> expenseTotals = new TreeMap<>();
+    private final TreeMap<YearMonth, long[]> incomeTotals = new TreeMap<>();
+
+    /**
+     * Builds the summary of the given expenses and incomes.
+     *
+     * @param expenses The expenses to summarize.
+     * @param incomes The incomes to summarize.
+     * @return The summary.
+     */
+    public static LedgerSummary of(List<Expense> expenses, List<Income> incomes) {
+        LedgerSummary summary = new LedgerSummary();
+        for (Expense expense : expenses) {
+            summary.addExpenseInCents(YearMonth.from(expense.getDate()), expense.getCategory(),
+                    expense.getAmountInCents());
+        }
+        for (Income income : incomes) {
+            summary.addIncomeInCents(YearMonth.from(income.getDate()), income.getAmountInCents());
+        }
+        return summary;
+    }
+
+    /**
+     * Adds an expense amount to the total of its month and category.
+     *
+     * @param month The month of the expense.
+     * @param category The category of the expense.
+     * @param amount The amount of the expense.
+     */
+    public void addExpense(YearMonth month, Category category, double amount) {
+        addExpenseInCents(month, category, Money.toCents(amount));
+    }
+
+    /**
+     * Adds an expense amount in cents to the total of its month and category.
+     *
+     * @param month The month of the expense.
+     * @param category The category of the expense.
+     * @param cents The amount of the expense in cents.
+     */
+    public void addExpenseInCents(YearMonth month, Category category, long cents) {
+        expenseTotals.computeIfAbsent(month, key -> new long[Category.values().length])[category.ordinal()]
+                += cents;
+    }
+
+    /**
+     * Adds an income amount to the total of its month.
+     *
+     * @param month The month of the income.
+     * @param amount The amount of the income.
+     */
+    public void addIncome(YearMonth month, double amount) {
+        addIncomeInCents(month, Money.toCents(amount));
+    }
+
+    /**
+     * Adds an income amount in cents to the total of its month.
+     *
+     * @param month The month of the income.
+     * @param cents The amount of the income in cents.
+     */
+    public void addIncomeInCents(YearMonth month, long cents) {
+        incomeTotals.computeIfAbsent(month, key -> new long[1])[0] += cents;
+    }
+
+    /**
+     * Adds the totals of another summary, limited to the given range of months, to this one.
+     *
+     * @param other The summary to add.
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    public void addAll(LedgerSummary other, YearMonth from, YearMonth to) {
+        for (Map.Entry<YearMonth, long[]> entry : other.expenseTotals.subMap(from, true, to, true).entrySet()) {
+            Category[] categories = Category.values();
+            for (int i = 0; i < categories.length; i++) {
+                if (entry.getValue()[i] != 0) {
+                    addExpenseInCents(entry.getKey(), categories[i], entry.getValue()[i]);
+                }
+            }
+        }
+        for (Map.Entry<YearMonth, long[]> entry : other.incomeTotals.subMap(from, true, to, true).entrySet()) {
+            addIncomeInCents(entry.getKey(), entry.getValue()[0]);
+        }
+    }
+
+    /**
+     * Retrieves the total expenses of a month across all categories.
+     *
+     * @param month The month of the expenses.
+     * @return The total expenses, or 0.0 if there are none.
+     */
+    public double getExpenseTotal(YearMonth month) {
+        return Money.toAmount(getExpenseTotalInCents(month));
+    }
+
+    /**
+     * Retrieves the total expenses of a month across all categories in cents.
+     *
+     * @param month The month of the expenses.
+     * @return The total expenses in cents, or 0 if there are none.
+     */
+    public long getExpenseTotalInCents(YearMonth month) {
+        long total = 0;
+        long[] totals = expenseTotals.get(month);
+        for (int i = 0; totals != null && i < totals.length; i++) {
+            total += totals[i];
+        }
+        return total;
+    }
+
+    /**
+     * Retrieves the total expenses of a month in one category.
+     *
+     * @param month The month of the expenses.
+     * @param category The category of the expenses.
+     * @return The total expenses, or 0.0 if there are none.
+     */
+    public double getExpenseTotal(YearMonth month, Category category) {
+        return Money.toAmount(getExpenseTotalInCents(month, category));
+    }
+
+    /**
+     * Retrieves the total expenses of a month in one category in cents.
+     *
+     * @param month The month of the expenses.
+     * @param category The category of the expenses.
+     * @return The total expenses in cents, or 0 if there are none.
+     */
+    public long getExpenseTotalInCents(YearMonth month, Category category) {
+        long[] totals = expenseTotals.get(month);
+        return (totals == null) ? 0 : totals[category.ordinal()];
+    }
+
+    /**
+     * Retrieves the total incomes of a month.
+     *
+     * @param month The month of the incomes.
+     * @return The total incomes, or 0.0 if there are none.
+     */
+    public double getIncomeTotal(YearMonth month) {
+        return Money.toAmount(getIncomeTotalInCents(month));
+    }
+
+    /**
+     * Retrieves the total incomes of a month in cents.
+     *
+     * @param month The month of the incomes.
+     * @return The total incomes in cents, or 0 if there are none.
+     */
+    public long getIncomeTotalInCents(YearMonth month) {
+        long[] total = incomeTotals.get(month);
+        return (total == null) ? 0 : total[0];
+    }
+
+    /**
+     * Retrieves the total expenses of every month that has any, in chronological order.
+     *
+     * @return The total expenses in cents mapped by month.
+     */
+    public TreeMap<YearMonth, Long> getMonthlyExpenseTotals() {
+        TreeMap<YearMonth, Long> totals = new TreeMap<>();
+        for (YearMonth month : expenseTotals.keySet()) {
+            totals.put(month, getExpenseTotalInCents(month));
+        }
+        return totals;
+    }
+
+    /**
+     * Retrieves the total expenses per category of every month that has any, in chronological order.
+     *
+     * @return The total expenses in cents, indexed by category ordinal, mapped by month.
+     */
+    public TreeMap<YearMonth, long[]> getMonthlyCategoryExpenseTotals() {
+        TreeMap<YearMonth, long[]> totals = new TreeMap<>();
+        for (Map.Entry<YearMonth, long[]> entry : expenseTotals.entrySet()) {
+            totals.put(entry.getKey(), entry.getValue().clone());
+        }
+        return totals;
+    }
+
+    /**
+     * Retrieves the total incomes of every month that has any, in chronological order.
+     *
+     * @return The total incomes in cents mapped by month.
+     */
+    public TreeMap<YearMonth, Long> getMonthlyIncomeTotals() {
+        TreeMap<YearMonth, Long> totals = new TreeMap<>();
+        for (Map.Entry<YearMonth, long[]> entry : incomeTotals.entrySet()) {
+            totals.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return totals;
+    }
+
+    /**
+     * Encodes the summary as lines of text.
+     *
+     * @return The lines of the summary.
+     */
+    public List<String> encode() {
+        List<String> lines = new ArrayList<>();
+        Category[] categories = Category.values();
+        for (Map.Entry<YearMonth, long[]> entry : expenseTotals.entrySet()) {
+            for (int i = 0; i < categories.length; i++) {
+                if (entry.getValue()[i] != 0) {
+                    lines.add(EXPENSE + Journal.DELIMITER + entry.getKey().format(MONTH_FORMAT) + Journal.DELIMITER
+                            + categories[i] + Journal.DELIMITER + Money.format(entry.getValue()[i]));
+                }
+            }
+        }
+        for (Map.Entry<YearMonth, long[]> entry : incomeTotals.entrySet()) {
+            lines.add(INCOME + Journal.DELIMITER + entry.getKey().format(MONTH_FORMAT)
+                    + Journal.DELIMITER + Money.format(entry.getValue()[0]));
+        }
+        return lines;
+    }
+
+    /**
+     * Decodes a summary from the lines written by {@link #encode()}.
+     *
+     * @param lines The lines of the summary.
+     * @return The summary.
+     * @throws IllegalArgumentException If a line is malformed.
+     */
+    public static LedgerSummary decode(List<String> lines) {
+        LedgerSummary summary = new LedgerSummary();
+        for (String line : lines) {
+            String[] parts = line.split(" \\| ");
+            try {
+                if (parts[0].equals(EXPENSE)) {
+                    summary.addExpense(YearMonth.parse(parts[1], MONTH_FORMAT), Category.valueOf(parts[2]),
+                            Double.parseDouble(parts[3]));
+                } else if (parts[0].equals(INCOME)) {
+                    summary.addIncome(YearMonth.parse(parts[1], MONTH_FORMAT), Double.parseDouble(parts[2]));
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed summary line: " + line, e);
+            }
+        }
+        return summary;
+    }
+}
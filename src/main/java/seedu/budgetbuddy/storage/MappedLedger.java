@@ -0,0 +1,629 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.Parser;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Money;
+import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.transaction.TransactionIds;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Stores the expenses and incomes as fixed-width records in a memory-mapped file, with their descriptions
+ * in a separate mapped string heap, and the budgets in a small text file, all kept in one directory.
+ * <p>
+ * The mapped files are the persistent state: nothing is read when the data is opened apart from an index
+ * of which records belong to which month, and each change is written in place into the records it touches
+ * instead of rewriting the data file. Transactions only become objects when a command needs the months
+ * they belong to, through the {@link OnDemandLoader}, and monthly totals are summed straight from the records.
+ * </p>
+ * <p>
+ * Deleted records are marked free and reclaimed when the files are compacted on opening, once they
+ * outnumber the live ones. A mapping is limited to 2 GB, which allows for about 53 million records.
+ * </p>
+ * <p>
+ * Since version 2, every record holds the id of its transaction, and since version 3 its amount in cents
+ * as a long instead of a double. Files of earlier versions are rewritten when they are opened, and
+ * transactions of version 1 are given an id the first time they are read.
+ * </p>
+ */
+public class MappedLedger implements OnDemandLoader.Source {
+    public static final String RECORDS_FILE = "records.dat";
+    public static final String STRINGS_FILE = "strings.dat";
+    public static final String BUDGETS_FILE = "budgets.txt";
+    private static final int MAGIC = 0x42424D4C;
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_SIZE = 40;
+    private static final int VERSION_1_RECORD_SIZE = 32;
+    private static final int INITIAL_CAPACITY = 1024;
+    /** Number of free records below which the files are never compacted. */
+    private static final int MIN_COMPACTION_RECORDS = 1024;
+
+    // Offsets of the fields in the header
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_RECORD_COUNT = 8;
+    private static final int HEADER_HEAP_SIZE = 12;
+    private static final int HEADER_LIVE_COUNT = 16;
+
+    // Offsets of the fields in a record
+    private static final int KIND = 0;
+    private static final int CATEGORY = 1;
+    private static final int MONTH = 4;
+    private static final int EPOCH_DAY = 8;
+    /** Amount in cents, or as a double in files before version 3. */
+    private static final int AMOUNT = 16;
+    private static final int DESCRIPTION_OFFSET = 24;
+    private static final int DESCRIPTION_LENGTH = 28;
+    /** Id of the transaction, or 0 for records written before ids were stored. */
+    private static final int ID = 32;
+
+    private static final byte FREE = 0;
+    private static final byte EXPENSE = 1;
+    private static final byte INCOME = 2;
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static MappedLedger active = null;
+
+    private final Path directory;
+    private FileChannel recordChannel;
+    private FileChannel stringChannel;
+    private MappedByteBuffer records;
+    private MappedByteBuffer strings;
+    private int recordCount;
+    private int heapSize;
+    private int liveCount;
+    /** Records of the months whose transactions have not been turned into objects yet. */
+    private final TreeMap<YearMonth, MonthRecords> unloaded = new TreeMap<>();
+    /** Record of every transaction in memory that is stored in the files. */
+    private final IdentityHashMap<Transaction, Integer> recordOf = new IdentityHashMap<>();
+    /** Transactions in memory that are stored in the files, by the month they are stored under. */
+    private final HashMap<YearMonth, ArrayList<Transaction>> storedByMonth = new HashMap<>();
+
+    /**
+     * Holds the records of one month that have not been loaded yet.
+     */
+    private static class MonthRecords {
+        private int[] indices = new int[4];
+        private int size = 0;
+        private int expenses = 0;
+        private int incomes = 0;
+
+        private void add(int index, byte kind) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+            if (kind == EXPENSE) {
+                expenses++;
+            } else {
+                incomes++;
+            }
+        }
+    }
+
+    private MappedLedger(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens the mapped ledger in the given directory, creating its files if needed, reads the budgets into
+     * the given list and makes it the ledger that is loaded on demand. No transaction is loaded.
+     *
+     * @param directory The directory holding the mapped files.
+     * @param budgets The list to add the loaded budgets to.
+     * @return The opened ledger.
+     * @throws IOException If the files cannot be mapped or were not written by this version.
+     */
+    public static MappedLedger open(Path directory, ArrayList<Budget> budgets) throws IOException {
+        Files.createDirectories(directory);
+        Path budgetsFile = directory.resolve(BUDGETS_FILE);
+        if (Files.exists(budgetsFile)) {
+            for (String line : Files.readAllLines(budgetsFile, Charset.defaultCharset())) {
+                if (!line.isEmpty()) {
+                    Parser.parseFile(line, new ArrayList<>(), new ArrayList<>(), budgets);
+                }
+            }
+        }
+
+        MappedLedger ledger = new MappedLedger(directory);
+        ledger.compactIfNeeded();
+        ledger.map();
+        ledger.indexRecords();
+        if (active != null) {
+            active.close();
+            OnDemandLoader.unregister(active);
+        }
+        active = ledger;
+        OnDemandLoader.register(ledger);
+        LOGGER.info("Mapped " + ledger.liveCount + " transaction record(s) in " + ledger.unloaded.size()
+                + " month(s), left to load on demand");
+        return ledger;
+    }
+
+    /**
+     * Turns the records of the months in the given range that are not in memory yet into transactions
+     * and adds them to the managers.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    @Override
+    public void load(YearMonth from, YearMonth to) {
+        if (unloaded.isEmpty()) {
+            return;
+        }
+        SortedMap<YearMonth, MonthRecords> months = unloaded.subMap(from, true, to, true);
+        if (months.isEmpty()) {
+            return;
+        }
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        for (Map.Entry<YearMonth, MonthRecords> entry : months.entrySet()) {
+            ArrayList<Transaction> stored = storedByMonth.computeIfAbsent(entry.getKey(), key -> new ArrayList<>());
+            MonthRecords monthRecords = entry.getValue();
+            for (int i = 0; i < monthRecords.size; i++) {
+                Transaction transaction = readTransaction(monthRecords.indices[i]);
+                if (transaction instanceof Expense expense) {
+                    expenses.add(expense);
+                } else {
+                    incomes.add((Income) transaction);
+                }
+                recordOf.put(transaction, monthRecords.indices[i]);
+                stored.add(transaction);
+            }
+        }
+        months.clear();
+        LOGGER.info("Loaded " + expenses.size() + " expense(s) and " + incomes.size() + " income(s) on demand");
+        ExpenseManager.addLoadedExpenses(expenses);
+        IncomeManager.addLoadedIncomes(incomes);
+    }
+
+    /**
+     * Adds the totals of the records in the given range that are not in memory to the summary,
+     * reading only their amounts and categories.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @param summary The summary to add to.
+     */
+    @Override
+    public void summarize(YearMonth from, YearMonth to, LedgerSummary summary) {
+        for (Map.Entry<YearMonth, MonthRecords> entry : unloaded.subMap(from, true, to, true).entrySet()) {
+            MonthRecords monthRecords = entry.getValue();
+            for (int i = 0; i < monthRecords.size; i++) {
+                int position = recordPosition(monthRecords.indices[i]);
+                long cents = records.getLong(position + AMOUNT);
+                if (records.get(position + KIND) == EXPENSE) {
+                    summary.addExpenseInCents(entry.getKey(), CATEGORIES[records.get(position + CATEGORY)], cents);
+                } else {
+                    summary.addIncomeInCents(entry.getKey(), cents);
+                }
+            }
+        }
+    }
+
+    /**
+     * Turns the records of the month holding the expense at the given position into transactions,
+     * if they are not in memory yet.
+     *
+     * @param index The zero-based position of the expense once every record is loaded.
+     * @return The zero-based position of the expense among those in memory.
+     */
+    @Override
+    public int loadExpense(int index) {
+        return loadTransaction(index, ExpenseManager.iterateLoadedExpenses(), Expense::getDate, true);
+    }
+
+    /**
+     * Turns the records of the month holding the income at the given position into transactions,
+     * if they are not in memory yet.
+     *
+     * @param index The zero-based position of the income once every record is loaded.
+     * @return The zero-based position of the income among those in memory.
+     */
+    @Override
+    public int loadIncome(int index) {
+        return loadTransaction(index, IncomeManager.iterateLoadedIncomes(), Income::getDate, false);
+    }
+
+    /**
+     * Returns the number of expense records that have not been loaded yet.
+     *
+     * @return The number of unloaded expenses.
+     */
+    @Override
+    public int countUnloadedExpenses() {
+        int total = 0;
+        for (MonthRecords monthRecords : unloaded.values()) {
+            total += monthRecords.expenses;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of income records that have not been loaded yet.
+     *
+     * @return The number of unloaded incomes.
+     */
+    @Override
+    public int countUnloadedIncomes() {
+        int total = 0;
+        for (MonthRecords monthRecords : unloaded.values()) {
+            total += monthRecords.incomes;
+        }
+        return total;
+    }
+
+    /**
+     * Writes the transactions of the given months from the managers into the records, in place.
+     * Records of transactions that were removed are freed, new transactions are appended, and records
+     * whose transaction was edited are overwritten. Transactions that did not change are left untouched.
+     *
+     * @param months The months whose transactions have changed.
+     * @throws IOException If the files cannot be grown to hold new records.
+     */
+    public void writeChanges(Set<YearMonth> months) throws IOException {
+        Set<Transaction> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayList<Transaction> changed = new ArrayList<>();
+        for (YearMonth month : months) {
+            changed.addAll(ExpenseManager.getExpensesInMonth(month));
+            changed.addAll(IncomeManager.getIncomesInMonth(month));
+        }
+        current.addAll(changed);
+        for (YearMonth month : months) {
+            ArrayList<Transaction> stored = storedByMonth.remove(month);
+            if (stored == null) {
+                continue;
+            }
+            for (Transaction transaction : stored) {
+                if (!current.contains(transaction)) {
+                    free(recordOf.remove(transaction));
+                }
+            }
+        }
+        for (Transaction transaction : changed) {
+            Integer index = recordOf.get(transaction);
+            if (index == null) {
+                recordOf.put(transaction, append(transaction));
+            } else {
+                update(index, transaction);
+            }
+            storedByMonth.computeIfAbsent(YearMonth.from(dateOf(transaction)), key -> new ArrayList<>())
+                    .add(transaction);
+        }
+    }
+
+    /**
+     * Encodes the current budgets as the content of the budgets file.
+     *
+     * @return The files to write, mapped to their content.
+     */
+    public Map<Path, byte[]> encodeBudgets() {
+        StringBuilder text = new StringBuilder();
+        for (Budget budget : BudgetManager.getBudgets()) {
+            LedgerLineCodec.appendBudget(text, budget).append(System.lineSeparator());
+        }
+        return Map.of(directory.resolve(BUDGETS_FILE), text.toString().getBytes(Charset.defaultCharset()));
+    }
+
+    /**
+     * Forces the changes written into the mapped files onto the disk.
+     */
+    public void force() {
+        records.force();
+        strings.force();
+    }
+
+    /**
+     * Forces the changes onto the disk and closes the files. The mappings stay valid until they are
+     * garbage collected.
+     */
+    public void close() {
+        force();
+        try {
+            recordChannel.close();
+            stringChannel.close();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to close the mapped files: " + e.getMessage());
+        }
+    }
+
+    private <T> int loadTransaction(int index, Iterable<T> transactions, Function<T, LocalDate> dateOf,
+            boolean isExpense) {
+        if (unloaded.isEmpty()) {
+            return index;
+        }
+        YearMonth month = MonthPartitions.findUnloadedMonth(index, transactions, getUnloadedCounts(isExpense),
+                dateOf);
+        if (month != null) {
+            load(month, month);
+        }
+        return index - MonthPartitions.countUnloadedBefore(index, transactions, getUnloadedCounts(isExpense),
+                dateOf);
+    }
+
+    private TreeMap<YearMonth, Integer> getUnloadedCounts(boolean isExpense) {
+        TreeMap<YearMonth, Integer> unloadedCounts = new TreeMap<>();
+        for (Map.Entry<YearMonth, MonthRecords> entry : unloaded.entrySet()) {
+            unloadedCounts.put(entry.getKey(), isExpense ? entry.getValue().expenses : entry.getValue().incomes);
+        }
+        return unloadedCounts;
+    }
+
+    private void map() throws IOException {
+        recordChannel = FileChannel.open(directory.resolve(RECORDS_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        stringChannel = FileChannel.open(directory.resolve(STRINGS_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean isNew = recordChannel.size() == 0;
+        records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(recordChannel.size(), HEADER_SIZE + (long) INITIAL_CAPACITY * RECORD_SIZE));
+        strings = stringChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                Math.max(stringChannel.size(), (long) INITIAL_CAPACITY * RECORD_SIZE));
+        if (isNew) {
+            records.putInt(HEADER_MAGIC, MAGIC).putInt(HEADER_VERSION, VERSION);
+        }
+        checkHeader(records, records.capacity(), strings.capacity());
+        if (records.getInt(HEADER_VERSION) != VERSION) {
+            throw new IOException("Mapped ledger was not migrated: " + directory);
+        }
+        recordCount = records.getInt(HEADER_RECORD_COUNT);
+        heapSize = records.getInt(HEADER_HEAP_SIZE);
+    }
+
+    /**
+     * Checks the header of the records file, which may be of an earlier version that is still migrated.
+     *
+     * @return The size of the records of the file.
+     */
+    private int checkHeader(ByteBuffer header, long recordsSize, long stringsSize) throws IOException {
+        if (header.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IOException("Not a mapped ledger: " + directory.resolve(RECORDS_FILE));
+        }
+        int recordSize;
+        if (header.getInt(HEADER_VERSION) == VERSION || header.getInt(HEADER_VERSION) == 2) {
+            recordSize = RECORD_SIZE;
+        } else if (header.getInt(HEADER_VERSION) == 1) {
+            recordSize = VERSION_1_RECORD_SIZE;
+        } else {
+            throw new IOException("Unsupported mapped ledger version " + header.getInt(HEADER_VERSION));
+        }
+        if (HEADER_SIZE + (long) header.getInt(HEADER_RECORD_COUNT) * recordSize > recordsSize
+                || header.getInt(HEADER_HEAP_SIZE) > stringsSize) {
+            throw new IOException("Truncated mapped ledger: " + directory);
+        }
+        return recordSize;
+    }
+
+    private void indexRecords() {
+        liveCount = 0;
+        // Records are mostly appended in order, so consecutive records usually share a month
+        int previousMonthKey = Integer.MIN_VALUE;
+        MonthRecords monthRecords = null;
+        for (int i = 0; i < recordCount; i++) {
+            int position = recordPosition(i);
+            TransactionIds.reserve(records.getLong(position + ID));
+            byte kind = records.get(position + KIND);
+            if (kind == FREE) {
+                continue;
+            }
+            int monthKey = records.getInt(position + MONTH);
+            if (monthKey != previousMonthKey) {
+                YearMonth month = YearMonth.of(Math.floorDiv(monthKey, 12), Math.floorMod(monthKey, 12) + 1);
+                monthRecords = unloaded.computeIfAbsent(month, key -> new MonthRecords());
+                previousMonthKey = monthKey;
+            }
+            monthRecords.add(i, kind);
+            liveCount++;
+        }
+        records.putInt(HEADER_LIVE_COUNT, liveCount);
+    }
+
+    /**
+     * Rewrites the files with only the live records and the descriptions they use, before they are mapped,
+     * once the free records outnumber the live ones, or when they were written by an earlier version.
+     */
+    private void compactIfNeeded() throws IOException {
+        Path recordsFile = directory.resolve(RECORDS_FILE);
+        Path stringsFile = directory.resolve(STRINGS_FILE);
+        if (!Files.exists(recordsFile) || Files.size(recordsFile) < HEADER_SIZE) {
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(recordsFile, StandardOpenOption.READ)) {
+            channel.read(header, 0);
+        }
+        int oldRecordSize = checkHeader(header, Files.size(recordsFile),
+                Files.exists(stringsFile) ? Files.size(stringsFile) : 0);
+        int count = header.getInt(HEADER_RECORD_COUNT);
+        int live = header.getInt(HEADER_LIVE_COUNT);
+        boolean hasDoubleAmounts = header.getInt(HEADER_VERSION) < VERSION;
+        if (!hasDoubleAmounts && count - live <= Math.max(live, MIN_COMPACTION_RECORDS)) {
+            return;
+        }
+
+        LOGGER.info("Compacting mapped ledger: " + live + " of " + count + " record(s) are live");
+        ByteBuffer oldRecords = ByteBuffer.wrap(Files.readAllBytes(recordsFile));
+        byte[] oldStrings = Files.readAllBytes(stringsFile);
+        ByteBuffer newRecords = ByteBuffer.allocate(recordPosition(live));
+        ByteBuffer newStrings = ByteBuffer.allocate(header.getInt(HEADER_HEAP_SIZE));
+        int written = 0;
+        for (int i = 0; i < count; i++) {
+            int position = HEADER_SIZE + i * oldRecordSize;
+            if (oldRecords.get(position + KIND) == FREE) {
+                continue;
+            }
+            int newPosition = recordPosition(written++);
+            // Records of version 1 end before the id, which is left as 0
+            newRecords.put(newPosition, oldRecords.array(), position, oldRecordSize);
+            if (hasDoubleAmounts) {
+                newRecords.putLong(newPosition + AMOUNT, Money.toCents(oldRecords.getDouble(position + AMOUNT)));
+            }
+            newRecords.putInt(newPosition + DESCRIPTION_OFFSET, newStrings.position());
+            newStrings.put(oldStrings, oldRecords.getInt(position + DESCRIPTION_OFFSET),
+                    oldRecords.getInt(position + DESCRIPTION_LENGTH));
+        }
+        newRecords.putInt(HEADER_MAGIC, MAGIC).putInt(HEADER_VERSION, VERSION)
+                .putInt(HEADER_RECORD_COUNT, written).putInt(HEADER_HEAP_SIZE, newStrings.position())
+                .putInt(HEADER_LIVE_COUNT, written);
+        // The strings go first, so that the records never refer to descriptions that are not written yet
+        replace(stringsFile, Arrays.copyOf(newStrings.array(), newStrings.position()));
+        replace(recordsFile, newRecords.array());
+    }
+
+    private static void replace(Path file, byte[] content) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, content);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Transaction readTransaction(int index) {
+        int position = recordPosition(index);
+        byte[] description = new byte[records.getInt(position + DESCRIPTION_LENGTH)];
+        strings.get(records.getInt(position + DESCRIPTION_OFFSET), description);
+        LocalDate date = LocalDate.ofEpochDay(records.getLong(position + EPOCH_DAY));
+        double amount = Money.toAmount(records.getLong(position + AMOUNT));
+        long id = records.getLong(position + ID);
+        if (id == 0) {
+            id = TransactionIds.next();
+            records.putLong(position + ID, id);
+        }
+        if (records.get(position + KIND) == EXPENSE) {
+            return new Expense(id, new String(description, StandardCharsets.UTF_8), amount, date,
+                    CATEGORIES[records.get(position + CATEGORY)]);
+        }
+        return new Income(id, new String(description, StandardCharsets.UTF_8), amount, date);
+    }
+
+    private int append(Transaction transaction) throws IOException {
+        ensureRecordCapacity(recordCount + 1);
+        int index = recordCount;
+        byte[] description = descriptionOf(transaction).getBytes(StandardCharsets.UTF_8);
+        writeRecord(index, transaction, writeString(description), description.length);
+        // The count is raised last, so that a record is never counted before it is complete
+        recordCount++;
+        liveCount++;
+        records.putInt(HEADER_RECORD_COUNT, recordCount);
+        records.putInt(HEADER_LIVE_COUNT, liveCount);
+        return index;
+    }
+
+    private void update(int index, Transaction transaction) throws IOException {
+        int position = recordPosition(index);
+        byte[] storedDescription = new byte[records.getInt(position + DESCRIPTION_LENGTH)];
+        strings.get(records.getInt(position + DESCRIPTION_OFFSET), storedDescription);
+        byte[] description = descriptionOf(transaction).getBytes(StandardCharsets.UTF_8);
+        boolean isDescriptionChanged = !Arrays.equals(storedDescription, description);
+        byte category = (transaction instanceof Expense expense) ? (byte) expense.getCategory().ordinal() : 0;
+        if (isDescriptionChanged || records.getLong(position + EPOCH_DAY) != dateOf(transaction).toEpochDay()
+                || records.getLong(position + AMOUNT) != transaction.getAmountInCents()
+                || records.get(position + CATEGORY) != category) {
+            int descriptionOffset = isDescriptionChanged
+                    ? writeString(description)
+                    : records.getInt(position + DESCRIPTION_OFFSET);
+            writeRecord(index, transaction, descriptionOffset, description.length);
+        }
+    }
+
+    private void free(int index) {
+        records.put(recordPosition(index) + KIND, FREE);
+        liveCount--;
+        records.putInt(HEADER_LIVE_COUNT, liveCount);
+    }
+
+    private void writeRecord(int index, Transaction transaction, int descriptionOffset, int descriptionLength) {
+        int position = recordPosition(index);
+        LocalDate date = dateOf(transaction);
+        boolean isExpense = transaction instanceof Expense;
+        records.put(position + CATEGORY, isExpense ? (byte) ((Expense) transaction).getCategory().ordinal() : 0);
+        records.putInt(position + MONTH, date.getYear() * 12 + date.getMonthValue() - 1);
+        records.putLong(position + EPOCH_DAY, date.toEpochDay());
+        records.putLong(position + AMOUNT, transaction.getAmountInCents());
+        records.putInt(position + DESCRIPTION_OFFSET, descriptionOffset);
+        records.putInt(position + DESCRIPTION_LENGTH, descriptionLength);
+        records.putLong(position + ID, transaction.getId());
+        records.put(position + KIND, isExpense ? EXPENSE : INCOME);
+    }
+
+    private int writeString(byte[] bytes) throws IOException {
+        long needed = (long) heapSize + bytes.length;
+        if (needed > strings.capacity()) {
+            strings.force();
+            strings = stringChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    grow(strings.capacity(), needed));
+        }
+        int offset = heapSize;
+        strings.put(offset, bytes);
+        heapSize += bytes.length;
+        records.putInt(HEADER_HEAP_SIZE, heapSize);
+        return offset;
+    }
+
+    private void ensureRecordCapacity(int count) throws IOException {
+        long needed = HEADER_SIZE + (long) count * RECORD_SIZE;
+        if (needed > records.capacity()) {
+            records.force();
+            records = recordChannel.map(FileChannel.MapMode.READ_WRITE, 0, grow(records.capacity(), needed));
+        }
+    }
+
+    /**
+     * Returns the new size of a mapping that has to hold the given number of bytes, doubling it
+     * so that appends take amortized constant time.
+     */
+    private static long grow(long capacity, long needed) throws IOException {
+        if (needed > Integer.MAX_VALUE) {
+            throw new IOException("The mapped ledger cannot grow past 2 GB");
+        }
+        return Math.min(Math.max(capacity * 2, needed), Integer.MAX_VALUE);
+    }
+
+    private static String descriptionOf(Transaction transaction) {
+        if (transaction instanceof Expense expense) {
+            return expense.getDescription();
+        }
+        return ((Income) transaction).getDescription();
+    }
+
+    private static LocalDate dateOf(Transaction transaction) {
+        if (transaction instanceof Expense expense) {
+            return expense.getDate();
+        }
+        return ((Income) transaction).getDate();
+    }
+
+    private static int recordPosition(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+}
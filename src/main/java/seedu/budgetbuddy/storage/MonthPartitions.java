@@ -0,0 +1,459 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.Parser;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Stores the ledger as one text file per month of transactions, next to a budgets file and a small manifest,
+ * all kept in one directory.
+ * <p>
+ * Only the partitions of the most recent months, and of the months changed in the last session, are read
+ * when the data is loaded. Older partitions are read the first time a command needs them, through
+ * the {@link OnDemandLoader}, so that startup time does not grow with the years of history.
+ * After every change only the partitions of the changed months are rewritten.
+ * </p>
+ */
+public class MonthPartitions implements OnDemandLoader.Source {
+    public static final String MANIFEST_FILE = "manifest.txt";
+    public static final String BUDGETS_FILE = "budgets.txt";
+    /** Number of months, up to and including the current one, whose partitions are read at startup. */
+    private static final int EAGER_MONTHS = 3;
+    private static final String PARTITION = "partition";
+    private static final String RECENT = "recent";
+    private static final String PARTITION_SUFFIX = ".txt";
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static MonthPartitions active = null;
+
+    private final Path directory;
+    /** Number of expenses and incomes in each partition, as listed in the manifest. */
+    private final TreeMap<YearMonth, int[]> counts = new TreeMap<>();
+    private final TreeSet<YearMonth> unloaded = new TreeSet<>();
+    private final TreeSet<YearMonth> recentMonths = new TreeSet<>();
+    private final TreeSet<YearMonth> sessionMonths = new TreeSet<>();
+
+    private MonthPartitions(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens the partitioned ledger in the given directory, reads the budgets and the partitions
+     * of the recent months into the given lists, and makes it the ledger that is loaded on demand.
+     *
+     * @param directory The directory holding the partitions.
+     * @param expenses The list to add the loaded expenses to.
+     * @param incomes The list to add the loaded incomes to.
+     * @param budgets The list to add the loaded budgets to.
+     * @return The opened ledger.
+     * @throws IOException If the manifest or a recent partition cannot be read.
+     */
+    public static MonthPartitions open(Path directory, ArrayList<Expense> expenses, ArrayList<Income> incomes,
+            ArrayList<Budget> budgets) throws IOException {
+        MonthPartitions partitions = new MonthPartitions(directory);
+        partitions.readManifest();
+        Path budgetsFile = directory.resolve(BUDGETS_FILE);
+        if (Files.exists(budgetsFile)) {
+            for (String line : Files.readAllLines(budgetsFile, Charset.defaultCharset())) {
+                Parser.parseFile(line, new ArrayList<>(), new ArrayList<>(), budgets);
+            }
+        }
+
+        YearMonth firstEagerMonth = YearMonth.now().minusMonths(EAGER_MONTHS - 1);
+        for (YearMonth month : partitions.listPartitionFiles()) {
+            boolean isListed = partitions.counts.containsKey(month);
+            // A partition missing from the manifest was written after it, so its count is unknown
+            if (isListed && month.isBefore(firstEagerMonth) && !partitions.recentMonths.contains(month)) {
+                partitions.unloaded.add(month);
+            } else {
+                partitions.readPartition(month, expenses, incomes);
+            }
+        }
+        if (active != null) {
+            OnDemandLoader.unregister(active);
+        }
+        active = partitions;
+        OnDemandLoader.register(partitions);
+        LOGGER.info("Opened " + partitions.counts.size() + " month partition(s), "
+                + partitions.unloaded.size() + " left to load on demand");
+        return partitions;
+    }
+
+    /**
+     * Loads the partitions of the months in the given range that are not in memory yet.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    @Override
+    public void load(YearMonth from, YearMonth to) {
+        if (unloaded.isEmpty()) {
+            return;
+        }
+        SortedSet<YearMonth> months = unloaded.subSet(from, true, to, true);
+        if (!months.isEmpty()) {
+            loadPartitions(months);
+        }
+    }
+
+    /**
+     * Loads the partitions of the months in the given range, as partitions do not carry a summary.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @param summary The summary, which is left unchanged.
+     */
+    @Override
+    public void summarize(YearMonth from, YearMonth to, LedgerSummary summary) {
+        load(from, to);
+    }
+
+    /**
+     * Loads the partition of the month holding the expense at the given position, if it is not in memory yet.
+     *
+     * @param index The zero-based position of the expense once every partition is loaded.
+     * @return The zero-based position of the expense among those in memory.
+     */
+    @Override
+    public int loadExpense(int index) {
+        return loadTransaction(index, ExpenseManager.iterateLoadedExpenses(), Expense::getDate, 0);
+    }
+
+    /**
+     * Loads the partition of the month holding the income at the given position, if it is not in memory yet.
+     *
+     * @param index The zero-based position of the income once every partition is loaded.
+     * @return The zero-based position of the income among those in memory.
+     */
+    @Override
+    public int loadIncome(int index) {
+        return loadTransaction(index, IncomeManager.iterateLoadedIncomes(), Income::getDate, 1);
+    }
+
+    /**
+     * Returns the number of expenses in the partitions that have not been loaded yet.
+     *
+     * @return The number of unloaded expenses.
+     */
+    @Override
+    public int countUnloadedExpenses() {
+        return countUnloaded(0);
+    }
+
+    /**
+     * Returns the number of incomes in the partitions that have not been loaded yet.
+     *
+     * @return The number of unloaded incomes.
+     */
+    @Override
+    public int countUnloadedIncomes() {
+        return countUnloaded(1);
+    }
+
+    /**
+     * Inserts transactions loaded from partitions into a list of transactions, keeping the list ordered
+     * by month. The transactions already in the list keep their relative order.
+     *
+     * @param transactions The list to insert into.
+     * @param loaded The loaded transactions, in chronological order of their months.
+     * @param dateOf Retrieves the date of a transaction.
+     * @param <T> The type of transaction.
+     */
+    public static <T> void mergeByMonth(ArrayList<T> transactions, List<T> loaded, Function<T, LocalDate> dateOf) {
+        if (loaded.isEmpty()) {
+            return;
+        }
+        ArrayList<T> merged = new ArrayList<>(transactions.size() + loaded.size());
+        int i = 0;
+        int j = 0;
+        while (i < transactions.size() && j < loaded.size()) {
+            YearMonth existingMonth = YearMonth.from(dateOf.apply(transactions.get(i)));
+            if (YearMonth.from(dateOf.apply(loaded.get(j))).isBefore(existingMonth)) {
+                merged.add(loaded.get(j++));
+            } else {
+                merged.add(transactions.get(i++));
+            }
+        }
+        merged.addAll(transactions.subList(i, transactions.size()));
+        merged.addAll(loaded.subList(j, loaded.size()));
+        transactions.clear();
+        transactions.addAll(merged);
+    }
+
+    /**
+     * Finds the month holding the given position of a list once every month is loaded, if the transactions
+     * of that month are not loaded yet. The transactions of a month are merged in as {@link #mergeByMonth} does,
+     * before the first transaction in memory of a later month, so only the transactions before the position
+     * are gone through.
+     *
+     * @param index The zero-based position once every month is loaded.
+     * @param transactions The transactions in memory, in order.
+     * @param unloadedCounts The number of transactions of every month that is not loaded, by month.
+     * @param dateOf Retrieves the date of a transaction.
+     * @param <T> The type of transaction.
+     * @return The month, or null if the transaction at the position is in memory.
+     */
+    static <T> YearMonth findUnloadedMonth(int index, Iterable<T> transactions,
+            SortedMap<YearMonth, Integer> unloadedCounts, Function<T, LocalDate> dateOf) {
+        Iterator<Map.Entry<YearMonth, Integer>> months = unloadedCounts.entrySet().iterator();
+        Map.Entry<YearMonth, Integer> next = months.hasNext() ? months.next() : null;
+        int position = 0;
+        for (T transaction : transactions) {
+            YearMonth month = YearMonth.from(dateOf.apply(transaction));
+            while (next != null && next.getKey().isBefore(month)) {
+                position += next.getValue();
+                if (index < position) {
+                    return next.getKey();
+                }
+                next = months.hasNext() ? months.next() : null;
+            }
+            if (index == position) {
+                return null;
+            }
+            position++;
+        }
+        while (next != null) {
+            position += next.getValue();
+            if (index < position) {
+                return next.getKey();
+            }
+            next = months.hasNext() ? months.next() : null;
+        }
+        return null;
+    }
+
+    /**
+     * Counts the transactions that are not loaded yet and come before the given position of a list
+     * once every month is loaded, where the transaction at the position is in memory.
+     *
+     * @param index The zero-based position once every month is loaded.
+     * @param transactions The transactions in memory, in order.
+     * @param unloadedCounts The number of transactions of every month that is not loaded, by month.
+     * @param dateOf Retrieves the date of a transaction.
+     * @param <T> The type of transaction.
+     * @return The number of transactions before the position that are not loaded.
+     */
+    static <T> int countUnloadedBefore(int index, Iterable<T> transactions,
+            SortedMap<YearMonth, Integer> unloadedCounts, Function<T, LocalDate> dateOf) {
+        Iterator<Map.Entry<YearMonth, Integer>> months = unloadedCounts.entrySet().iterator();
+        Map.Entry<YearMonth, Integer> next = months.hasNext() ? months.next() : null;
+        int position = 0;
+        int unloadedBefore = 0;
+        for (T transaction : transactions) {
+            YearMonth month = YearMonth.from(dateOf.apply(transaction));
+            while (next != null && next.getKey().isBefore(month)) {
+                position += next.getValue();
+                unloadedBefore += next.getValue();
+                next = months.hasNext() ? months.next() : null;
+            }
+            if (index <= position) {
+                break;
+            }
+            position++;
+        }
+        return unloadedBefore;
+    }
+
+    /**
+     * Encodes the partitions of the given months, the budgets if they changed, and the manifest,
+     * from the current state of the managers. A month without any transactions left has its partition removed.
+     *
+     * @param months The months whose partitions have to be rewritten.
+     * @param isBudgetChanged Whether the budgets file has to be rewritten.
+     * @return The files to write in order, mapped to their content, or to null for files to delete.
+     */
+    public Map<Path, byte[]> encodeChanges(Set<YearMonth> months, boolean isBudgetChanged) {
+        LinkedHashMap<Path, byte[]> files = new LinkedHashMap<>();
+        for (YearMonth month : months) {
+            if (unloaded.contains(month)) {
+                // The partition could not be read, so it is left untouched rather than overwritten
+                LOGGER.warning("Not rewriting partition that failed to load: " + month);
+                continue;
+            }
+            StringBuilder text = new StringBuilder();
+            ArrayList<Expense> expenses = ExpenseManager.getExpensesInMonth(month);
+            ArrayList<Income> incomes = IncomeManager.getIncomesInMonth(month);
+            for (Expense expense : expenses) {
+                LedgerLineCodec.appendExpense(text, expense).append(System.lineSeparator());
+            }
+            for (Income income : incomes) {
+                LedgerLineCodec.appendIncome(text, income).append(System.lineSeparator());
+            }
+            Path file = getPartitionPath(month);
+            if (expenses.isEmpty() && incomes.isEmpty()) {
+                counts.remove(month);
+                files.put(file, null);
+            } else {
+                counts.put(month, new int[] {expenses.size(), incomes.size()});
+                files.put(file, text.toString().getBytes(Charset.defaultCharset()));
+            }
+            sessionMonths.add(month);
+        }
+        if (isBudgetChanged) {
+            StringBuilder text = new StringBuilder();
+            for (Budget budget : BudgetManager.getBudgets()) {
+                LedgerLineCodec.appendBudget(text, budget).append(System.lineSeparator());
+            }
+            files.put(directory.resolve(BUDGETS_FILE), text.toString().getBytes(Charset.defaultCharset()));
+        }
+        // The manifest goes last, so that it never lists a partition that has not been written yet
+        files.put(directory.resolve(MANIFEST_FILE), encodeManifest());
+        return files;
+    }
+
+    /**
+     * Encodes every partition, the budgets and the manifest from the current state of the managers.
+     * Every partition is loaded first.
+     *
+     * @return The files to write in order, mapped to their content, or to null for files to delete.
+     */
+    public Map<Path, byte[]> encodeAll() {
+        OnDemandLoader.ensureAllLoaded();
+        TreeSet<YearMonth> months = new TreeSet<>(counts.keySet());
+        for (Expense expense : ExpenseManager.getExpenses()) {
+            months.add(YearMonth.from(expense.getDate()));
+        }
+        for (Income income : IncomeManager.getIncomes()) {
+            months.add(YearMonth.from(income.getDate()));
+        }
+        return encodeChanges(months, true);
+    }
+
+    private <T> int loadTransaction(int index, Iterable<T> transactions, Function<T, LocalDate> dateOf,
+            int column) {
+        if (unloaded.isEmpty()) {
+            return index;
+        }
+        YearMonth month = findUnloadedMonth(index, transactions, getUnloadedCounts(column), dateOf);
+        if (month != null) {
+            loadPartitions(new TreeSet<>(List.of(month)));
+        }
+        return index - countUnloadedBefore(index, transactions, getUnloadedCounts(column), dateOf);
+    }
+
+    private TreeMap<YearMonth, Integer> getUnloadedCounts(int column) {
+        TreeMap<YearMonth, Integer> unloadedCounts = new TreeMap<>();
+        for (YearMonth month : unloaded) {
+            unloadedCounts.put(month, counts.get(month)[column]);
+        }
+        return unloadedCounts;
+    }
+
+    private void loadPartitions(SortedSet<YearMonth> months) {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        for (YearMonth month : new ArrayList<>(months)) {
+            try {
+                readPartition(month, expenses, incomes);
+                unloaded.remove(month);
+            } catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Failed to load partition " + month, e);
+            }
+        }
+        LOGGER.info("Loaded " + expenses.size() + " expense(s) and " + incomes.size() + " income(s) on demand");
+        ExpenseManager.addLoadedExpenses(expenses);
+        IncomeManager.addLoadedIncomes(incomes);
+    }
+
+    private void readPartition(YearMonth month, ArrayList<Expense> expenses, ArrayList<Income> incomes)
+            throws IOException {
+        for (String line : Files.readAllLines(getPartitionPath(month), Charset.defaultCharset())) {
+            if (!line.isEmpty()) {
+                Parser.parseFile(line, expenses, incomes, new ArrayList<>());
+            }
+        }
+    }
+
+    private void readManifest() throws IOException {
+        Path manifest = directory.resolve(MANIFEST_FILE);
+        if (!Files.exists(manifest)) {
+            return;
+        }
+        for (String line : Files.readAllLines(manifest, Charset.defaultCharset())) {
+            String[] parts = line.split(" \\| ");
+            try {
+                if (parts[0].equals(PARTITION) && parts.length == 4) {
+                    counts.put(YearMonth.parse(parts[1], MONTH_FORMAT),
+                            new int[] {Integer.parseInt(parts[2]), Integer.parseInt(parts[3])});
+                } else if (parts[0].equals(RECENT) && parts.length == 2) {
+                    recentMonths.add(YearMonth.parse(parts[1], MONTH_FORMAT));
+                }
+            } catch (DateTimeParseException | NumberFormatException e) {
+                LOGGER.warning("Skipping malformed manifest line: " + line);
+            }
+        }
+    }
+
+    private byte[] encodeManifest() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<YearMonth, int[]> entry : counts.entrySet()) {
+            text.append(PARTITION).append(Journal.DELIMITER).append(entry.getKey().format(MONTH_FORMAT))
+                    .append(Journal.DELIMITER).append(entry.getValue()[0])
+                    .append(Journal.DELIMITER).append(entry.getValue()[1]).append(System.lineSeparator());
+        }
+        for (YearMonth month : sessionMonths.isEmpty() ? recentMonths : sessionMonths) {
+            text.append(RECENT).append(Journal.DELIMITER).append(month.format(MONTH_FORMAT))
+                    .append(System.lineSeparator());
+        }
+        return text.toString().getBytes(Charset.defaultCharset());
+    }
+
+    private TreeSet<YearMonth> listPartitionFiles() throws IOException {
+        TreeSet<YearMonth> months = new TreeSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(PARTITION_SUFFIX)) {
+                    return;
+                }
+                try {
+                    months.add(YearMonth.parse(name.substring(0, name.length() - PARTITION_SUFFIX.length()),
+                            MONTH_FORMAT));
+                } catch (DateTimeParseException e) {
+                    // Not a partition, such as the manifest or the budgets file
+                }
+            });
+        }
+        return months;
+    }
+
+    private int countUnloaded(int column) {
+        int total = 0;
+        for (YearMonth month : unloaded) {
+            total += counts.get(month)[column];
+        }
+        return total;
+    }
+
+    private Path getPartitionPath(YearMonth month) {
+        return directory.resolve(month.format(MONTH_FORMAT) + PARTITION_SUFFIX);
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.budgetbuddy.storage;
+
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+
+/**
+ * Loads the parts of the ledger that storage keeps out of memory, the first time a command needs them.
+ * <p>
+ * The managers call {@link #ensureLoaded(YearMonth, YearMonth)} before reading the transactions of some months,
+ * and {@link #ensureAllLoaded()} before scanning all of them. A transaction addressed by its position
+ * only needs the month holding it, through {@link #ensureExpenseLoaded(int)} and {@link #ensureIncomeLoaded(int)}.
+ * Aggregate queries call {@link #summarizeUnloaded(YearMonth, YearMonth)} instead, which only loads
+ * the transactions that cannot be summarized without being read.
+ * When the ledger is fully loaded at startup, no sources are registered and nothing is done.
+ * </p>
+ */
+public class OnDemandLoader {
+    public static final YearMonth FIRST_MONTH = YearMonth.of(Year.MIN_VALUE, 1);
+    public static final YearMonth LAST_MONTH = YearMonth.of(Year.MAX_VALUE, 12);
+    private static final ArrayList<Source> sources = new ArrayList<>();
+
+    /**
+     * Represents a part of storage whose transactions are loaded on demand.
+     */
+    public interface Source {
+        /**
+         * Loads the transactions of the months in the given range that are not in memory yet.
+         *
+         * @param from The first month of the range.
+         * @param to The last month of the range, inclusive.
+         */
+        void load(YearMonth from, YearMonth to);
+
+        /**
+         * Adds the totals of the transactions in the given range that are not in memory to the summary,
+         * loading those that cannot be summarized without being read.
+         *
+         * @param from The first month of the range.
+         * @param to The last month of the range, inclusive.
+         * @param summary The summary to add to.
+         */
+        void summarize(YearMonth from, YearMonth to, LedgerSummary summary);
+
+        /**
+         * Loads the transactions holding the expense at the given position of the fully loaded list,
+         * if it is not in memory yet, and finds its position among the expenses in memory.
+         *
+         * @param index The zero-based position of the expense once every expense is loaded.
+         * @return The zero-based position of the expense among those in memory.
+         */
+        int loadExpense(int index);
+
+        /**
+         * Loads the transactions holding the income at the given position of the fully loaded list,
+         * if it is not in memory yet, and finds its position among the incomes in memory.
+         *
+         * @param index The zero-based position of the income once every income is loaded.
+         * @return The zero-based position of the income among those in memory.
+         */
+        int loadIncome(int index);
+
+        /**
+         * Returns the number of expenses that are not in memory yet.
+         *
+         * @return The number of unloaded expenses.
+         */
+        int countUnloadedExpenses();
+
+        /**
+         * Returns the number of incomes that are not in memory yet.
+         *
+         * @return The number of unloaded incomes.
+         */
+        int countUnloadedIncomes();
+    }
+
+    /**
+     * Registers a source of transactions that are loaded on demand.
+     *
+     * @param source The source to register.
+     */
+    public static void register(Source source) {
+        sources.add(source);
+    }
+
+    /**
+     * Removes a previously registered source.
+     *
+     * @param source The source to remove.
+     */
+    public static void unregister(Source source) {
+        sources.remove(source);
+    }
+
+    /**
+     * Makes sure the transactions of the given month are loaded into the managers.
+     *
+     * @param month The month that is about to be read or changed.
+     */
+    public static void ensureLoaded(YearMonth month) {
+        ensureLoaded(month, month);
+    }
+
+    /**
+     * Makes sure the transactions of every month in the given range are loaded into the managers.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    public static void ensureLoaded(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            return;
+        }
+        for (Source source : new ArrayList<>(sources)) {
+            source.load(from, to);
+        }
+    }
+
+    /**
+     * Makes sure every transaction is loaded into the managers.
+     */
+    public static void ensureAllLoaded() {
+        ensureLoaded(FIRST_MONTH, LAST_MONTH);
+    }
+
+    /**
+     * Makes sure the expense at the given position is loaded into the managers, loading only the transactions
+     * that hold it, such as those of its month.
+     *
+     * @param index The zero-based position of the expense, as users see it.
+     * @return The zero-based position of the expense among those in memory.
+     */
+    public static int ensureExpenseLoaded(int index) {
+        int position = index;
+        for (Source source : new ArrayList<>(sources)) {
+            position = source.loadExpense(position);
+        }
+        return position;
+    }
+
+    /**
+     * Makes sure the income at the given position is loaded into the managers, loading only the transactions
+     * that hold it, such as those of its month.
+     *
+     * @param index The zero-based position of the income, as users see it.
+     * @return The zero-based position of the income among those in memory.
+     */
+    public static int ensureIncomeLoaded(int index) {
+        int position = index;
+        for (Source source : new ArrayList<>(sources)) {
+            position = source.loadIncome(position);
+        }
+        return position;
+    }
+
+    /**
+     * Summarizes the transactions of the given range that are not in memory.
+     * Transactions that cannot be summarized without being read are loaded instead,
+     * so the result plus the transactions in memory always covers the whole range.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The totals of the transactions that remain out of memory.
+     */
+    public static LedgerSummary summarizeUnloaded(YearMonth from, YearMonth to) {
+        LedgerSummary summary = new LedgerSummary();
+        if (from.isAfter(to)) {
+            return summary;
+        }
+        for (Source source : new ArrayList<>(sources)) {
+            source.summarize(from, to, summary);
+        }
+        return summary;
+    }
+
+    /**
+     * Returns the number of expenses that are not in memory yet.
+     *
+     * @return The number of unloaded expenses.
+     */
+    public static int getUnloadedExpenseCount() {
+        int total = 0;
+        for (Source source : sources) {
+            total += source.countUnloadedExpenses();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of incomes that are not in memory yet.
+     *
+     * @return The number of unloaded incomes.
+     */
+    public static int getUnloadedIncomeCount() {
+        int total = 0;
+        for (Source source : sources) {
+            total += source.countUnloadedIncomes();
+        }
+        return total;
+    }
+}
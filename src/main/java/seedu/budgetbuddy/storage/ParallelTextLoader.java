@@ -0,0 +1,129 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Logger;
+
+/**
+ * Loads a text snapshot by splitting it into line-aligned chunks and parsing the chunks in parallel
+ * on the fork/join pool. Each chunk is parsed into its own lists, which are then merged in the
+ * original order so that the positions of the expenses and incomes are the same as in the file.
+ */
+public class ParallelTextLoader {
+    /** Number of characters below which a file is parsed as a single chunk. */
+    static final int CHUNK_SIZE = 64 * 1024;
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+
+    /**
+     * Parses the text snapshot at the given path into the given lists.
+     *
+     * @param path The path of the text snapshot.
+     * @param expenses The list to add the loaded expenses to.
+     * @param incomes The list to add the loaded incomes to.
+     * @param budgets The list to add the loaded budgets to.
+     * @param archivedSegments The list to add the names of the archive segments listed by the snapshot to.
+     * @return The latest journal generation contained in the snapshot, or 0 if it has none.
+     * @throws IOException If the file cannot be read.
+     */
+    public static int load(Path path, ArrayList<Expense> expenses, ArrayList<Income> incomes,
+            ArrayList<Budget> budgets, List<String> archivedSegments) throws IOException {
+        String content = Files.readString(path, Charset.defaultCharset());
+        List<ChunkParser> chunks = splitIntoChunks(content);
+        ForkJoinTask.invokeAll(chunks);
+
+        int coveredGeneration = 0;
+        int numberOfExpenses = 0;
+        int numberOfIncomes = 0;
+        for (ChunkParser chunk : chunks) {
+            numberOfExpenses += chunk.expenses.size();
+            numberOfIncomes += chunk.incomes.size();
+        }
+        expenses.ensureCapacity(expenses.size() + numberOfExpenses);
+        incomes.ensureCapacity(incomes.size() + numberOfIncomes);
+        for (ChunkParser chunk : chunks) {
+            expenses.addAll(chunk.expenses);
+            incomes.addAll(chunk.incomes);
+            budgets.addAll(chunk.budgets);
+            archivedSegments.addAll(chunk.archivedSegments);
+            coveredGeneration = Math.max(coveredGeneration, chunk.coveredGeneration);
+        }
+        LOGGER.info("Parsed " + content.length() + " character(s) in " + chunks.size() + " chunk(s)");
+        return coveredGeneration;
+    }
+
+    /**
+     * Splits the content into chunks of roughly {@code CHUNK_SIZE} characters that each end on a line break.
+     *
+     * @param content The content of the text snapshot.
+     * @return The chunks, in the order they appear in the content.
+     */
+    private static List<ChunkParser> splitIntoChunks(String content) {
+        List<ChunkParser> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < content.length()) {
+            int end = content.indexOf('\n', Math.min(start + CHUNK_SIZE, content.length() - 1));
+            end = (end == -1) ? content.length() : end + 1;
+            chunks.add(new ChunkParser(content, start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Parses the lines of one chunk into lists of its own.
+     */
+    private static class ChunkParser extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final String content;
+        private final int start;
+        private final int end;
+        private final ArrayList<Expense> expenses = new ArrayList<>();
+        private final ArrayList<Income> incomes = new ArrayList<>();
+        private final ArrayList<Budget> budgets = new ArrayList<>();
+        private final ArrayList<String> archivedSegments = new ArrayList<>();
+        private int coveredGeneration = 0;
+
+        ChunkParser(String content, int start, int end) {
+            this.content = content;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            int lineStart = start;
+            while (lineStart < end) {
+                int lineEnd = content.indexOf('\n', lineStart);
+                if (lineEnd == -1 || lineEnd > end) {
+                    lineEnd = end;
+                }
+                int nextLineStart = lineEnd + 1;
+                if (lineEnd > lineStart && content.charAt(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                if (content.startsWith(Journal.CHECKPOINT, lineStart)) {
+                    coveredGeneration = Journal.parseCheckpoint(content.substring(lineStart, lineEnd));
+                } else if (content.startsWith(ColdArchive.ARCHIVE, lineStart)) {
+                    archivedSegments.addAll(List.of(content.substring(lineStart + ColdArchive.ARCHIVE.length(),
+                            lineEnd).split(" \\| ")));
+                } else if (lineEnd > lineStart) {
+                    // Lines are tokenized in place, without copying them out of the file's content
+                    LedgerLineCodec.decode(content, lineStart, lineEnd, expenses, incomes, budgets);
+                }
+                lineStart = nextLineStart;
+            }
+        }
+    }
+}
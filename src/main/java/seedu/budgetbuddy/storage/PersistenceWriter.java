@@ -0,0 +1,312 @@
+package seedu.budgetbuddy.storage;
+
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Performs all writes to the data file and its journal on a single background thread,
+ * so that commands do not wait for the disk.
+ * <p>
+ * Work is handed over as tasks that are carried out in the order they were submitted.
+ * Journal records that are queued back to back are written together in one append (group commit),
+ * and a snapshot rotates out the journal it covers before replacing the data file.
+ * Storage that is split into several files hands over the changed files, which are each replaced atomically.
+ * </p>
+ */
+public class PersistenceWriter {
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String ROTATED_SUFFIX = ".old";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final Path dataPath;
+    private final Path journalPath;
+    private final Path rotatedPath;
+    private final LinkedBlockingQueue<Task> tasks = new LinkedBlockingQueue<>();
+    private final AtomicInteger pendingSnapshots = new AtomicInteger();
+    private final Thread thread;
+    private volatile IOException failure;
+    private boolean isStopped = false;
+
+    /**
+     * Creates a writer for the given data and journal files and starts its background thread.
+     *
+     * @param dataPath The path of the data file holding the snapshot.
+     * @param journalPath The path of the active journal file.
+     */
+    public PersistenceWriter(String dataPath, String journalPath) {
+        this.dataPath = Path.of(dataPath);
+        this.journalPath = Path.of(journalPath);
+        this.rotatedPath = Path.of(journalPath + ROTATED_SUFFIX);
+        thread = new Thread(this::processTasks, "persistence-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Retrieves the path of the journal rotated out by a snapshot that is not yet in place.
+     *
+     * @return The path of the rotated journal.
+     */
+    public String getRotatedJournalPath() {
+        return rotatedPath.toString();
+    }
+
+    /**
+     * Queues journal records to be appended to the active journal.
+     *
+     * @param records The records to append, in order.
+     * @param generation The generation of the journal the records belong to.
+     */
+    public void appendRecords(List<String> records, int generation) {
+        tasks.add(Task.append(records, generation));
+    }
+
+    /**
+     * Queues a snapshot to replace the data file. It covers every record queued before it.
+     *
+     * @param snapshot The encoded snapshot.
+     */
+    public void writeSnapshot(byte[] snapshot) {
+        pendingSnapshots.incrementAndGet();
+        tasks.add(Task.snapshot(snapshot));
+    }
+
+    /**
+     * Queues files to be replaced, in the given order.
+     *
+     * @param files The paths of the files mapped to their new content, or to null for files to delete.
+     */
+    public void writeFiles(Map<Path, byte[]> files) {
+        tasks.add(Task.files(files));
+    }
+
+    /**
+     * Returns whether a snapshot has been queued but not yet written.
+     *
+     * @return true if a snapshot is pending, false otherwise.
+     */
+    public boolean isSnapshotPending() {
+        return pendingSnapshots.get() > 0;
+    }
+
+    /**
+     * Waits until everything queued so far has been written.
+     *
+     * @throws IOException If a write failed since the last failure was reported.
+     */
+    public synchronized void flush() throws IOException {
+        if (!isStopped) {
+            Task marker = Task.flush();
+            tasks.add(marker);
+            try {
+                marker.done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        reportFailure();
+    }
+
+    /**
+     * Throws the first write failure that happened in the background since the last call, if any.
+     *
+     * @throws IOException The background write failure.
+     */
+    public void reportFailure() throws IOException {
+        IOException pendingFailure = failure;
+        if (pendingFailure != null) {
+            failure = null;
+            throw pendingFailure;
+        }
+    }
+
+    /**
+     * Writes everything queued so far and stops the background thread.
+     */
+    public synchronized void close() {
+        if (isStopped) {
+            return;
+        }
+        // Marked before waiting, so that a concurrent shutdown hook does not queue work nobody will carry out
+        isStopped = true;
+        Task stop = Task.stop();
+        tasks.add(stop);
+        try {
+            stop.done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void processTasks() {
+        while (true) {
+            ArrayList<Task> batch = new ArrayList<>();
+            try {
+                batch.add(tasks.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            tasks.drainTo(batch);
+            int i = 0;
+            while (i < batch.size()) {
+                Task task = batch.get(i);
+                if (task.kind == Task.Kind.APPEND) {
+                    // Merge every consecutive append into a single write
+                    int end = i;
+                    while (end < batch.size() && batch.get(end).kind == Task.Kind.APPEND) {
+                        end++;
+                    }
+                    List<Task> appends = batch.subList(i, end);
+                    runSafely(() -> appendToJournal(appends));
+                    i = end;
+                    continue;
+                }
+                if (task.kind == Task.Kind.SNAPSHOT) {
+                    runSafely(() -> replaceSnapshot(task.snapshot));
+                    pendingSnapshots.decrementAndGet();
+                } else if (task.kind == Task.Kind.FILES) {
+                    runSafely(() -> replaceFiles(task.files));
+                }
+                task.done.countDown();
+                if (task.kind == Task.Kind.STOP) {
+                    return;
+                }
+                i++;
+            }
+        }
+    }
+
+    private void runSafely(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Background write failed", e);
+            if (failure == null) {
+                failure = e;
+            }
+        } catch (RuntimeException e) {
+            // Keeps the thread alive, as commands waiting for a flush would otherwise wait forever
+            LOGGER.log(Level.WARNING, "Background write failed", e);
+            if (failure == null) {
+                failure = new IOException(e);
+            }
+        }
+    }
+
+    private void appendToJournal(List<Task> appends) throws IOException {
+        File journal = journalPath.toFile();
+        boolean isNewJournal = !journal.exists();
+        int numberOfRecords = 0;
+        FileWriter fw = new FileWriter(journal, true); // Appends to the journal
+        if (isNewJournal) {
+            fw.write(Journal.CHECKPOINT + appends.get(0).generation + System.lineSeparator());
+        }
+        for (Task append : appends) {
+            for (String record : append.records) {
+                fw.write(record + System.lineSeparator());
+            }
+            numberOfRecords += append.records.size();
+        }
+        fw.close();
+        LOGGER.fine("Appended " + numberOfRecords + " journal record(s) in " + appends.size() + " batch(es)");
+    }
+
+    /**
+     * Rotates out the active journal, writes the snapshot to a temporary file and atomically
+     * switches the data file to it. The rotated journal is only removed once the new snapshot is in place.
+     * If an earlier rotated journal was never covered by a snapshot, the active records are appended
+     * to it instead so that none are lost.
+     */
+    private void replaceSnapshot(byte[] snapshot) throws IOException {
+        if (Files.exists(journalPath) && Files.exists(rotatedPath)) {
+            List<String> records = Files.readAllLines(journalPath);
+            records.removeIf(record -> record.startsWith(Journal.CHECKPOINT));
+            Files.write(rotatedPath, records, StandardOpenOption.APPEND);
+            Files.delete(journalPath);
+        } else if (Files.exists(journalPath)) {
+            Files.move(journalPath, rotatedPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        Path temporary = Path.of(dataPath + TEMPORARY_SUFFIX);
+        Files.write(temporary, snapshot);
+        Files.move(temporary, dataPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(rotatedPath);
+        LOGGER.info("Wrote snapshot of " + snapshot.length + " byte(s) to " + dataPath);
+    }
+
+    private void replaceFiles(Map<Path, byte[]> files) throws IOException {
+        for (Map.Entry<Path, byte[]> file : files.entrySet()) {
+            if (file.getValue() == null) {
+                Files.deleteIfExists(file.getKey());
+                continue;
+            }
+            Path temporary = Path.of(file.getKey() + TEMPORARY_SUFFIX);
+            Files.createDirectories(file.getKey().toAbsolutePath().getParent());
+            Files.write(temporary, file.getValue());
+            Files.move(temporary, file.getKey(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        LOGGER.fine("Replaced " + files.size() + " file(s)");
+    }
+
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Represents one unit of work for the background thread.
+     */
+    private static class Task {
+        enum Kind { APPEND, SNAPSHOT, FILES, FLUSH, STOP }
+
+        private final Kind kind;
+        private final List<String> records;
+        private final int generation;
+        private final byte[] snapshot;
+        private final Map<Path, byte[]> files;
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private Task(Kind kind, List<String> records, int generation, byte[] snapshot, Map<Path, byte[]> files) {
+            this.kind = kind;
+            this.records = records;
+            this.generation = generation;
+            this.snapshot = snapshot;
+            this.files = files;
+        }
+
+        static Task append(List<String> records, int generation) {
+            return new Task(Kind.APPEND, records, generation, null, null);
+        }
+
+        static Task snapshot(byte[] snapshot) {
+            return new Task(Kind.SNAPSHOT, null, 0, snapshot, null);
+        }
+
+        static Task files(Map<Path, byte[]> files) {
+            return new Task(Kind.FILES, null, 0, null, files);
+        }
+
+        static Task flush() {
+            return new Task(Kind.FLUSH, null, 0, null, null);
+        }
+
+        static Task stop() {
+            return new Task(Kind.STOP, null, 0, null, null);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.budgetbuddy.storage;
+
+/**
+ * Represents the on-disk formats that the ledger snapshot can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable lines with fields separated by " | ". */
+    TEXT("txt"),
+
+    /** Versioned binary records with fixed-width fields. */
+    BINARY("bin"),
+
+    /** A directory of text files, one per month, that are loaded on demand. */
+    PARTITIONED("months"),
+
+    /** A directory of memory-mapped fixed-width records that are changed in place. */
+    MAPPED("mapped");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Retrieves the file extension used by data files of this format.
+     *
+     * @return The file extension, without the leading dot.
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Determines the format of a data file from its extension.
+     * Files that do not end with a known binary, partitioned or mapped extension are treated as text.
+     *
+     * @param filePath The path of the data file.
+     * @return The format of the data file.
+     */
+    public static StorageFormat fromPath(String filePath) {
+        if (filePath.endsWith("." + BINARY.fileExtension)) {
+            return BINARY;
+        }
+        if (filePath.endsWith("." + PARTITIONED.fileExtension)) {
+            return PARTITIONED;
+        }
+        if (filePath.endsWith("." + MAPPED.fileExtension)) {
+            return MAPPED;
+        }
+        return TEXT;
+    }
+
+    /**
+     * Parses a format name such as "text", "binary", "partitioned" or "mapped", ignoring case.
+     *
+     * @param name The name of the format.
+     * @return The matching format, or TEXT if the name is not recognised.
+     */
+    public static StorageFormat fromName(String name) {
+        if (name != null && name.equalsIgnoreCase("binary")) {
+            return BINARY;
+        }
+        if (name != null && name.equalsIgnoreCase("partitioned")) {
+            return PARTITIONED;
+        }
+        if (name != null && name.equalsIgnoreCase("mapped")) {
+            return MAPPED;
+        }
+        return TEXT;
+    }
+}
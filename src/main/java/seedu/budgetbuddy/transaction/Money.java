@@ -0,0 +1,66 @@
+package seedu.budgetbuddy.transaction;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts amounts of money between the decimal amounts entered, shown and stored, and whole numbers of cents.
+ * <p>
+ * Transactions, budgets and savings keep their amounts in cents as {@code long}s, so that totals are exact
+ * no matter how many amounts are added or deducted, and add up without creating objects. An amount
+ * is rounded to the nearest cent, with halves rounded away from zero, once when it enters the application.
+ * Amounts in cents are shown as they were shown as doubles, such as {@code 12.0} or {@code 3.3}, so that
+ * the output and the data files keep their format.
+ * </p>
+ */
+public class Money {
+    /** The largest amount that is accepted, so that totals of many amounts stay exact. */
+    public static final double MAX_AMOUNT = 1e13;
+    private static final int CENTS_PER_UNIT = 100;
+
+    /**
+     * Converts an amount to cents, rounding it to the nearest cent.
+     *
+     * @param amount The amount.
+     * @return The amount in cents.
+     */
+    public static long toCents(double amount) {
+        double scaled = amount * CENTS_PER_UNIT;
+        long cents = Math.round(scaled);
+        // An amount such as 1.005 scales to just below the half cent it stands for, and is rounded from its digits
+        if (Math.abs(Math.abs(scaled - cents) - 0.5) < 1e-6 && Double.isFinite(amount)) {
+            return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        }
+        return cents;
+    }
+
+    /**
+     * Converts an amount in cents to a decimal amount.
+     *
+     * @param cents The amount in cents.
+     * @return The amount, as the nearest double.
+     */
+    public static double toAmount(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
+    }
+
+    /**
+     * Formats an amount in cents the way a double amount is shown, such as {@code 12.0} or {@code 3.3}.
+     *
+     * @param cents The amount in cents.
+     * @return The formatted amount.
+     */
+    public static String format(long cents) {
+        return String.valueOf(toAmount(cents));
+    }
+
+    /**
+     * Checks whether an amount can be kept in cents.
+     *
+     * @param amount The amount.
+     * @return true if the amount is a number no larger than {@link #MAX_AMOUNT} in magnitude.
+     */
+    public static boolean isValid(double amount) {
+        return Double.isFinite(amount) && Math.abs(amount) <= MAX_AMOUNT;
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.budgetbuddy.transaction;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the total amount and the number of transactions of every month, overall and per category,
+ * up to date as transactions are added and removed, so that totals are read without going through
+ * the transactions.
+ * <p>
+ * Totals are kept in cents, so that removing a transaction gives back the total from before it was added
+ * exactly, however many transactions were added and removed in between.
+ * </p>
+ */
+public class MonthCategoryTotals {
+    private static final int CATEGORIES = Category.values().length;
+    /** Position of the total of the whole month, after those of the categories. */
+    private static final int MONTH_TOTAL = CATEGORIES;
+
+    private final TreeMap<YearMonth, Cells> months = new TreeMap<>();
+
+    /**
+     * Holds the totals of one month, one cell per category and one for the whole month.
+     */
+    private static class Cells {
+        private final long[] sums = new long[CATEGORIES + 1];
+        private final int[] counts = new int[CATEGORIES + 1];
+
+        private void add(int cell, long cents, int count) {
+            sums[cell] += cents;
+            counts[cell] += count;
+        }
+    }
+
+    /**
+     * Adds a transaction to the totals of its month and category.
+     *
+     * @param month The month of the transaction.
+     * @param category The category of the transaction, or null if it has none.
+     * @param cents The amount of the transaction in cents.
+     */
+    public void add(YearMonth month, Category category, long cents) {
+        Cells cells = months.computeIfAbsent(month, key -> new Cells());
+        if (category != null) {
+            cells.add(category.ordinal(), cents, 1);
+        }
+        cells.add(MONTH_TOTAL, cents, 1);
+    }
+
+    /**
+     * Removes a transaction that was added before from the totals of its month and category.
+     *
+     * @param month The month of the transaction.
+     * @param category The category of the transaction, or null if it has none.
+     * @param cents The amount of the transaction in cents.
+     */
+    public void remove(YearMonth month, Category category, long cents) {
+        Cells cells = months.get(month);
+        assert cells != null : "Only transactions that were added can be removed";
+        if (category != null) {
+            cells.add(category.ordinal(), -cents, -1);
+        }
+        cells.add(MONTH_TOTAL, -cents, -1);
+        if (cells.counts[MONTH_TOTAL] == 0) {
+            months.remove(month);
+        }
+    }
+
+    /**
+     * Removes every total.
+     */
+    public void clear() {
+        months.clear();
+    }
+
+    /**
+     * Retrieves the total amount of a month.
+     *
+     * @param month The month.
+     * @return The total, or 0.0 if the month has no transactions.
+     */
+    public double getTotal(YearMonth month) {
+        return Money.toAmount(getTotalInCents(month));
+    }
+
+    /**
+     * Retrieves the total amount of a month in cents.
+     *
+     * @param month The month.
+     * @return The total in cents, or 0 if the month has no transactions.
+     */
+    public long getTotalInCents(YearMonth month) {
+        Cells cells = months.get(month);
+        return (cells == null) ? 0 : cells.sums[MONTH_TOTAL];
+    }
+
+    /**
+     * Retrieves the total amount of a month in one category.
+     *
+     * @param month The month.
+     * @param category The category.
+     * @return The total, or 0.0 if the month has no transactions in the category.
+     */
+    public double getTotal(YearMonth month, Category category) {
+        return Money.toAmount(getTotalInCents(month, category));
+    }
+
+    /**
+     * Retrieves the total amount of a month in one category in cents.
+     *
+     * @param month The month.
+     * @param category The category.
+     * @return The total in cents, or 0 if the month has no transactions in the category.
+     */
+    public long getTotalInCents(YearMonth month, Category category) {
+        Cells cells = months.get(month);
+        return (cells == null) ? 0 : cells.sums[category.ordinal()];
+    }
+
+    /**
+     * Retrieves the number of transactions of a month.
+     *
+     * @param month The month.
+     * @return The number of transactions.
+     */
+    public int getCount(YearMonth month) {
+        Cells cells = months.get(month);
+        return (cells == null) ? 0 : cells.counts[MONTH_TOTAL];
+    }
+
+    /**
+     * Retrieves the number of transactions of a month in one category.
+     *
+     * @param month The month.
+     * @param category The category.
+     * @return The number of transactions.
+     */
+    public int getCount(YearMonth month, Category category) {
+        Cells cells = months.get(month);
+        return (cells == null) ? 0 : cells.counts[category.ordinal()];
+    }
+
+    /**
+     * Retrieves the total amounts per category of every month in the given range that has transactions.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The totals in cents, indexed by category ordinal, mapped by month in chronological order.
+     */
+    public TreeMap<YearMonth, long[]> getCategoryTotalsInCents(YearMonth from, YearMonth to) {
+        TreeMap<YearMonth, long[]> totals = new TreeMap<>();
+        for (Map.Entry<YearMonth, Cells> entry : months.subMap(from, true, to, true).entrySet()) {
+            totals.put(entry.getKey(), Arrays.copyOf(entry.getValue().sums, CATEGORIES));
+        }
+        return totals;
+    }
+
+    /**
+     * Retrieves the total amount of every month in the given range that has transactions.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The totals in cents mapped by month, in chronological order.
+     */
+    public TreeMap<YearMonth, Long> getTotalsInCents(YearMonth from, YearMonth to) {
+        TreeMap<YearMonth, Long> totals = new TreeMap<>();
+        for (Map.Entry<YearMonth, Cells> entry : months.subMap(from, true, to, true).entrySet()) {
+            totals.put(entry.getKey(), entry.getValue().sums[MONTH_TOTAL]);
+        }
+        return totals;
+    }
+}
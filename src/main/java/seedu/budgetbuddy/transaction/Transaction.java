@@ -5,10 +5,13 @@ import java.time.LocalDate;
 /**
  * The {@code Transaction} class represents a financial transaction.
  * It includes details about the transaction description, amount, and date.
+ * The amount is kept in cents, as described in {@link Money}, and the transaction has an id,
+ * handed out by {@link TransactionIds}, that identifies it whatever its position in the lists.
  */
 public class Transaction {
+    protected final long id;
     protected String description;
-    protected double amount;
+    protected long amountInCents;
     protected LocalDate date;
 
     /**
@@ -19,8 +22,22 @@ public class Transaction {
      * @param date        The date of the transaction.
      */
     public Transaction(String description, double amount, LocalDate date) {
+        this(TransactionIds.next(), description, amount, date);
+    }
+
+    /**
+     * Constructs a Transaction that was read from storage, with the id it was stored with.
+     *
+     * @param id          The stored id of the transaction, which is reserved.
+     * @param description A brief description of the transaction.
+     * @param amount      The amount of the transaction.
+     * @param date        The date of the transaction.
+     */
+    public Transaction(long id, String description, double amount, LocalDate date) {
+        TransactionIds.reserve(id);
+        this.id = id;
         this.description = description;
-        this.amount = amount;
+        this.amountInCents = Money.toCents(amount);
         this.date = date;
     }
 
@@ -32,13 +49,31 @@ public class Transaction {
     public String toString() {
         String output = "";
         output += "Description: " + description;
-        output += "  Amount: " + amount;
+        output += "  Amount: " + Money.format(amountInCents);
         output += "  Date: " + date;
         return output;
     }
 
+    /**
+     * Retrieves the id of the transaction.
+     *
+     * @return The id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the amount of the transaction in cents.
+     *
+     * @return The amount in cents.
+     */
+    public long getAmountInCents() {
+        return amountInCents;
+    }
+
     public void editAmount(double amount) {
-        this.amount = amount;
+        this.amountInCents = Money.toCents(amount);
     }
 
     public void editDate(LocalDate date) {
@@ -0,0 +1,44 @@
+package seedu.budgetbuddy.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the ids of expenses and incomes, which identify a transaction for as long as it exists,
+ * whatever its position in the lists.
+ * <p>
+ * Ids increase and are never reused. Ids read from storage are reserved, so that every id handed out
+ * afterwards is larger than the stored ones. The next id is stored along with the data, so that transactions
+ * that are not loaded yet are accounted for as well. Transactions may be read on several threads at once,
+ * so the counter is atomic.
+ * </p>
+ */
+public class TransactionIds {
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Hands out a new id.
+     *
+     * @return An id larger than every id handed out or reserved so far.
+     */
+    public static long next() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Reserves an id read from storage, so that it is never handed out again.
+     *
+     * @param id The stored id.
+     */
+    public static void reserve(long id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Retrieves the id that will be handed out next.
+     *
+     * @return The next id.
+     */
+    public static long getNextId() {
+        return nextId.get();
+    }
+}
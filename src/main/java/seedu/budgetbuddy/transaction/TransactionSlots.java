@@ -0,0 +1,317 @@
+package seedu.budgetbuddy.transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Keeps transactions in slots, in list order, so that a deleted transaction leaves a tombstone in its slot
+ * instead of moving every following transaction forward.
+ * <p>
+ * The position of a transaction is its place among the live ones, which is the number users see in listings.
+ * While there are no tombstones a position is its slot. Otherwise a Fenwick tree counting the live slots
+ * finds the slot of a position, and the position of a slot, in logarithmic time. The slot of a transaction
+ * is found from its id, through a map that is kept up to date as transactions are added and deleted.
+ * </p>
+ * <p>
+ * The tombstones are compacted away once they outnumber the live transactions, so that deletions take
+ * amortized constant time apart from finding their slot, and whenever the transactions are needed as
+ * a plain list, such as when a snapshot of the ledger is taken.
+ * </p>
+ *
+ * @param <T> The type of the transactions.
+ */
+public class TransactionSlots<T extends Transaction> implements Iterable<T> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private ArrayList<T> slots = new ArrayList<>();
+    private final HashMap<Long, Integer> slotsById = new HashMap<>();
+    /** Fenwick tree over the slots, where node {@code i} counts the live slots in {@code (i - lowbit(i), i]}. */
+    private int[] liveCounts = new int[INITIAL_CAPACITY + 1];
+    private int numberOfTombstones = 0;
+
+    /**
+     * Returns the number of live transactions.
+     *
+     * @return The number of transactions that were not deleted.
+     */
+    public int size() {
+        return slots.size() - numberOfTombstones;
+    }
+
+    /**
+     * Returns the number of slots, including those of deleted transactions.
+     *
+     * @return The number of slots.
+     */
+    public int getNumberOfSlots() {
+        return slots.size();
+    }
+
+    /**
+     * Returns whether there are tombstones that were not compacted yet.
+     *
+     * @return true if a transaction was deleted since the last compaction.
+     */
+    public boolean hasTombstones() {
+        return numberOfTombstones > 0;
+    }
+
+    /**
+     * Retrieves the transaction at the given position among the live ones.
+     *
+     * @param position The position of the transaction, starting from 0.
+     * @return The transaction.
+     * @throws IndexOutOfBoundsException If there is no transaction at the position.
+     */
+    public T get(int position) {
+        return slots.get(findSlot(position));
+    }
+
+    /**
+     * Retrieves the transaction in the given slot.
+     *
+     * @param slot The slot.
+     * @return The transaction, or null if it was deleted.
+     */
+    public T getSlot(int slot) {
+        return slots.get(slot);
+    }
+
+    /**
+     * Finds the slot of the transaction at the given position among the live ones.
+     *
+     * @param position The position of the transaction, starting from 0.
+     * @return The slot.
+     * @throws IndexOutOfBoundsException If there is no transaction at the position.
+     */
+    public int findSlot(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Index " + position + " out of bounds for length " + size());
+        }
+        if (numberOfTombstones == 0) {
+            return position;
+        }
+        int node = 0;
+        int remaining = position + 1;
+        for (int step = Integer.highestOneBit(slots.size()); step > 0; step >>= 1) {
+            if (node + step <= slots.size() && liveCounts[node + step] < remaining) {
+                node += step;
+                remaining -= liveCounts[node];
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Finds the slot of the given transaction from its id.
+     *
+     * @param transaction The transaction.
+     * @return The slot, or -1 if the transaction is not kept here.
+     */
+    public int findSlotOf(T transaction) {
+        Integer slot = slotsById.get(transaction.getId());
+        return (slot == null || slots.get(slot) != transaction) ? -1 : slot;
+    }
+
+    /**
+     * Finds the slot of the transaction with the given id.
+     *
+     * @param id The id of the transaction.
+     * @return The slot, or -1 if no transaction with the id is kept here.
+     */
+    public int findSlotById(long id) {
+        Integer slot = slotsById.get(id);
+        return (slot == null) ? -1 : slot;
+    }
+
+    /**
+     * Finds the position of the given transaction among the live ones.
+     *
+     * @param transaction The transaction.
+     * @return The position, starting from 0, or -1 if the transaction is not kept here.
+     */
+    public int findPosition(T transaction) {
+        int slot = findSlotOf(transaction);
+        if (slot < 0 || numberOfTombstones == 0) {
+            return slot;
+        }
+        int position = 0;
+        for (int node = slot; node > 0; node -= Integer.lowestOneBit(node)) {
+            position += liveCounts[node];
+        }
+        return position;
+    }
+
+    /**
+     * Adds a transaction in a new slot after every other one.
+     *
+     * @param transaction The transaction.
+     * @return The slot of the transaction.
+     */
+    public int add(T transaction) {
+        int slot = slots.size();
+        slots.add(transaction);
+        slotsById.put(transaction.getId(), slot);
+        appendLiveCount(slot);
+        return slot;
+    }
+
+    /**
+     * Replaces the transaction in the given slot with another one that has the same id, such as
+     * a new state of the same transaction.
+     *
+     * @param slot The slot of the transaction.
+     * @param transaction The transaction to keep in the slot instead.
+     * @return The replaced transaction.
+     */
+    public T replaceSlot(int slot, T transaction) {
+        T replaced = slots.set(slot, transaction);
+        assert replaced != null : "The slot was already deleted";
+        assert replaced.getId() == transaction.getId() : "The transaction must keep its id";
+        return replaced;
+    }
+
+    /**
+     * Deletes the transaction in the given slot, leaving a tombstone in its place.
+     *
+     * @param slot The slot of the transaction.
+     * @return The deleted transaction.
+     */
+    public T removeSlot(int slot) {
+        T removed = slots.set(slot, null);
+        assert removed != null : "The slot was already deleted";
+        slotsById.remove(removed.getId());
+        numberOfTombstones++;
+        for (int node = slot + 1; node <= slots.size(); node += Integer.lowestOneBit(node)) {
+            liveCounts[node]--;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns whether the tombstones outnumber the live transactions, which is when they are compacted
+     * after a deletion.
+     *
+     * @return true if the slots should be compacted.
+     */
+    public boolean isSparse() {
+        return numberOfTombstones > size();
+    }
+
+    /**
+     * Removes the tombstones, moving every live transaction to the slot of its position.
+     *
+     * @return true if there were tombstones, so that the slots of transactions changed.
+     */
+    public boolean compact() {
+        if (numberOfTombstones == 0) {
+            return false;
+        }
+        slots.removeIf(transaction -> transaction == null);
+        reindex();
+        return true;
+    }
+
+    /**
+     * Retrieves the live transactions as a list, in order, compacting the slots first. The list must only
+     * be changed directly when {@link #reindex()} is called afterwards.
+     *
+     * @return The list of transactions, whose positions are their slots.
+     */
+    public ArrayList<T> getTransactions() {
+        compact();
+        return slots;
+    }
+
+    /**
+     * Replaces the transactions with those of the given list, which is kept as the slots.
+     *
+     * @param transactions The transactions, in order.
+     */
+    public void setTransactions(ArrayList<T> transactions) {
+        slots = transactions;
+        slots.removeIf(transaction -> transaction == null);
+        reindex();
+    }
+
+    /**
+     * Rebuilds the map of ids and the counts of live slots from the slots, after the list returned by
+     * {@link #getTransactions()} was changed directly. The list must hold no tombstones.
+     */
+    public void reindex() {
+        numberOfTombstones = 0;
+        slotsById.clear();
+        liveCounts = new int[Math.max(slots.size(), INITIAL_CAPACITY) + 1];
+        for (int slot = 0; slot < slots.size(); slot++) {
+            slotsById.put(slots.get(slot).getId(), slot);
+            liveCounts[slot + 1] = Integer.lowestOneBit(slot + 1);
+        }
+    }
+
+    /**
+     * Removes every transaction and tombstone.
+     */
+    public void clear() {
+        slots.clear();
+        reindex();
+    }
+
+    /**
+     * Returns an iterator over the live transactions, in order, skipping the tombstones.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int slot = nextLiveSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < slots.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T transaction = slots.get(slot);
+                slot = nextLiveSlot(slot + 1);
+                return transaction;
+            }
+        };
+    }
+
+    private int nextLiveSlot(int slot) {
+        while (slot < slots.size() && slots.get(slot) == null) {
+            slot++;
+        }
+        return slot;
+    }
+
+    /**
+     * Sets the count of the node of a slot added at the end. The node covers the slots from the one after
+     * {@code node - lowbit(node)} up to the new one, which are all live when there are no tombstones.
+     */
+    private void appendLiveCount(int slot) {
+        int node = slot + 1;
+        if (node >= liveCounts.length) {
+            liveCounts = Arrays.copyOf(liveCounts, liveCounts.length * 2);
+        }
+        int covered = Integer.lowestOneBit(node);
+        if (numberOfTombstones == 0) {
+            liveCounts[node] = covered;
+            return;
+        }
+        // The children of the node cover the slots before the new one, a power of two smaller each time
+        int count = 1;
+        for (int child = node - 1; child > node - covered; child -= Integer.lowestOneBit(child)) {
+            count += liveCounts[child];
+        }
+        liveCounts[node] = count;
+    }
+}
@@ -2,22 +2,30 @@ package seedu.budgetbuddy.transaction.budget;
 
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Money;
 
 import java.time.YearMonth;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * Represents a budget for a specific month and year.
  * A budget tracks a specified amount of money for each category and calculates the total budget for the month.
  * Provides methods to add category-specific amounts, adjust the budget, and retrieve details.
+ * Amounts are kept in cents, as described in {@link Money}, in an array indexed by category ordinal,
+ * and the total is kept up to date as each category amount changes.
  */
 public class Budget {
+    private static final Category[] CATEGORIES = Category.values();
 
     private double amount;
     private YearMonth date;
-    private Map<Category, Double> categoryBudgets;
-    private double totalMonthlyBudget;
+    private long[] categoryBudgets;
+    /** Whether each category has a budget, which may be zero or negative once expenses are deducted. */
+    private boolean[] hasCategoryBudget;
+    private int numberOfCategoryBudgets;
+    private long totalMonthlyBudget;
 
     /**
      * Constructs a Budget object with the specified amount and date.
@@ -27,7 +35,8 @@ public class Budget {
     public Budget(YearMonth date) {
         assert amount >= 0 : "Initial amount cannot be negative";
         this.date = date;
-        this.categoryBudgets = new HashMap<>();
+        this.categoryBudgets = new long[CATEGORIES.length];
+        this.hasCategoryBudget = new boolean[CATEGORIES.length];
     }
 
     /**
@@ -38,7 +47,9 @@ public class Budget {
     public Budget(Budget other) {
         this.amount = other.amount; // Copy the original amount
         this.date = other.date; // Copy the date
-        this.categoryBudgets = new HashMap<>(other.categoryBudgets); // Deep copy of the category budgets
+        this.categoryBudgets = Arrays.copyOf(other.categoryBudgets, CATEGORIES.length); // Deep copy
+        this.hasCategoryBudget = Arrays.copyOf(other.hasCategoryBudget, CATEGORIES.length);
+        this.numberOfCategoryBudgets = other.numberOfCategoryBudgets;
         this.totalMonthlyBudget = other.totalMonthlyBudget; // Copy the total monthly budget
     }
 
@@ -51,8 +62,7 @@ public class Budget {
      * @param amount   The amount to be added for the specified category.
      */
     public void addAmount(Category category, double amount) {
-        categoryBudgets.put(category, categoryBudgets.getOrDefault(category, 0.0) + amount);
-        updateTotalBudget();
+        setCategoryBudget(category, getCategoryBudgetInCents(category) + Money.toCents(amount));
     }
 
     /**
@@ -64,18 +74,21 @@ public class Budget {
      */
     public void deductAmount(Category category, double deductedAmount) {
         assert deductedAmount >= 0 : "Amount to deduct cannot be negative";
-        double currentAmount = categoryBudgets.getOrDefault(category, 0.0);
+        long currentAmount = getCategoryBudgetInCents(category);
+        long deductedCents = Money.toCents(deductedAmount);
+        long previousTotal = totalMonthlyBudget;
 
         // Deduct the amount or remove the category if the budget goes to zero or below
-        if (currentAmount - deductedAmount <= 0) {
-            categoryBudgets.remove(category);
+        if (currentAmount - deductedCents <= 0) {
+            removeCategoryBudget(category);
         } else {
-            categoryBudgets.put(category, currentAmount - deductedAmount);
+            setCategoryBudget(category, currentAmount - deductedCents);
         }
-        if (categoryBudgets.isEmpty()) {
+        if (numberOfCategoryBudgets == 0) {
+            // A deleted budget is shown with the total it had before the deduction
+            totalMonthlyBudget = previousTotal;
             BudgetManager.deleteBudget(this);
         } else {
-            updateTotalBudget();
             Ui.displayBudgetTransactionMessage(toString(), BudgetManager.getNumberOfBudgets());
         }
     }
@@ -85,24 +98,35 @@ public class Budget {
      * This is used by RemainingBudgetManager
      *
      * @param category        The category from which the amount should be deducted.
-     * @param deductedAmount  The amount to be deducted.
+     * @param deductedCents   The amount to be deducted, in cents.
      */
-    public void deductExpense(Category category, double deductedAmount) {
-        assert deductedAmount >= 0 : "Amount to deduct cannot be negative";
-        double currentAmount = categoryBudgets.getOrDefault(category, 0.0);
-
+    public void deductExpense(Category category, long deductedCents) {
+        assert deductedCents >= 0 : "Amount to deduct cannot be negative";
         // Deduct the amount and allow the category to go negative
-        categoryBudgets.put(category, currentAmount - deductedAmount);
-
-        // Update the total budget
-        updateTotalBudget();
+        setCategoryBudget(category, getCategoryBudgetInCents(category) - deductedCents);
     }
 
     /**
-     * Updates the total monthly budget by summing up all the category budgets.
+     * Sets the budget of a category, and updates the total monthly budget by the difference.
      */
-    private void updateTotalBudget() {
-        totalMonthlyBudget = categoryBudgets.values().stream().mapToDouble(Double::doubleValue).sum();
+    private void setCategoryBudget(Category category, long cents) {
+        int ordinal = category.ordinal();
+        if (!hasCategoryBudget[ordinal]) {
+            hasCategoryBudget[ordinal] = true;
+            numberOfCategoryBudgets++;
+        }
+        totalMonthlyBudget += cents - categoryBudgets[ordinal];
+        categoryBudgets[ordinal] = cents;
+    }
+
+    private void removeCategoryBudget(Category category) {
+        int ordinal = category.ordinal();
+        if (hasCategoryBudget[ordinal]) {
+            hasCategoryBudget[ordinal] = false;
+            numberOfCategoryBudgets--;
+        }
+        totalMonthlyBudget -= categoryBudgets[ordinal];
+        categoryBudgets[ordinal] = 0;
     }
 
     /**
@@ -111,11 +135,43 @@ public class Budget {
      * @return The total budget for the month.
      */
     public double getTotalMonthlyBudget() {
-        return totalMonthlyBudget;
+        return Money.toAmount(totalMonthlyBudget);
     }
 
+    /**
+     * Retrieves the budget of every category that has one, as amounts, in the order of the categories.
+     * The map is a copy, so changing it does not change the budget.
+     *
+     * @return The budgets mapped by category.
+     */
     public Map<Category, Double> getCategoryBudgets() {
-        return categoryBudgets;
+        Map<Category, Double> amounts = new EnumMap<>(Category.class);
+        for (Category category : CATEGORIES) {
+            if (hasCategoryBudget(category)) {
+                amounts.put(category, Money.toAmount(getCategoryBudgetInCents(category)));
+            }
+        }
+        return amounts;
+    }
+
+    /**
+     * Checks whether a category has a budget, which may be zero or negative once expenses are deducted.
+     *
+     * @param category The category.
+     * @return true if the category has a budget.
+     */
+    public boolean hasCategoryBudget(Category category) {
+        return hasCategoryBudget[category.ordinal()];
+    }
+
+    /**
+     * Retrieves the budget of a category in cents.
+     *
+     * @param category The category.
+     * @return The budget in cents, or 0 if the category has none.
+     */
+    public long getCategoryBudgetInCents(Category category) {
+        return categoryBudgets[category.ordinal()];
     }
 
     /**
@@ -133,16 +189,17 @@ public class Budget {
      * @return A string in the format "Amount: {amount}  Date: {date}".
      */
     public String toString() {
-        String output = "Total Monthly Budget: " + totalMonthlyBudget;
+        String output = "Total Monthly Budget: " + Money.format(totalMonthlyBudget);
         output += "  Date: " + date;
 
-        // Sort categoryBudgets by key (category name) and build the string
-        String sortedCategories = categoryBudgets.entrySet()
-                .stream()
-                .sorted(Map.Entry.comparingByKey())  // Sort by category names
-                .map(entry -> entry.getKey() + "=" + entry.getValue())  // Convert to "Category=Budget" format
-                .reduce((c1, c2) -> c1 + ", " + c2)  // Join entries with ", "
-                .orElse("");  // Handle the case when the map is empty
+        // List the categories in their order, in "Category=Budget" format
+        StringBuilder sortedCategories = new StringBuilder();
+        for (Category category : CATEGORIES) {
+            if (hasCategoryBudget(category)) {
+                sortedCategories.append((sortedCategories.length() == 0) ? "" : ", ")
+                        .append(category).append('=').append(Money.format(getCategoryBudgetInCents(category)));
+            }
+        }
 
         output += "  Category: {" + sortedCategories + "}";
         return output;
@@ -1,20 +1,24 @@
 package seedu.budgetbuddy.transaction.budget;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.util.LoggerSetup;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 /**
  * Manages the budgets for different months and years.
  * Provides methods to add, retrieve, and manage multiple budgets.
+ * Budgets are kept in a map ordered by month, so that a budget is found in O(log n), the latest budgets
+ * are read from the end of the map without sorting, and the budgets between two months are a range of it.
  */
 public class BudgetManager {
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private static int numberOfBudgets = 0;
-    private static ArrayList<Budget> budgets = new ArrayList<>();
+    private static final TreeMap<YearMonth, Budget> budgets = new TreeMap<>();
 
     /**
      * Construct a BudgetManager of array content incomes
@@ -23,7 +27,10 @@ public class BudgetManager {
      * @param numberOfBudgets The initial count of budgets managed by BudgetManager.
      */
     public BudgetManager(ArrayList<Budget> budgets, int numberOfBudgets){
-        BudgetManager.budgets = budgets;
+        BudgetManager.budgets.clear();
+        for (Budget budget : budgets) {
+            BudgetManager.budgets.putIfAbsent(budget.getDate(), budget);
+        }
         BudgetManager.numberOfBudgets = numberOfBudgets;
     }
 
@@ -35,7 +42,8 @@ public class BudgetManager {
      */
     public static void addBudget(Budget budget) {
         assert budget != null : "Budget to be added cannot be null";
-        budgets.add(budget);
+        assert !budgets.containsKey(budget.getDate()) : "A month can only have one budget";
+        budgets.put(budget.getDate(), budget);
         numberOfBudgets++;
         LOGGER.info("Added budget: " + budget);
     }
@@ -48,7 +56,7 @@ public class BudgetManager {
      */
     public static void deleteBudget(Budget budget) {
         assert budget != null : "Budget to be deleted cannot be null";
-        budgets.remove(budget);
+        budgets.remove(budget.getDate(), budget);
         numberOfBudgets--;
         LOGGER.info("Deleted budget: " + budget);
         Ui.displayBudgetDeletedMessage(budget.toString(), numberOfBudgets);
@@ -71,14 +79,26 @@ public class BudgetManager {
      */
     public static Budget getBudget(YearMonth date) {
         assert date != null : "Date cannot be null";
-        for (Budget budget : budgets) {
-            if (budget.getDate().equals(date)) {
-                LOGGER.info("Retrieved budget for date: " + date);
-                return budget;
-            }
+        Budget budget = budgets.get(date);
+        if (budget == null) {
+            LOGGER.info("No budget found for date: " + date);
         }
-        LOGGER.info("No budget found for date: " + date);
-        return null; // No budget found for the specified date
+        return budget; // null if no budget is found for the specified date
+    }
+
+    /**
+     * Retrieves the budgets of the months in the given range.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The budgets of the range, latest first.
+     */
+    public static ArrayList<Budget> getBudgets(YearMonth from, YearMonth to) {
+        assert from != null && to != null : "Range cannot be null";
+        if (from.isAfter(to)) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(budgets.subMap(from, true, to, true).descendingMap().values());
     }
 
     /**
@@ -86,26 +106,36 @@ public class BudgetManager {
      * Displays each budget with its corresponding number.
      */
     public static void listBudgets(YearMonth date) {
-        String result = "";
-
-        // Sort the budgets by YearMonth in descending order
-        budgets.sort((b1, b2) -> b2.getDate().compareTo(b1.getDate()));
+        listBudgets(date, Listing.toUser());
+    }
 
+    /**
+     * Lists the budget of the given month, or the latest budgets, as many as fit on the page of the listing.
+     * Without a page, the 12 latest budgets are listed.
+     * Displays each budget with its corresponding number.
+     *
+     * @param date The month of the budget to list, or null for the latest budgets.
+     * @param listing The listing to write the budgets to, which is only used for the latest budgets.
+     */
+    public static void listBudgets(YearMonth date, Listing listing) {
         if (date == null) {
             LOGGER.info("No date specified for listing budget.");
 
-            result += "Here are the 12 latest budgets:\n";
-
-            int entriesToDisplay = Math.min(budgets.size(), 12);
-            for (int counter = 1; counter <= entriesToDisplay; counter++) {
-                Budget budget = budgets.get(counter - 1);
-                result += counter + ". " + budget.toString() + "\n";
+            listing.setDefaultLimit(12);
+            listing.addLine(listing.isPaged() ? "Here are the latest budgets:" : "Here are the 12 latest budgets:");
+            // The budgets are read by YearMonth in descending order
+            for (Budget budget : budgets.descendingMap().values()) {
+                if (!listing.addNumberedRow(budget)) {
+                    break;
+                }
             }
+            listing.finish();
         } else {
             // Assume validator guarantees date is valid
             LOGGER.info("Listing budgets for date: " + date);
 
             Budget budget = getBudget(date);
+            String result = "";
 
             if (budget != null) {
                 result += "Here is the budget for the specified month:\n";
@@ -113,17 +143,17 @@ public class BudgetManager {
             } else {
                 result += "No budget found for date: " + date;
             }
+            Ui.displayToUser(result);
         }
-        Ui.displayToUser(result);
     }
 
     /**
      * A get-function to obtain the information in the current Budget List.
      *
-     * @return return the budget ArrayList
+     * @return return the budgets in a new ArrayList, latest first
      */
     public static ArrayList<Budget> getBudgets() {
-        return budgets;
+        return new ArrayList<>(budgets.descendingMap().values());
     }
 
     /**
@@ -1,115 +1,97 @@
 package seedu.budgetbuddy.transaction.budget;
 
-import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.transaction.Category;
-import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.Money;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 /**
  * Manages the remaining budgets after expenses have been deducted from the budgets.
- * Initializes the remaining budgets based on the current expenses and provides functionality
- * to retrieve and list remaining budgets.
+ * Provides functionality to retrieve and list remaining budgets.
+ * <p>
+ * Remaining budgets are not rebuilt by replaying every expense. The budgets of {@link BudgetManager} and the
+ * expense totals per month and category of {@link ExpenseManager} are both kept up to date as budgets
+ * and expenses change, so the remaining budget of a month and category is their difference, read in O(1),
+ * and the listing reads each month once.
+ * </p>
  */
 public class RemainingBudgetManager {
 
     /** Logger to record events and operations for RemainingBudgetManager. */
     private static final Logger LOGGER = LoggerSetup.getLogger();
 
-    /** List of budgets after expenses have been deducted. */
-    private ArrayList<Budget> remainingBudgets;
-
     /**
-     * Constructs a new RemainingBudgetManager. Initializes the remaining budgets by copying
-     * the existing budgets and deducting the appropriate expenses.
+     * Constructs a new RemainingBudgetManager, which reads the current budgets and expenses when it is used.
      */
     public RemainingBudgetManager() {
-        remainingBudgets = new ArrayList<>();
-        copyBudgetManager();
-        ArrayList<Expense> expenses = ExpenseManager.getExpenses();
-        for (Expense expense : expenses) {
-            YearMonth expenseDate = YearMonth.from(expense.getDate());
-            Category expenseCategory = expense.getCategory();
-            double expenseAmount = expense.getAmount();
-
-            // Try to find a budget for the expense's YearMonth
-            Budget matchingBudget = null;
-
-            matchingBudget = searchForGivenBudget(expenseDate, matchingBudget);
-
-            // If no budget is found, create a new one with zero initial amount
-            matchingBudget = createNewBudget(matchingBudget, expenseDate);
-
-            // Deduct the expense from the matching budget (allowing it to go negative)
-            matchingBudget.deductExpense(expenseCategory, expenseAmount);
-            LOGGER.info("Deducted " + expenseAmount + " from budget for " + expenseDate
-                    + " in category " + expenseCategory);
-        }
-        LOGGER.info("Remaining budgets initialized and updated after deductions.");
+        LOGGER.info("Remaining budgets read from the current budgets and expense totals.");
     }
 
     /**
-     * Creates a new budget for a given date if no matching budget is found.
+     * Builds the remaining budget of a month by deducting its expense totals from a copy of its budget.
      *
-     * @param matchingBudget The existing matching budget, or null if no budget exists.
-     * @param expenseDate The date (YearMonth) of the expense.
-     * @return The new or existing budget for the specified date.
+     * @param month The month of the remaining budget.
+     * @param expenseTotals The expense totals of the month in cents, indexed by category ordinal,
+     *     or null if the month has no expenses.
+     * @return The remaining budget, or null if the month has neither a budget nor expenses.
      */
-    private Budget createNewBudget(Budget matchingBudget, YearMonth expenseDate) {
-        assert expenseDate != null : "Expense date cannot be null";
-        if (matchingBudget == null) {
-            matchingBudget = new Budget(expenseDate);
-            remainingBudgets.add(matchingBudget);  // Add the new budget to the list
-            LOGGER.info("Created new budget for " + expenseDate + " with initial amount 0.0");
+    private static Budget getRemainingBudget(YearMonth month, long[] expenseTotals) {
+        Budget budget = BudgetManager.getBudget(month);
+        if (budget == null && expenseTotals == null) {
+            return null;
         }
-        return matchingBudget;
-    }
-
-    /**
-     * Searches for an existing budget that matches the specified date.
-     *
-     * @param expenseDate The date (YearMonth) to search for.
-     * @param matchingBudget The budget to match, initially null.
-     * @return The matching budget, or null if none is found.
-     */
-    private Budget searchForGivenBudget(YearMonth expenseDate, Budget matchingBudget) {
-        for (Budget budget : remainingBudgets) {
-            if (budget.getDate().equals(expenseDate)) {
-                matchingBudget = budget;
-                LOGGER.info("Found existing budget for date: " + expenseDate);
-                break;
+        // If no budget is found, start from an empty one, so that the expenses make it negative
+        Budget remainingBudget = (budget == null) ? new Budget(month) : new Budget(budget);
+        Category[] categories = Category.values();
+        for (int i = 0; expenseTotals != null && i < categories.length; i++) {
+            if (expenseTotals[i] != 0) {
+                remainingBudget.deductExpense(categories[i], expenseTotals[i]);
             }
         }
-        return matchingBudget;
+        return remainingBudget;
     }
 
     /**
-     * Copies the existing budgets from the BudgetManager to initialize the remainingBudgets.
+     * Lists all remaining budgets after expenses have been deducted.
+     * Displays the result to the user through the UI.
      */
-    private void copyBudgetManager() {
-        ArrayList<Budget> budgets = BudgetManager.getBudgets();
-        assert budgets != null : "BudgetManager's budgets cannot be null";
-        for (Budget budget : budgets) {
-            remainingBudgets.add(new Budget(budget));
-            LOGGER.info("Copied budget: " + budget);
-        }
+    public void listRemainingBudgets() {
+        listRemainingBudgets(Listing.toUser());
     }
 
     /**
-     * Lists all remaining budgets after expenses have been deducted.
-     * Displays the result to the user through the UI.
+     * Lists the remaining budgets after expenses have been deducted, as many as fit on the page of the listing.
+     * The months with a budget come first, followed by the months with expenses but no budget,
+     * each latest first.
+     *
+     * @param listing The listing to write the remaining budgets to.
      */
-    public void listRemainingBudgets() {
-        String result = "All budgets after deductions:\n";
-        for (Budget budget : remainingBudgets) {
-            result += budget + "\n";
+    public void listRemainingBudgets(Listing listing) {
+        listing.addLine("All budgets after deductions:");
+        TreeMap<YearMonth, long[]> expenseTotals = ExpenseManager.getCategoryTotalsInCents();
+        boolean hasMoreRows = true;
+        for (Budget budget : BudgetManager.getBudgets()) {
+            hasMoreRows = listing.addRow(getRemainingBudget(budget.getDate(), expenseTotals.get(budget.getDate())));
+            if (!hasMoreRows) {
+                break;
+            }
+        }
+        for (Map.Entry<YearMonth, long[]> entry : expenseTotals.descendingMap().entrySet()) {
+            if (!hasMoreRows) {
+                break;
+            }
+            if (BudgetManager.getBudget(entry.getKey()) == null) {
+                hasMoreRows = listing.addRow(getRemainingBudget(entry.getKey(), entry.getValue()));
+            }
         }
-        Ui.displayToUser(result);
+        listing.finish();
         LOGGER.info("Displayed all remaining budgets to user.");
     }
 
@@ -125,21 +107,19 @@ public class RemainingBudgetManager {
         assert date != null : "Date cannot be null";
         assert category != null : "Category cannot be null";
 
-        for (Budget budget : remainingBudgets) {
-            if (budget.getDate().equals(expenseMonth)) {
-                Double remainingAmount = budget.getCategoryBudgets().get(category);
-                if (remainingAmount == null) {
-                    remainingAmount = 0.0; // If the category does not exist, assume remaining amount is 0
-                }
-                LOGGER.info("Retrieved remaining budget for " + expenseMonth + " in category " + category
-                        + ": " + remainingAmount);
-                String result = "The remaining budget for " + expenseMonth + " in the " + category
-                        + " category is: " + remainingAmount;
-                if (remainingAmount < 0) {
-                    result += "\nCaution! You have exceeded your budget!";
-                }
-                return result;
+        Budget budget = BudgetManager.getBudget(expenseMonth);
+        if (budget != null || ExpenseManager.getMonthlyExpenseInCents(expenseMonth) != 0) {
+            // If the category does not exist, its budget is 0
+            long budgetAmount = (budget == null) ? 0 : budget.getCategoryBudgetInCents(category);
+            long remainingAmount = budgetAmount - ExpenseManager.getMonthlyExpenseInCents(expenseMonth, category);
+            LOGGER.info("Retrieved remaining budget for " + expenseMonth + " in category " + category
+                    + ": " + Money.format(remainingAmount));
+            String result = "The remaining budget for " + expenseMonth + " in the " + category
+                    + " category is: " + Money.format(remainingAmount);
+            if (remainingAmount < 0) {
+                result += "\nCaution! You have exceeded your budget!";
             }
+            return result;
         }
 
         // If no budget is found for the specified date
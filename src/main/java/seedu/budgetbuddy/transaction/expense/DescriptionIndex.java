@@ -0,0 +1,283 @@
+package seedu.budgetbuddy.transaction.expense;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Indexes expenses by the lowercase words and trigrams of their descriptions, so that a search only goes
+ * through the expenses holding a matching word, or every trigram of the keyword, instead of through
+ * every description.
+ * <p>
+ * Every expense gets a sequence number that follows its position in the expense list, and each word
+ * and each trigram, which is a run of three characters, maps to the sorted sequence numbers
+ * of the expenses whose lowercase description holds it. Expenses added at the end
+ * of the list are indexed as they are added. When expenses are inserted anywhere else, the index is marked
+ * as stale and rebuilt from the list at the next search. Deleted expenses leave a gap that is skipped
+ * until then.
+ * </p>
+ */
+public class DescriptionIndex {
+    private final HashMap<String, Postings> postings = new HashMap<>();
+    private final HashMap<Long, Postings> trigramPostings = new HashMap<>();
+    private final IdentityHashMap<Expense, Integer> sequenceNumbers = new IdentityHashMap<>();
+    private final ArrayList<Expense> bySequenceNumber = new ArrayList<>();
+    private int numberOfGaps = 0;
+    private boolean isStale = false;
+
+    /**
+     * Holds the sequence numbers of the expenses whose description holds one word, in increasing order.
+     */
+    private static class Postings {
+        private int[] sequenceNumbers;
+        private int size = 0;
+
+        private Postings(int capacity) {
+            sequenceNumbers = new int[Math.max(capacity, 2)];
+        }
+
+        private void add(int sequenceNumber) {
+            if (size > 0 && sequenceNumbers[size - 1] == sequenceNumber) {
+                return;
+            }
+            if (size == sequenceNumbers.length) {
+                sequenceNumbers = Arrays.copyOf(sequenceNumbers, size * 2);
+            }
+            sequenceNumbers[size++] = sequenceNumber;
+        }
+    }
+
+    /**
+     * Indexes an expense that was added at the end of the expense list.
+     *
+     * @param expense The added expense.
+     */
+    public void add(Expense expense) {
+        if (isStale) {
+            return;
+        }
+        int sequenceNumber = bySequenceNumber.size();
+        bySequenceNumber.add(expense);
+        sequenceNumbers.put(expense, sequenceNumber);
+        String lowerCaseDescription = expense.getDescription().toLowerCase();
+        for (String word : splitWords(lowerCaseDescription)) {
+            postings.computeIfAbsent(word, key -> new Postings(2)).add(sequenceNumber);
+        }
+        for (int i = 0; i + 3 <= lowerCaseDescription.length(); i++) {
+            trigramPostings.computeIfAbsent(getTrigram(lowerCaseDescription, i), key -> new Postings(2))
+                    .add(sequenceNumber);
+        }
+    }
+
+    /**
+     * Removes a deleted expense from the index.
+     *
+     * @param expense The deleted expense.
+     */
+    public void remove(Expense expense) {
+        if (isStale) {
+            return;
+        }
+        Integer sequenceNumber = sequenceNumbers.remove(expense);
+        if (sequenceNumber == null) {
+            return;
+        }
+        bySequenceNumber.set(sequenceNumber, null);
+        numberOfGaps++;
+        if (numberOfGaps > sequenceNumbers.size()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Marks the index as stale, after expenses were inserted or moved within the expense list,
+     * so that it is rebuilt at the next search.
+     */
+    public void invalidate() {
+        isStale = true;
+        postings.clear();
+        trigramPostings.clear();
+        sequenceNumbers.clear();
+        bySequenceNumber.clear();
+        numberOfGaps = 0;
+    }
+
+    /**
+     * Finds the expenses with a description that holds the words of the given lowercase query.
+     * <p>
+     * A query word matches the indexed word equal to it, which is looked up directly. When every word
+     * is required, the result holds the expenses matching all query words. Otherwise the result holds
+     * the expenses matching at least one query word. A query without words matches every expense.
+     * </p>
+     *
+     * @param expenses The expenses in list order, used to rebuild the index when it is stale.
+     * @param lowerCaseQuery The lowercase query.
+     * @param isEveryWordRequired Whether the expenses must match every query word instead of any.
+     * @return The matching expenses, in the order of the expense list.
+     */
+    public List<Expense> find(Iterable<Expense> expenses, String lowerCaseQuery, boolean isEveryWordRequired) {
+        if (isStale) {
+            rebuild(expenses);
+        }
+        ArrayList<String> queryWords = splitWords(lowerCaseQuery);
+        if (queryWords.isEmpty()) {
+            return toExpenses(null);
+        }
+        Postings found = null;
+        for (String queryWord : queryWords) {
+            Postings matches = findWord(queryWord);
+            if (found == null) {
+                found = matches;
+            } else if (isEveryWordRequired) {
+                found = intersect(found, matches);
+            } else {
+                found = union(found, matches);
+            }
+            if (found.size == 0 && isEveryWordRequired) {
+                break;
+            }
+        }
+        return toExpenses(found);
+    }
+
+    /**
+     * Finds the expenses with a description that may contain the given lowercase keyword.
+     * <p>
+     * A keyword of at least three characters is looked up by its trigrams, and the result holds the expenses
+     * whose description holds all of them. A shorter keyword has no trigrams, so the result holds every
+     * expense. Either way, the result includes every description containing the keyword, so the caller
+     * only checks those.
+     * </p>
+     *
+     * @param expenses The expenses in list order, used to rebuild the index when it is stale.
+     * @param lowerCaseKeyword The lowercase keyword.
+     * @return The matching expenses, in the order of the expense list.
+     */
+    public List<Expense> findContaining(Iterable<Expense> expenses, String lowerCaseKeyword) {
+        if (isStale) {
+            rebuild(expenses);
+        }
+        if (lowerCaseKeyword.length() < 3) {
+            return toExpenses(null);
+        }
+        HashSet<Long> trigrams = new HashSet<>();
+        ArrayList<Postings> matching = new ArrayList<>();
+        for (int i = 0; i + 3 <= lowerCaseKeyword.length(); i++) {
+            long trigram = getTrigram(lowerCaseKeyword, i);
+            if (!trigrams.add(trigram)) {
+                continue;
+            }
+            Postings trigramMatches = trigramPostings.get(trigram);
+            if (trigramMatches == null) {
+                return new ArrayList<>();
+            }
+            matching.add(trigramMatches);
+        }
+        matching.sort(Comparator.comparingInt(trigramMatches -> trigramMatches.size));
+        Postings found = matching.get(0);
+        for (int i = 1; i < matching.size() && found.size > 0; i++) {
+            found = intersect(found, matching.get(i));
+        }
+        return toExpenses(found);
+    }
+
+    private void rebuild(Iterable<Expense> expenses) {
+        isStale = false;
+        for (Expense expense : expenses) {
+            add(expense);
+        }
+    }
+
+    /**
+     * Looks up the sequence numbers of the expenses whose description holds the given word.
+     */
+    private Postings findWord(String queryWord) {
+        Postings found = postings.get(queryWord);
+        return (found == null) ? new Postings(0) : found;
+    }
+
+    /**
+     * Intersects two postings by looking up each sequence number of the smaller one in the larger one,
+     * galloping ahead from the previous match, so that a short list intersects a long one quickly.
+     */
+    private static Postings intersect(Postings first, Postings second) {
+        Postings smaller = (first.size <= second.size) ? first : second;
+        Postings larger = (smaller == first) ? second : first;
+        Postings result = new Postings(smaller.size);
+        int from = 0;
+        for (int i = 0; i < smaller.size && from < larger.size; i++) {
+            int sequenceNumber = smaller.sequenceNumbers[i];
+            int bound = 1;
+            while (from + bound < larger.size && larger.sequenceNumbers[from + bound] < sequenceNumber) {
+                bound *= 2;
+            }
+            int position = Arrays.binarySearch(larger.sequenceNumbers, from,
+                    Math.min(from + bound + 1, larger.size), sequenceNumber);
+            if (position >= 0) {
+                result.add(sequenceNumber);
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+        }
+        return result;
+    }
+
+    private static Postings union(Postings first, Postings second) {
+        Postings result = new Postings(first.size + second.size);
+        int i = 0;
+        int j = 0;
+        while (i < first.size || j < second.size) {
+            if (j == second.size || (i < first.size && first.sequenceNumbers[i] < second.sequenceNumbers[j])) {
+                result.add(first.sequenceNumbers[i++]);
+            } else {
+                result.add(second.sequenceNumbers[j++]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maps sequence numbers to their expenses, skipping deleted ones. Null stands for every sequence number.
+     */
+    private List<Expense> toExpenses(Postings found) {
+        int size = (found == null) ? bySequenceNumber.size() : found.size;
+        ArrayList<Expense> result = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Expense expense = bySequenceNumber.get((found == null) ? i : found.sequenceNumbers[i]);
+            if (expense != null) {
+                result.add(expense);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Packs the three characters of text starting at the given position into one key.
+     */
+    private static long getTrigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * Splits text into its words, which are separated by whitespace.
+     */
+    private static ArrayList<String> splitWords(String text) {
+        ArrayList<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isSeparator = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isSeparator && start >= 0) {
+                words.add(text.substring(start, i));
+                start = -1;
+            } else if (!isSeparator && start < 0) {
+                start = i;
+            }
+        }
+        return words;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.budgetbuddy.transaction.expense;
 
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Money;
 import seedu.budgetbuddy.transaction.Transaction;
 
 import java.time.LocalDate;
@@ -26,6 +27,20 @@ public class Expense extends Transaction {
         this.category = category;
     }
 
+    /**
+     * Constructs an Expense object that was read from storage, with the id it was stored with.
+     *
+     * @param id          the stored id of the expense
+     * @param description the description of the expense
+     * @param amount      the amount of the expense
+     * @param date        the date of the expense
+     * @param category    the category of the expense
+     */
+    public Expense(long id, String description, double amount, LocalDate date, Category category) {
+        super(id, description, amount, date);
+        this.category = category;
+    }
+
     /**
      * Returns a string representation of the expense, including its details.
      *
@@ -34,7 +49,7 @@ public class Expense extends Transaction {
     public String toString() {
         String output = "";
         output += "Description: " + description;
-        output += "  Amount: " + amount;
+        output += "  Amount: " + Money.format(amountInCents);
         output += "  Date: " + date;
         output += "  Category: " + category;
         return output;
@@ -55,7 +70,7 @@ public class Expense extends Transaction {
      * @return A double representing the amount of the transaction.
      */
     public double getAmount() {
-        return amount;
+        return Money.toAmount(amountInCents);
     }
 
     /**
@@ -0,0 +1,120 @@
+package seedu.budgetbuddy.transaction.expense;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.TreeMap;
+
+/**
+ * Indexes expenses by date, so that the expenses between two dates are found by locating the first
+ * and the last date in a sorted tree instead of by going through every expense.
+ * <p>
+ * Every expense gets a sequence number that follows its position in the expense list, and is kept in the tree
+ * under its epoch day in the high 32 bits of the key and its sequence number in the low ones, so that expenses
+ * of the same date stay in list order. Expenses added at the end of the list take the next sequence number,
+ * whatever their date, and an expense whose date is edited moves under its new date with the same sequence
+ * number. When expenses are inserted anywhere else, the index is marked as stale and rebuilt from the list
+ * at the next query.
+ * </p>
+ */
+public class ExpenseDateIndex {
+    private static final long SEQUENCE_NUMBERS = 1L << 32;
+
+    private final TreeMap<Long, Expense> byDate = new TreeMap<>();
+    private final IdentityHashMap<Expense, Long> keys = new IdentityHashMap<>();
+    private long nextSequenceNumber = 0;
+    private boolean isStale = false;
+
+    /**
+     * Indexes an expense that was added at the end of the expense list.
+     *
+     * @param expense The added expense.
+     */
+    public void add(Expense expense) {
+        if (isStale) {
+            return;
+        }
+        put(expense, nextSequenceNumber++);
+    }
+
+    /**
+     * Removes a deleted expense from the index.
+     *
+     * @param expense The deleted expense.
+     */
+    public void remove(Expense expense) {
+        if (isStale) {
+            return;
+        }
+        Long key = keys.remove(expense);
+        if (key != null) {
+            byDate.remove(key);
+        }
+    }
+
+    /**
+     * Moves an expense whose date was edited under its new date, keeping its place among the expenses
+     * of that date.
+     *
+     * @param expense The edited expense.
+     */
+    public void move(Expense expense) {
+        if (isStale) {
+            return;
+        }
+        Long key = keys.remove(expense);
+        if (key == null) {
+            return;
+        }
+        byDate.remove(key);
+        put(expense, Math.floorMod(key, SEQUENCE_NUMBERS));
+    }
+
+    /**
+     * Marks the index as stale after expenses were inserted or reordered, so that it is rebuilt
+     * at the next query.
+     */
+    public void invalidate() {
+        isStale = true;
+    }
+
+    /**
+     * Removes every expense from the index.
+     */
+    public void clear() {
+        byDate.clear();
+        keys.clear();
+        nextSequenceNumber = 0;
+        isStale = false;
+    }
+
+    /**
+     * Finds the expenses dated between the given dates.
+     *
+     * @param expenses The expenses in list order, which the index is rebuilt from if it is stale.
+     * @param from The first date of the range.
+     * @param to The last date of the range, inclusive.
+     * @return The expenses of the range, by date and then in list order.
+     */
+    public Collection<Expense> findBetween(Iterable<Expense> expenses, LocalDate from, LocalDate to) {
+        if (isStale) {
+            rebuild(expenses);
+        }
+        long first = from.toEpochDay() * SEQUENCE_NUMBERS;
+        long last = (to.toEpochDay() + 1) * SEQUENCE_NUMBERS;
+        return byDate.subMap(first, true, last, false).values();
+    }
+
+    private void rebuild(Iterable<Expense> expenses) {
+        clear();
+        for (Expense expense : expenses) {
+            add(expense);
+        }
+    }
+
+    private void put(Expense expense, long sequenceNumber) {
+        long key = expense.getDate().toEpochDay() * SEQUENCE_NUMBERS + sequenceNumber;
+        byDate.put(key, expense);
+        keys.put(expense, key);
+    }
+}
@@ -1,28 +1,59 @@
 package seedu.budgetbuddy.transaction.expense;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+import seedu.budgetbuddy.storage.ColdArchive;
+import seedu.budgetbuddy.storage.Journal;
+import seedu.budgetbuddy.storage.LedgerSummary;
+import seedu.budgetbuddy.storage.MonthPartitions;
+import seedu.budgetbuddy.storage.OnDemandLoader;
 import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Money;
+import seedu.budgetbuddy.transaction.MonthCategoryTotals;
+import seedu.budgetbuddy.transaction.TransactionSlots;
 import seedu.budgetbuddy.transaction.budget.RemainingBudgetManager;
+import seedu.budgetbuddy.transaction.saving.SavingsManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 import seedu.budgetbuddy.graphs.ExpensesOverMonthGraph;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Manages a list of expenses, providing functionalities to add, delete,
  * and list expenses, as well as tracking the total number of expenses.
+ * When the ledger is stored in month partitions, the expenses of older months are loaded
+ * the first time a method needs them, and the total number of expenses includes those not yet loaded.
+ * The expenses are also indexed by month, in list order and keyed by id, so that queries about one month only
+ * go through the expenses of that month and a deleted expense leaves its month without a search,
+ * and the total and number of expenses of every month and category are kept up to date as expenses change,
+ * so that totals are read without summing the expenses.
+ * Searches go through an index of the words and trigrams of the descriptions instead of through
+ * every description, and date ranges through an index of the expenses sorted by date.
+ * The expenses are kept in {@link TransactionSlots}, so that a deletion leaves a tombstone instead of moving
+ * the following expenses, and an expense is found from its id, while the numbers users see stay the same.
  */
 public class ExpenseManager {
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private static int numberOfExpenses = 0;
-    private static ArrayList<Expense> expenses = new ArrayList<>();
+    private static final TransactionSlots<Expense> expenses = new TransactionSlots<>();
+    private static final TreeMap<YearMonth, LinkedHashMap<Long, Expense>> expensesByMonth = new TreeMap<>();
+    private static final MonthCategoryTotals totals = new MonthCategoryTotals();
+    private static final DescriptionIndex descriptions = new DescriptionIndex();
+    private static final ExpenseDateIndex dates = new ExpenseDateIndex();
+    private static final RemainingBudgetManager remainingBudgets = new RemainingBudgetManager();
 
     /**
      * Construct a ExpenseManager of array content expenses
@@ -31,8 +62,10 @@ public class ExpenseManager {
      */
     public ExpenseManager(ArrayList<Expense> expenses, int numberOfExpenses) {
         assert numberOfExpenses >= 0: "numberOfExpenses should be greater than 0";
-        ExpenseManager.expenses = expenses;
+        ExpenseManager.expenses.setTransactions(expenses);
         ExpenseManager.numberOfExpenses = numberOfExpenses;
+        rebuildMonthIndex();
+        SavingsManager.invalidate();
     }
 
     /**
@@ -41,10 +74,15 @@ public class ExpenseManager {
      * @param expense The expense to be added.
      */
     public static void addExpense(Expense expense) {
+        OnDemandLoader.ensureLoaded(getYearMonthFromDate(expense.getDate()));
         expenses.add(expense);
+        indexExpense(expense);
+        SavingsManager.recordChange(getYearMonthFromDate(expense.getDate()));
+        descriptions.add(expense);
+        dates.add(expense);
         numberOfExpenses++;
-        String budgetRemaining = new RemainingBudgetManager().getRemainingBudgets(expense.getDate()
-                , expense.getCategory());
+        Journal.recordAdd(expense);
+        String budgetRemaining = remainingBudgets.getRemainingBudgets(expense.getDate(), expense.getCategory());
         String result = "The following expense transaction has been added:\n"
                 + expense + '\n'
                 + "You have " + numberOfExpenses + " expense transaction(s) in total.\n" + budgetRemaining;
@@ -53,18 +91,32 @@ public class ExpenseManager {
 
     /**
      * Deletes an expense from the manager at the specified index.
+     * Only the expenses of the month holding it are loaded, if they are not in memory yet.
+     * The expense leaves a tombstone in its slot, and the slots are compacted once the tombstones
+     * outnumber the expenses.
      *
      * @param index The index of the expense to be deleted.
      */
     public static void deleteExpense(int index) {
+        ColdArchive.thawIfArchivedExpense(index);
+        int slot = expenses.findSlot(OnDemandLoader.ensureExpenseLoaded(index));
         numberOfExpenses--;
+        Expense deletedExpense = expenses.removeSlot(slot);
         String result = "The following expense transaction has been deleted:\n"
-                + expenses.get(index) + '\n'
+                + deletedExpense + '\n'
                 + "You have " + numberOfExpenses + " expense transaction(s) in total.\n";
-        LocalDate date = expenses.get(index).getDate();
-        Category category = expenses.get(index).getCategory();
-        expenses.remove(index);
-        String budgetRemaining = new RemainingBudgetManager().getRemainingBudgets(date, category);
+        LocalDate date = deletedExpense.getDate();
+        Category category = deletedExpense.getCategory();
+        unindexExpense(deletedExpense, getYearMonthFromDate(date));
+        totals.remove(getYearMonthFromDate(date), category, deletedExpense.getAmountInCents());
+        SavingsManager.recordChange(getYearMonthFromDate(date));
+        descriptions.remove(deletedExpense);
+        dates.remove(deletedExpense);
+        if (expenses.isSparse()) {
+            expenses.compact();
+        }
+        Journal.recordDelete(deletedExpense);
+        String budgetRemaining = remainingBudgets.getRemainingBudgets(date, category);
         result += budgetRemaining;
         Ui.displayToUser(result);
     }
@@ -80,18 +132,83 @@ public class ExpenseManager {
 
     /**
      * Calculates the total expenses for a specified month.
+     * Archived expenses are counted from their summary, without being loaded.
      *
      * @param month The month to calculate expenses for.
      * @return The total expenses for the month; returns 0.0 if no expense is found.
      */
     public static double getMonthlyExpense(YearMonth month) {
-        double sum = 0;
-        for (Expense expense : expenses) {
-            if(month.equals(getYearMonthFromDate(expense.getDate()))) {
-                sum += expense.getAmount();
-            }
-        }
-        return sum;
+        return Money.toAmount(getMonthlyExpenseInCents(month));
+    }
+
+    /**
+     * Calculates the total expenses for a specified month in cents.
+     * Archived expenses are counted from their summary, without being loaded.
+     *
+     * @param month The month to calculate expenses for.
+     * @return The total expenses for the month in cents; returns 0 if no expense is found.
+     */
+    public static long getMonthlyExpenseInCents(YearMonth month) {
+        return totals.getTotalInCents(month)
+                + OnDemandLoader.summarizeUnloaded(month, month).getExpenseTotalInCents(month);
+    }
+
+    /**
+     * Calculates the total expenses for a specified month in one category, in cents.
+     * Archived expenses are counted from their summary, without being loaded.
+     *
+     * @param month The month to calculate expenses for.
+     * @param category The category of the expenses.
+     * @return The total expenses for the month and category in cents; returns 0 if no expense is found.
+     */
+    public static long getMonthlyExpenseInCents(YearMonth month, Category category) {
+        return totals.getTotalInCents(month, category)
+                + OnDemandLoader.summarizeUnloaded(month, month).getExpenseTotalInCents(month, category);
+    }
+
+    /**
+     * Calculates the total expenses per category of every month that has any, in cents.
+     * Archived expenses are counted from their summary, without being loaded.
+     *
+     * @return The totals in cents, indexed by category ordinal, mapped by month in chronological order.
+     */
+    public static TreeMap<YearMonth, long[]> getCategoryTotalsInCents() {
+        TreeMap<YearMonth, long[]> categoryTotals = totals.getCategoryTotalsInCents(OnDemandLoader.FIRST_MONTH,
+                OnDemandLoader.LAST_MONTH);
+        OnDemandLoader.summarizeUnloaded(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH)
+                .getMonthlyCategoryExpenseTotals().forEach((month, unloadedTotals) -> {
+                    long[] monthTotals = categoryTotals.computeIfAbsent(month, key -> new long[unloadedTotals.length]);
+                    for (int i = 0; i < monthTotals.length; i++) {
+                        monthTotals[i] += unloadedTotals[i];
+                    }
+                });
+        return categoryTotals;
+    }
+
+    /**
+     * Retrieves the total expense of every month in the given range that has expenses.
+     * Archived expenses are counted from their summary, without being loaded.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The totals in cents mapped by month, in chronological order.
+     */
+    public static TreeMap<YearMonth, Long> getMonthlyExpensesInCents(YearMonth from, YearMonth to) {
+        TreeMap<YearMonth, Long> monthlyTotals = totals.getTotalsInCents(from, to);
+        OnDemandLoader.summarizeUnloaded(from, to).getMonthlyExpenseTotals()
+                .forEach((month, cents) -> monthlyTotals.merge(month, cents, Long::sum));
+        return monthlyTotals;
+    }
+
+    /**
+     * Retrieves the total of every month in the given range of the expenses in memory, without loading any on demand.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The totals in cents mapped by month, in chronological order.
+     */
+    public static TreeMap<YearMonth, Long> getLoadedMonthlyTotalsInCents(YearMonth from, YearMonth to) {
+        return totals.getTotalsInCents(from, to);
     }
 
     /**
@@ -99,14 +216,24 @@ public class ExpenseManager {
      * Displays each expense with its corresponding number.
      */
     public static void listExpenses() {
-        String result = "";
-        int counter = 1;
+        listExpenses(Listing.toUser());
+    }
+
+    /**
+     * Lists the expenses managed by the manager, as many as fit on the page of the listing.
+     * Displays each expense with its corresponding number.
+     *
+     * @param listing The listing to write the expenses to.
+     */
+    public static void listExpenses(Listing listing) {
+        OnDemandLoader.ensureAllLoaded();
         for (Expense expense : expenses) {
-            result += counter + ". " + expense.toString() + "\n";
-            counter++;
+            if (!listing.addNumberedRow(expense)) {
+                break;
+            }
         }
         LOGGER.log(Level.INFO, "Listing {0} expenses", numberOfExpenses);
-        Ui.displayToUser(result);
+        listing.finish();
     }
 
     /**
@@ -117,20 +244,27 @@ public class ExpenseManager {
      * @return result String to be displayed to user
      */
     public static String listExpensesWithCategoryAndDate(Category category, YearMonth month) {
+        Listing listing = Listing.toText();
+        listExpensesWithCategoryAndDate(category, month, listing);
+        return listing.toString();
+    }
+
+    /**
+     * Lists the expenses that match with month & category field, as many as fit on the page of the listing.
+     * @param category
+     * @param month
+     * @param listing The listing to write the expenses to.
+     */
+    public static void listExpensesWithCategoryAndDate(Category category, YearMonth month, Listing listing) {
         assert category != null : "category cannot be null";
         assert month != null : "month cannot be null";
-        String result = "";
-        int counter = 1;
-        for (Expense expense : expenses) {
-            if(category.equals(expense.getCategory()) && month.equals(getYearMonthFromDate(expense.getDate()))) {
-                result += counter + ". " + expense.toString() + "\n";
-                counter++;
+        OnDemandLoader.ensureLoaded(month);
+        for (Expense expense : getIndexedExpenses(month)) {
+            if (category.equals(expense.getCategory()) && !listing.addNumberedRow(expense)) {
+                break;
             }
         }
-        if(result.equals("")) {
-            result = getEmptyDisplayMessage();
-        }
-        return result;
+        listing.finish(getEmptyDisplayMessage());
     }
 
     /**
@@ -140,19 +274,25 @@ public class ExpenseManager {
      * @return result String to be displayed to user
      */
     public static String listExpensesWithCategory(Category category) {
+        Listing listing = Listing.toText();
+        listExpensesWithCategory(category, listing);
+        return listing.toString();
+    }
+
+    /**
+     * Lists the expenses that match with category field, as many as fit on the page of the listing.
+     * @param category
+     * @param listing The listing to write the expenses to.
+     */
+    public static void listExpensesWithCategory(Category category, Listing listing) {
         assert category != null : "category cannot be null";
-        String result = "";
-        int counter = 1;
+        OnDemandLoader.ensureAllLoaded();
         for (Expense expense : expenses) {
-            if(category.equals(expense.getCategory())) {
-                result += counter + ". " + expense.toString() + "\n";
-                counter++;
+            if (category.equals(expense.getCategory()) && !listing.addNumberedRow(expense)) {
+                break;
             }
         }
-        if(result.equals("")) {
-            result = getEmptyDisplayMessage();
-        }
-        return result;
+        listing.finish(getEmptyDisplayMessage());
     }
 
     /**
@@ -162,44 +302,191 @@ public class ExpenseManager {
      * @return result String to be displayed to user
      */
     public static String listExpensesWithDate(YearMonth month) {
+        Listing listing = Listing.toText();
+        listExpensesWithDate(month, listing);
+        return listing.toString();
+    }
+
+    /**
+     * Lists the expenses that match with month field, as many as fit on the page of the listing.
+     * @param month
+     * @param listing The listing to write the expenses to.
+     */
+    public static void listExpensesWithDate(YearMonth month, Listing listing) {
         assert month != null : "month cannot be null";
-        String result = "";
-        int counter = 1;
-        for (Expense expense : expenses) {
-            if(month.equals(getYearMonthFromDate(expense.getDate()))) {
-                result += counter + ". " + expense.toString() + "\n";
-                counter++;
+        OnDemandLoader.ensureLoaded(month);
+        for (Expense expense : getIndexedExpenses(month)) {
+            if (!listing.addNumberedRow(expense)) {
+                break;
+            }
+        }
+        listing.finish(getEmptyDisplayMessage());
+    }
+
+    /**
+     * Display all expenses dated between the given dates, optionally only those of one category.
+     * Displays each expense with its corresponding number, by date.
+     * @param from The first date of the range.
+     * @param to The last date of the range, inclusive.
+     * @param category The category of the expenses, or null for every category.
+     * @return result String to be displayed to user
+     */
+    public static String listExpensesBetween(LocalDate from, LocalDate to, Category category) {
+        Listing listing = Listing.toText();
+        listExpensesBetween(from, to, category, listing);
+        return listing.toString();
+    }
+
+    /**
+     * Lists the expenses dated between the given dates, optionally only those of one category,
+     * by date and as many as fit on the page of the listing. The first expense of the range is found
+     * in the date index, and only the expenses of the range are gone through.
+     * @param from The first date of the range.
+     * @param to The last date of the range, inclusive.
+     * @param category The category of the expenses, or null for every category.
+     * @param listing The listing to write the expenses to.
+     */
+    public static void listExpensesBetween(LocalDate from, LocalDate to, Category category, Listing listing) {
+        assert from != null && to != null : "dates cannot be null";
+        assert !from.isAfter(to) : "The range cannot end before it starts";
+        OnDemandLoader.ensureLoaded(getYearMonthFromDate(from), getYearMonthFromDate(to));
+        for (Expense expense : dates.findBetween(expenses, from, to)) {
+            if (category != null && !category.equals(expense.getCategory())) {
+                continue;
+            }
+            if (!listing.addNumberedRow(expense)) {
+                break;
+            }
+        }
+        listing.finish(getEmptyDisplayMessage());
+    }
+
+    /**
+     * Display the largest expenses, optionally only those of one category or one month.
+     * Displays each expense with its number in the expense list, largest first.
+     * @param count The number of expenses to display.
+     * @param category The category of the expenses, or null for every category.
+     * @param month The month of the expenses, or null for every month.
+     * @return result String to be displayed to user
+     */
+    public static String listTopExpenses(int count, Category category, YearMonth month) {
+        Listing listing = Listing.toText();
+        listTopExpenses(count, category, month, listing);
+        return listing.toString();
+    }
+
+    /**
+     * Lists the largest expenses, optionally only those of one category or one month, largest first.
+     * Each expense is preceded by its number in the expense list, so that it can be edited or deleted by it.
+     * Only the expenses of the month are gone through when a month is given, and the largest ones are kept
+     * in a heap of at most the given size, so that the expenses are neither copied nor sorted.
+     * Expenses of the same amount are listed in list order.
+     * @param count The number of expenses to list.
+     * @param category The category of the expenses, or null for every category.
+     * @param month The month of the expenses, or null for every month.
+     * @param listing The listing to write the expenses to.
+     */
+    public static void listTopExpenses(int count, Category category, YearMonth month, Listing listing) {
+        assert count > 0 : "The number of expenses must be positive";
+        Iterable<Expense> candidates;
+        if (month == null) {
+            OnDemandLoader.ensureAllLoaded();
+            candidates = expenses;
+        } else {
+            OnDemandLoader.ensureLoaded(month);
+            candidates = getIndexedExpenses(month);
+        }
+        // The smallest of the kept expenses is at the head, and among equal amounts the latest in the list
+        Comparator<Expense> order = Comparator.comparingLong(Expense::getAmountInCents)
+                .thenComparing(expenses::findPosition, Comparator.reverseOrder());
+        PriorityQueue<Expense> largest = new PriorityQueue<>(Math.min(count, 1024), order);
+        for (Expense expense : candidates) {
+            if (category != null && !category.equals(expense.getCategory())) {
+                continue;
+            }
+            if (largest.size() < count) {
+                largest.add(expense);
+            } else if (order.compare(expense, largest.peek()) > 0) {
+                largest.poll();
+                largest.add(expense);
             }
         }
-        if(result.equals("")) {
-            result = getEmptyDisplayMessage();
+        Expense[] ranked = new Expense[largest.size()];
+        for (int rank = ranked.length - 1; rank >= 0; rank--) {
+            ranked[rank] = largest.poll();
         }
-        return result;
+        for (Expense expense : ranked) {
+            if (!listing.addRow((expenses.findPosition(expense) + 1) + ". " + expense)) {
+                break;
+            }
+        }
+        listing.finish(getEmptyDisplayMessage());
     }
 
     /**
      * Filters expenses with descriptions that contain the keyword(s) provided by user.
+     * Only the expenses whose description holds every trigram of the keyword, or every word
+     * of a keyword shorter than three characters, are checked.
      * @param keyword
      * @return result String displayed to user
      */
     public static String searchExpenses(String keyword){
+        Listing listing = Listing.toText();
+        searchExpenses(keyword, listing);
+        return listing.toString();
+    }
+
+    /**
+     * Writes the expenses with descriptions that contain the keyword(s) provided by user to the listing.
+     * @param keyword
+     * @param listing The listing to write the expenses to.
+     */
+    public static void searchExpenses(String keyword, Listing listing){
         assert keyword != null: "Keyword should not be null";
-        String result = "";
-        if (keyword.equals("")){
-            result = getEmptyDisplayMessage();
-            return result;
-        }
-        int counter = 1;
-        for (Expense expense : expenses) {
-            if (expense.getDescription().toLowerCase().contains(keyword.toLowerCase())){
-                result += counter + ". " + expense.toString() + "\n";
-                counter++;
+        if (!keyword.equals("")){
+            OnDemandLoader.ensureAllLoaded();
+            String lowerCaseKeyword = keyword.toLowerCase();
+            for (Expense expense : descriptions.findContaining(expenses, lowerCaseKeyword)) {
+                if (expense.getDescription().toLowerCase().contains(lowerCaseKeyword)
+                        && !listing.addNumberedRow(expense)){
+                    break;
+                }
             }
         }
-        if (result.equals("")){
-            result = getEmptyDisplayMessage();
+        listing.finish(getEmptyDisplayMessage());
+    }
+
+    /**
+     * Filters expenses with descriptions that hold every word, or any word, of the keywords provided by user.
+     * A keyword matches a word of a description that is equal to it, ignoring case.
+     * @param keywords The keywords, separated by whitespace.
+     * @param isEveryKeywordRequired Whether a description must match every keyword instead of any.
+     * @return result String displayed to user
+     */
+    public static String searchExpensesByKeywords(String keywords, boolean isEveryKeywordRequired) {
+        Listing listing = Listing.toText();
+        searchExpensesByKeywords(keywords, isEveryKeywordRequired, listing);
+        return listing.toString();
+    }
+
+    /**
+     * Writes the expenses with descriptions that hold every word, or any word, of the keywords provided by user
+     * to the listing.
+     * @param keywords The keywords, separated by whitespace.
+     * @param isEveryKeywordRequired Whether a description must match every keyword instead of any.
+     * @param listing The listing to write the expenses to.
+     */
+    public static void searchExpensesByKeywords(String keywords, boolean isEveryKeywordRequired, Listing listing) {
+        assert keywords != null: "Keywords should not be null";
+        if (!keywords.isBlank()) {
+            OnDemandLoader.ensureAllLoaded();
+            for (Expense expense : descriptions.find(expenses, keywords.toLowerCase(), isEveryKeywordRequired)) {
+                if (!listing.addNumberedRow(expense)) {
+                    break;
+                }
+            }
         }
-        return result;
+        listing.finish(getEmptyDisplayMessage());
     }
 
     /**
@@ -208,8 +495,11 @@ public class ExpenseManager {
      * @param year The year for which the expenses graph is to be displayed.
      */
     public static void displayExpensesOverMonthGraph(int year) {
-        ArrayList<Expense> expensesOverMonthArray = getExpenses();
-        Map<YearMonth, Double> monthlyExpensesMap = ExpensesOverMonthGraph.monthMapBuilder(expensesOverMonthArray);
+        LedgerSummary unloaded = OnDemandLoader.summarizeUnloaded(YearMonth.of(year, 1), YearMonth.of(year, 12));
+        Map<YearMonth, Long> monthlyTotals = totals.getTotalsInCents(YearMonth.of(year, 1), YearMonth.of(year, 12));
+        unloaded.getMonthlyExpenseTotals().forEach((month, total) -> monthlyTotals.merge(month, total, Long::sum));
+        Map<YearMonth, Double> monthlyExpensesMap = new TreeMap<>();
+        monthlyTotals.forEach((month, total) -> monthlyExpensesMap.put(month, Money.toAmount(total)));
         ExpensesOverMonthGraph.chartPrinter(monthlyExpensesMap, year);
     }
 
@@ -219,10 +509,7 @@ public class ExpenseManager {
      * @param yearMonth The YearMonth object representing the month for which the total expenses are to be displayed.
      */
     public static void listTotalExpensesForMonth(YearMonth yearMonth) {
-        ArrayList<Expense> expensesOverMonthArray = getExpenses();
-        Map<YearMonth, Double> monthlyExpensesMap = ExpensesOverMonthGraph.monthMapBuilder(expensesOverMonthArray);
-        Ui.displayToUser("Your expenses for " + yearMonth.toString() + " is " +
-                ExpensesOverMonthGraph.expensesForMonth(monthlyExpensesMap, yearMonth));
+        Ui.displayToUser("Your expenses for " + yearMonth.toString() + " is " + getMonthlyExpense(yearMonth));
     }
 
     /**
@@ -232,17 +519,9 @@ public class ExpenseManager {
      * @param category The Category object representing the category of the total expenses to be displayed.
      */
     public static void listTotalExpensesForMonthWithCategories(YearMonth yearMonth, Category category) {
-        ArrayList<Expense> expensesOverMonthArray = getExpenses();
-        double totalAmount = 0.0;
+        double totalAmount = Money.toAmount(getMonthlyExpenseInCents(yearMonth, category));
 
         Ui.displayToUser("The Expenses for " + yearMonth + " under category: " + category);
-        for (Expense expense : expensesOverMonthArray) {
-            YearMonth expenseYearMonth = getYearMonthFromDate(expense.getDate());
-
-            if(expenseYearMonth.equals(yearMonth) && category.equals(expense.getCategory())) {
-                totalAmount += expense.getAmount();
-            }
-        }
         System.out.println(totalAmount);
     }
 
@@ -266,14 +545,218 @@ public class ExpenseManager {
 
     /**
      * A get-function to obtain the information in the current Expense List.
+     * Every expense is loaded first.
      *
      * @return return the expense ArrayList
      */
     public static ArrayList<Expense> getExpenses() {
+        OnDemandLoader.ensureAllLoaded();
+        return expenses.getTransactions();
+    }
+
+    /**
+     * Finds the position of an expense in the expense list, which is its number in listings minus one,
+     * from the slot its id maps to.
+     *
+     * @param expense The expense.
+     * @return The position, or -1 if the expense is not in the list.
+     */
+    public static int findPosition(Expense expense) {
+        return expenses.findPosition(expense);
+    }
+
+    /**
+     * Retrieves the expenses of the given month, in the order they are kept in the list.
+     *
+     * @param month The month of the expenses.
+     * @return The expenses of the month.
+     */
+    public static ArrayList<Expense> getExpensesInMonth(YearMonth month) {
+        OnDemandLoader.ensureLoaded(month);
+        return new ArrayList<>(getIndexedExpenses(month));
+    }
+
+    /**
+     * Goes through the expenses that are currently in memory, in order, without loading any on demand
+     * or compacting their slots.
+     *
+     * @return The expenses in memory.
+     */
+    public static Iterable<Expense> iterateLoadedExpenses() {
         return expenses;
     }
 
+    /**
+     * Retrieves the expenses that are currently in memory, without loading any on demand.
+     * The list must not be changed directly, as the month index would no longer match it.
+     *
+     * @return the expense ArrayList
+     */
+    public static ArrayList<Expense> getLoadedExpenses() {
+        return expenses.getTransactions();
+    }
+
+    /**
+     * Adds expenses that were loaded on demand from storage. They are already counted
+     * in the total number of expenses.
+     *
+     * @param loadedExpenses The loaded expenses, in chronological order of their months.
+     */
+    public static void addLoadedExpenses(List<Expense> loadedExpenses) {
+        ArrayList<Expense> list = expenses.getTransactions();
+        MonthPartitions.mergeByMonth(list, loadedExpenses, Expense::getDate);
+        expenses.reindex();
+        indexLoadedExpenses(loadedExpenses);
+        descriptions.invalidate();
+        dates.invalidate();
+    }
+
+    /**
+     * Inserts expenses that were loaded on demand from storage at the given position.
+     * They are already counted in the total number of expenses.
+     *
+     * @param index The position to insert the expenses at.
+     * @param loadedExpenses The loaded expenses, in order.
+     */
+    public static void insertLoadedExpenses(int index, List<Expense> loadedExpenses) {
+        expenses.getTransactions().addAll(index, loadedExpenses);
+        expenses.reindex();
+        indexLoadedExpenses(loadedExpenses);
+        descriptions.invalidate();
+        dates.invalidate();
+    }
+
+    /**
+     * Replaces the expenses in memory with the same expenses in a new order.
+     *
+     * @param reorderedExpenses The expenses in their new order.
+     */
+    public static void reorderLoadedExpenses(List<Expense> reorderedExpenses) {
+        assert reorderedExpenses.size() == expenses.size() : "Reordering must keep every expense";
+        ArrayList<Expense> list = expenses.getTransactions();
+        list.clear();
+        list.addAll(reorderedExpenses);
+        expenses.reindex();
+        rebuildMonthIndex();
+    }
+
+    /**
+     * Moves an edited expense to the month of its new date in the month index, moves its amount
+     * from the totals of its previous month and category to those of the new ones.
+     * Its position within the new month follows its position in the list.
+     *
+     * @param expense The edited expense.
+     * @param previousDate The date of the expense before the edit.
+     * @param previousAmountInCents The amount of the expense in cents before the edit.
+     * @param previousCategory The category of the expense before the edit.
+     */
+    public static void reindexExpense(Expense expense, LocalDate previousDate, long previousAmountInCents,
+            Category previousCategory) {
+        YearMonth previousMonth = getYearMonthFromDate(previousDate);
+        YearMonth month = getYearMonthFromDate(expense.getDate());
+        totals.remove(previousMonth, previousCategory, previousAmountInCents);
+        totals.add(month, expense.getCategory(), expense.getAmountInCents());
+        SavingsManager.recordChange(previousMonth);
+        SavingsManager.recordChange(month);
+        if (!previousDate.equals(expense.getDate())) {
+            dates.move(expense);
+        }
+        if (previousMonth.equals(month)) {
+            return;
+        }
+        unindexExpense(expense, previousMonth);
+        addToMonthIndex(month, List.of(expense));
+    }
+
+    /**
+     * Retrieves the expenses of the given month that are in memory, from the month index.
+     */
+    private static Collection<Expense> getIndexedExpenses(YearMonth month) {
+        LinkedHashMap<Long, Expense> monthExpenses = expensesByMonth.get(month);
+        return (monthExpenses == null) ? List.of() : monthExpenses.values();
+    }
+
+    private static void indexExpense(Expense expense) {
+        YearMonth month = getYearMonthFromDate(expense.getDate());
+        expensesByMonth.computeIfAbsent(month, key -> new LinkedHashMap<>()).put(expense.getId(), expense);
+        totals.add(month, expense.getCategory(), expense.getAmountInCents());
+    }
+
+    private static void unindexExpense(Expense expense, YearMonth month) {
+        LinkedHashMap<Long, Expense> monthExpenses = expensesByMonth.get(month);
+        if (monthExpenses == null) {
+            return;
+        }
+        monthExpenses.remove(expense.getId());
+        if (monthExpenses.isEmpty()) {
+            expensesByMonth.remove(month);
+        }
+    }
+
+    /**
+     * Adds expenses that were inserted into the list to the month index. Months that had no expenses
+     * in memory take the loaded ones as they are, and the others have them merged into their bucket.
+     */
+    private static void indexLoadedExpenses(List<Expense> loadedExpenses) {
+        TreeMap<YearMonth, LinkedHashMap<Long, Expense>> loadedByMonth = new TreeMap<>();
+        for (Expense expense : loadedExpenses) {
+            YearMonth month = getYearMonthFromDate(expense.getDate());
+            loadedByMonth.computeIfAbsent(month, key -> new LinkedHashMap<>()).put(expense.getId(), expense);
+            totals.add(month, expense.getCategory(), expense.getAmountInCents());
+        }
+        for (Map.Entry<YearMonth, LinkedHashMap<Long, Expense>> entry : loadedByMonth.entrySet()) {
+            if (expensesByMonth.containsKey(entry.getKey())) {
+                addToMonthIndex(entry.getKey(), entry.getValue().values());
+            } else {
+                expensesByMonth.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static void rebuildMonthIndex() {
+        ArrayList<Expense> list = expenses.getTransactions();
+        expensesByMonth.clear();
+        totals.clear();
+        descriptions.invalidate();
+        dates.invalidate();
+        for (Expense expense : list) {
+            indexExpense(expense);
+        }
+    }
+
+    /**
+     * Adds expenses that are already in the list to the bucket of the given month. The bucket is
+     * only reordered by list position when the added expenses do not all come after its last one.
+     */
+    private static void addToMonthIndex(YearMonth month, Collection<Expense> addedExpenses) {
+        LinkedHashMap<Long, Expense> monthExpenses = expensesByMonth.computeIfAbsent(month,
+                key -> new LinkedHashMap<>());
+        for (Expense expense : addedExpenses) {
+            monthExpenses.put(expense.getId(), expense);
+        }
+        int previousPosition = -1;
+        boolean isInOrder = true;
+        for (Expense expense : monthExpenses.values()) {
+            int position = expenses.findPosition(expense);
+            if (position < previousPosition) {
+                isInOrder = false;
+                break;
+            }
+            previousPosition = position;
+        }
+        if (isInOrder) {
+            return;
+        }
+        List<Expense> ordered = new ArrayList<>(monthExpenses.values());
+        ordered.sort(Comparator.comparingInt(expenses::findPosition));
+        monthExpenses.clear();
+        for (Expense expense : ordered) {
+            monthExpenses.put(expense.getId(), expense);
+        }
+    }
+
     public static Expense getExpenseByIndex(int index) throws BudgetBuddyException {
+        OnDemandLoader.ensureAllLoaded();
         if(index > numberOfExpenses) {
             throw new BudgetBuddyException("Input index is larger than the number of expenses. " +
                     "Try with a smaller index");
@@ -293,5 +776,10 @@ public class ExpenseManager {
     public static void reset() {
         numberOfExpenses = 0;
         expenses.clear();
+        expensesByMonth.clear();
+        totals.clear();
+        descriptions.invalidate();
+        dates.clear();
+        SavingsManager.invalidate();
     }
 }
@@ -1,5 +1,6 @@
 package seedu.budgetbuddy.transaction.income;
 
+import seedu.budgetbuddy.transaction.Money;
 import seedu.budgetbuddy.transaction.Transaction;
 
 import java.time.LocalDate;
@@ -20,6 +21,18 @@ public class Income extends Transaction {
         super(description, amount, date);
     }
 
+    /**
+     * Creates an Income object that was read from storage, with the id it was stored with.
+     *
+     * @param id The stored id of the income.
+     * @param description The description of the income.
+     * @param amount The amount of income.
+     * @param date The date of the income transaction.
+     */
+    public Income(long id, String description, double amount, LocalDate date) {
+        super(id, description, amount, date);
+    }
+
     /**
      * Retrieves the description of the transaction.
      *
@@ -35,7 +48,7 @@ public class Income extends Transaction {
      * @return A double representing the amount of the transaction.
      */
     public double getAmount() {
-        return amount;
+        return Money.toAmount(amountInCents);
     }
 
     /**
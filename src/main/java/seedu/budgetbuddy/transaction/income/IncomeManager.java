@@ -1,22 +1,46 @@
 package seedu.budgetbuddy.transaction.income;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.Ui;
+import seedu.budgetbuddy.storage.ColdArchive;
+import seedu.budgetbuddy.storage.Journal;
+import seedu.budgetbuddy.storage.MonthPartitions;
+import seedu.budgetbuddy.storage.OnDemandLoader;
+import seedu.budgetbuddy.transaction.Money;
+import seedu.budgetbuddy.transaction.MonthCategoryTotals;
+import seedu.budgetbuddy.transaction.TransactionSlots;
+import seedu.budgetbuddy.transaction.saving.SavingsManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Manages a collection of income transactions.
  * Provides functionality to add, delete, and list incomes.
+ * When the ledger is stored in month partitions, the incomes of older months are loaded
+ * the first time a method needs them.
+ * The incomes are also kept in one bucket per month, in list order and keyed by id, and the total of every
+ * month is kept up to date as incomes change, so that queries about one month only go through the incomes
+ * of that month, a deleted income leaves its bucket without a search, and totals are read without summing
+ * the incomes.
+ * The incomes are kept in {@link TransactionSlots}, so that a deletion leaves a tombstone instead of moving
+ * the following incomes, while the numbers users see stay the same.
  */
 public class IncomeManager {
     private static final Logger LOGGER = LoggerSetup.getLogger();
     private static int numberOfIncomes = 0;
-    private static ArrayList<Income> incomes = new ArrayList<>();
+    private static final TransactionSlots<Income> incomes = new TransactionSlots<>();
+    private static final TreeMap<YearMonth, LinkedHashMap<Long, Income>> incomesByMonth = new TreeMap<>();
+    private static final MonthCategoryTotals totals = new MonthCategoryTotals();
 
     /**
      * Construct a IncomeManager of array content incomes
@@ -25,8 +49,10 @@ public class IncomeManager {
      */
     public IncomeManager(ArrayList<Income> incomes, int numberOfIncomes) {
         assert numberOfIncomes >= 0 : "numberOfIncomes should be greater than 0";
-        IncomeManager.incomes = incomes;
+        IncomeManager.incomes.setTransactions(incomes);
         IncomeManager.numberOfIncomes = numberOfIncomes;
+        rebuildMonthIndex();
+        SavingsManager.invalidate();
     }
 
     /**
@@ -35,8 +61,12 @@ public class IncomeManager {
      * @param income The income to be added.
      */
     public static void addIncome(Income income) {
+        OnDemandLoader.ensureLoaded(getYearMonthFromDate(income.getDate()));
         incomes.add(income);
+        indexIncome(income);
+        SavingsManager.recordChange(getYearMonthFromDate(income.getDate()));
         numberOfIncomes++;
+        Journal.recordAdd(income);
         String result = "The following income transaction has been added:\n"
                 + income + '\n'
                 + "You have " + numberOfIncomes + " income transaction(s) in total.";
@@ -45,15 +75,26 @@ public class IncomeManager {
 
     /**
      * Deletes an income from the manager at the specified index.
+     * Only the incomes of the month holding it are loaded, if they are not in memory yet.
+     * The income leaves a tombstone in its slot, and the slots are compacted once the tombstones
+     * outnumber the incomes.
      *
      * @param index The index of the income to be deleted.
      */
     public static void deleteIncome(int index) {
+        ColdArchive.thawIfArchivedIncome(index);
+        int slot = incomes.findSlot(OnDemandLoader.ensureIncomeLoaded(index));
         numberOfIncomes--;
+        Income deletedIncome = incomes.removeSlot(slot);
         String result = "The following income transaction has been deleted:\n"
-                + incomes.get(index) + '\n'
+                + deletedIncome + '\n'
                 + "You have " + numberOfIncomes + " income transaction(s) in total.";
-        incomes.remove(index);
+        unindexIncome(deletedIncome);
+        SavingsManager.recordChange(getYearMonthFromDate(deletedIncome.getDate()));
+        if (incomes.isSparse()) {
+            incomes.compact();
+        }
+        Journal.recordDelete(deletedIncome);
         Ui.displayToUser(result);
     }
 
@@ -68,18 +109,29 @@ public class IncomeManager {
 
     /**
      * Calculates the total income for a specified month.
+     * Archived incomes are counted from their summary, without being loaded.
      *
      * @param month The month to calculate income for.
      * @return The total income for the month; returns 0.0 if no income is found.
      */
     public static double getMonthlyIncome(YearMonth month) {
-        double sum = 0;
-        for (Income income : incomes) {
-            if(month.equals(getYearMonthFromDate(income.getDate()))) {
-                sum += income.getAmount();
-            }
-        }
-        return sum;
+        long sum = OnDemandLoader.summarizeUnloaded(month, month).getIncomeTotalInCents(month);
+        return Money.toAmount(sum + totals.getTotalInCents(month));
+    }
+
+    /**
+     * Retrieves the total income of every month in the given range that has incomes.
+     * Archived incomes are counted from their summary, without being loaded.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The totals in cents mapped by month, in chronological order.
+     */
+    public static TreeMap<YearMonth, Long> getMonthlyIncomesInCents(YearMonth from, YearMonth to) {
+        TreeMap<YearMonth, Long> monthlyTotals = totals.getTotalsInCents(from, to);
+        OnDemandLoader.summarizeUnloaded(from, to).getMonthlyIncomeTotals()
+                .forEach((month, cents) -> monthlyTotals.merge(month, cents, Long::sum));
+        return monthlyTotals;
     }
 
     /**
@@ -87,14 +139,24 @@ public class IncomeManager {
      * Displays each income with its corresponding number.
      */
     public static void listIncomes() {
-        String result = "";
-        int counter = 1;
+        listIncomes(Listing.toUser());
+    }
+
+    /**
+     * Lists the incomes managed by the manager, as many as fit on the page of the listing.
+     * Displays each income with its corresponding number.
+     *
+     * @param listing The listing to write the incomes to.
+     */
+    public static void listIncomes(Listing listing) {
+        OnDemandLoader.ensureAllLoaded();
         for (Income income : incomes) {
-            result += counter + ". " + income.toString() + "\n";
-            counter++;
+            if (!listing.addNumberedRow(income)) {
+                break;
+            }
         }
         LOGGER.log(Level.INFO, "Listing {0} expenses", numberOfIncomes);
-        Ui.displayToUser(result);
+        listing.finish();
     }
 
     /**
@@ -103,18 +165,12 @@ public class IncomeManager {
      * @param month
      */
     public static void displayIncomeWithMonth(YearMonth month) {
-        String result = "";
-        int counter = 1;
-        for (Income income : incomes) {
-            if(month.equals(getYearMonthFromDate(income.getDate()))) {
-                result += counter + ". " + income.toString() + "\n";
-                counter++;
-            }
-        }
-        if(result.equals("")) {
-            result = getEmptyDisplayMessage();
+        OnDemandLoader.ensureLoaded(month);
+        Listing listing = Listing.toUser();
+        for (Income income : getIndexedIncomes(month)) {
+            listing.addNumberedRow(income);
         }
-        Ui.displayToUser(result);
+        listing.finish(getEmptyDisplayMessage());
     }
 
     /**
@@ -136,10 +192,150 @@ public class IncomeManager {
 
     /**
      * A get-function to obtain the information in the current Income List.
+     * Every income is loaded first.
      *
      * @return return the income ArrayList
      */
     public static ArrayList<Income> getIncomes() {
+        OnDemandLoader.ensureAllLoaded();
+        return incomes.getTransactions();
+    }
+
+    /**
+     * Retrieves the incomes of the given month, in the order they are kept in the list.
+     *
+     * @param month The month of the incomes.
+     * @return The incomes of the month.
+     */
+    public static ArrayList<Income> getIncomesInMonth(YearMonth month) {
+        OnDemandLoader.ensureLoaded(month);
+        return new ArrayList<>(getIndexedIncomes(month));
+    }
+
+    /**
+     * Goes through the incomes that are currently in memory, in order, without loading any on demand
+     * or compacting their slots.
+     *
+     * @return The incomes in memory.
+     */
+    public static Iterable<Income> iterateLoadedIncomes() {
         return incomes;
     }
+
+    /**
+     * Retrieves the incomes that are currently in memory, without loading any on demand.
+     *
+     * @return the income ArrayList
+     */
+    public static ArrayList<Income> getLoadedIncomes() {
+        return incomes.getTransactions();
+    }
+
+    /**
+     * Adds incomes that were loaded on demand from storage. They are already counted
+     * in the total number of incomes.
+     *
+     * @param loadedIncomes The loaded incomes, in chronological order of their months.
+     */
+    public static void addLoadedIncomes(List<Income> loadedIncomes) {
+        MonthPartitions.mergeByMonth(incomes.getTransactions(), loadedIncomes, Income::getDate);
+        incomes.reindex();
+        indexLoadedIncomes(loadedIncomes);
+    }
+
+    /**
+     * Inserts incomes that were loaded on demand from storage at the given position.
+     * They are already counted in the total number of incomes.
+     *
+     * @param index The position to insert the incomes at.
+     * @param loadedIncomes The loaded incomes, in order.
+     */
+    public static void insertLoadedIncomes(int index, List<Income> loadedIncomes) {
+        incomes.getTransactions().addAll(index, loadedIncomes);
+        incomes.reindex();
+        indexLoadedIncomes(loadedIncomes);
+    }
+
+    /**
+     * Replaces the incomes in memory with the same incomes in a new order, such as when closed years are archived.
+     *
+     * @param reorderedIncomes The incomes in memory, in their new order.
+     */
+    public static void reorderLoadedIncomes(List<Income> reorderedIncomes) {
+        assert reorderedIncomes.size() == incomes.size() : "Reordering must keep every income";
+        ArrayList<Income> list = incomes.getTransactions();
+        list.clear();
+        list.addAll(reorderedIncomes);
+        incomes.reindex();
+        rebuildMonthIndex();
+    }
+
+    /**
+     * Retrieves the total of every month in the given range of the incomes in memory, without loading any on demand.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The totals in cents mapped by month, in chronological order.
+     */
+    public static TreeMap<YearMonth, Long> getLoadedMonthlyTotalsInCents(YearMonth from, YearMonth to) {
+        return totals.getTotalsInCents(from, to);
+    }
+
+    /**
+     * Retrieves the incomes of the given month that are in memory, from the month index.
+     */
+    private static Collection<Income> getIndexedIncomes(YearMonth month) {
+        LinkedHashMap<Long, Income> monthIncomes = incomesByMonth.get(month);
+        return (monthIncomes == null) ? List.of() : monthIncomes.values();
+    }
+
+    private static void indexIncome(Income income) {
+        YearMonth month = getYearMonthFromDate(income.getDate());
+        incomesByMonth.computeIfAbsent(month, key -> new LinkedHashMap<>()).put(income.getId(), income);
+        totals.add(month, null, income.getAmountInCents());
+    }
+
+    private static void unindexIncome(Income income) {
+        YearMonth month = getYearMonthFromDate(income.getDate());
+        totals.remove(month, null, income.getAmountInCents());
+        LinkedHashMap<Long, Income> monthIncomes = incomesByMonth.get(month);
+        monthIncomes.remove(income.getId());
+        if (monthIncomes.isEmpty()) {
+            incomesByMonth.remove(month);
+        }
+    }
+
+    /**
+     * Adds incomes that were inserted into the list to the month index. Months that had no incomes
+     * in memory take the loaded ones as they are, and the others are rebuilt from the list to keep its order.
+     */
+    private static void indexLoadedIncomes(List<Income> loadedIncomes) {
+        TreeMap<YearMonth, LinkedHashMap<Long, Income>> loadedByMonth = new TreeMap<>();
+        for (Income income : loadedIncomes) {
+            YearMonth month = getYearMonthFromDate(income.getDate());
+            loadedByMonth.computeIfAbsent(month, key -> new LinkedHashMap<>()).put(income.getId(), income);
+            totals.add(month, null, income.getAmountInCents());
+        }
+        for (Map.Entry<YearMonth, LinkedHashMap<Long, Income>> entry : loadedByMonth.entrySet()) {
+            if (!incomesByMonth.containsKey(entry.getKey())) {
+                incomesByMonth.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            LinkedHashMap<Long, Income> monthIncomes = new LinkedHashMap<>();
+            for (Income income : incomes) {
+                if (entry.getKey().equals(getYearMonthFromDate(income.getDate()))) {
+                    monthIncomes.put(income.getId(), income);
+                }
+            }
+            incomesByMonth.put(entry.getKey(), monthIncomes);
+        }
+    }
+
+    private static void rebuildMonthIndex() {
+        incomesByMonth.clear();
+        totals.clear();
+        for (Income income : incomes) {
+            indexIncome(income);
+        }
+    }
 }
@@ -1,13 +1,16 @@
 package seedu.budgetbuddy.transaction.income;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.Ui;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
 
 import java.time.YearMonth;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * The IncomeSpent class provides functionality to calculate and display
- * the percentage of income spent for a specified month.
+ * the percentage of income spent for a specified month, or for every month of a range.
  */
 public class IncomeSpent {
 
@@ -31,8 +34,7 @@ public class IncomeSpent {
      * @return A string displaying the percentage of income spent for the month.
      */
     public static String toString(YearMonth month) {
-        String formattedPercentage = String.format("%.1f", calculateSpentPercentage(month));
-        return String.format("Percentage of income spent for %s: %s%%", month, formattedPercentage);
+        return format(month, calculateSpentPercentage(month));
     }
 
     /**
@@ -43,4 +45,30 @@ public class IncomeSpent {
     public static void displaySpentPercentage(YearMonth month) {
         Ui.displayToUser(toString(month));
     }
+
+    /**
+     * Displays the percentage of income spent for every month in the given range that has income,
+     * in chronological order. The monthly totals of the range are read once, instead of once per month.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     */
+    public static void displaySpentPercentages(YearMonth from, YearMonth to) {
+        TreeMap<YearMonth, Long> monthlyIncomes = IncomeManager.getMonthlyIncomesInCents(from, to);
+        TreeMap<YearMonth, Long> monthlyExpenses = ExpenseManager.getMonthlyExpensesInCents(from, to);
+        Listing listing = Listing.toUser();
+        for (Map.Entry<YearMonth, Long> entry : monthlyIncomes.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            double percentage = monthlyExpenses.getOrDefault(entry.getKey(), 0L) * 100.0 / entry.getValue();
+            listing.addRow(format(entry.getKey(), percentage));
+        }
+        listing.finish("No income recorded for any month in the given period.");
+    }
+
+    private static String format(YearMonth month, double percentage) {
+        String formattedPercentage = String.format("%.1f", percentage);
+        return String.format("Percentage of income spent for %s: %s%%", month, formattedPercentage);
+    }
 }
@@ -1,23 +1,25 @@
 package seedu.budgetbuddy.transaction.saving;
 
+import seedu.budgetbuddy.transaction.Money;
+
 import java.time.YearMonth;
 
 /**
  * Represents a monthly saving with an amount and a YearMonth attribute.
- * Monthly savings is calculated based on income - expense.
+ * Monthly savings is calculated based on income - expense, in cents.
  */
 public class Saving {
     private YearMonth yearMonth;
-    private double savings;
+    private long savingsInCents;
 
     /**
      * Creates a Saving object with the specified YearMonth and savings.
      * @param yearMonth YearMonth of the saving
-     * @param savings amount saved that month
+     * @param savingsInCents amount saved that month in cents
      */
-    public Saving(YearMonth yearMonth, double savings){
+    public Saving(YearMonth yearMonth, long savingsInCents){
         this.yearMonth = yearMonth;
-        this.savings = savings;
+        this.savingsInCents = savingsInCents;
     }
 
     /**
@@ -33,22 +35,30 @@ public class Saving {
      * @return A double representing the amount saved that month
      */
     public double getSavings() {
-        return savings;
+        return Money.toAmount(savingsInCents);
+    }
+
+    /**
+     * Retrieves the amount of savings for the month in cents.
+     * @return A long representing the amount saved that month in cents
+     */
+    public long getSavingsInCents() {
+        return savingsInCents;
     }
 
     /**
      * Adds an earned income specified by the user to the savings of that month.
-     * @param income Earned income to be added.
+     * @param incomeInCents Earned income in cents to be added.
      */
-    public void addIncome(double income){
-        savings += income;
+    public void addIncome(long incomeInCents){
+        savingsInCents += incomeInCents;
     }
 
     /**
      * Deducts an expense specified by the user from the savings of that month.
-     * @param expense Expense to be deducted from savings.
+     * @param expenseInCents Expense in cents to be deducted from savings.
      */
-    public void deductExpense(double expense){
-        savings -= expense;
+    public void deductExpense(long expenseInCents){
+        savingsInCents -= expenseInCents;
     }
 }
@@ -1,57 +1,42 @@
 package seedu.budgetbuddy.transaction.saving;
 
-import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.storage.LedgerSummary;
+import seedu.budgetbuddy.storage.OnDemandLoader;
+import seedu.budgetbuddy.transaction.Money;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
-import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 import seedu.budgetbuddy.util.LoggerSetup;
 
 import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.logging.Logger;
 
 /**
  * Displays the savings of the user.
- * The user can specify if they wish to see their total savings by month or in total.
+ * The user can specify if they wish to see their total savings by month, in total or over a range of months.
+ * Savings are read from a timeline of the savings of every month, which is built from the monthly totals that
+ * the income and expense managers keep. The managers record the months whose incomes or expenses changed,
+ * and only those months are updated in the timeline. It is built again only once the incomes or expenses
+ * are replaced as a whole.
  */
 public class SavingsManager {
     private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final TreeSet<YearMonth> changedMonths = new TreeSet<>();
+    private static SavingsTimeline timeline = null;
 
     /**
      * Displays the total savings of the user based on all their incomes and expenses.
      * Total Savings = Total Income - Total Expenses
      */
     public static String displayTotalSavings(){
-        double savings = 0;
-        YearMonth firstIncome = YearMonth.now();
-        YearMonth firstExpense = YearMonth.now();
-        String result = "";
-        if (IncomeManager.getIncomes().size() > 0){
-            for (Income income: IncomeManager.getIncomes()){
-                savings += income.getAmount();
-                YearMonth incomeYearMonth = IncomeManager.getYearMonthFromDate(income.getDate());
-                if (incomeYearMonth.compareTo(firstIncome) == -1){
-                    firstIncome = incomeYearMonth;
-                }
-            }
+        SavingsTimeline savings = getTimeline();
+        String result = "Total savings: " + Money.format(savings.getTotalSavingsInCents()) + "\n";
+        if (savings.getFirstIncomeMonth() != null){
+            result += "First income: " + savings.getFirstIncomeMonth() + "\n";
         }
-
-        if (ExpenseManager.getExpenses().size() > 0){
-            for (Expense expense: ExpenseManager.getExpenses()){
-                savings -= expense.getAmount();
-                YearMonth expenseYearMonth = ExpenseManager.getYearMonthFromDate(expense.getDate());
-                if (expenseYearMonth.compareTo(firstExpense) == -1){
-                    firstExpense = expenseYearMonth;
-                }
-            }
-        }
-        result += "Total savings: " + savings + "\n";
-        if (IncomeManager.getIncomes().size() > 0){
-            result += "First income: " + firstIncome + "\n";
-        }
-        if (ExpenseManager.getExpenses().size() > 0){
-            result += "First expense: " +  firstExpense + "\n";
+        if (savings.getFirstExpenseMonth() != null){
+            result += "First expense: " +  savings.getFirstExpenseMonth() + "\n";
         }
         LOGGER.info("Listing total savings");
         return result;
@@ -62,57 +47,99 @@ public class SavingsManager {
      * Monthly savings = Monthly Income - Monthly Expense
      */
     public static String displayTotalSavingsByMonth(){
-        String result = "";
-        ArrayList<YearMonth> listYearMonths = new ArrayList<>();
-        ArrayList<Saving> savings = new ArrayList<>();
-        if (IncomeManager.getIncomes().size() > 0){
-            for (Income income: IncomeManager.getIncomes()){
-                YearMonth incomeYearMonth = IncomeManager.getYearMonthFromDate(income.getDate());
-                int indexOfSaving = findYearMonthFromArray(listYearMonths, incomeYearMonth);
-                if (indexOfSaving == -1){
-                    listYearMonths.add(incomeYearMonth);
-                    savings.add(new Saving(incomeYearMonth, income.getAmount()));
-                } else{
-                    savings.get(indexOfSaving).addIncome(income.getAmount());
-                }
-            }
+        SavingsTimeline savings = getTimeline();
+        if (savings.isEmpty()){
+            return "Total savings: 0\n";
         }
+        StringBuilder result = new StringBuilder();
+        appendMonthlySavings(result, savings, OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH);
+        LOGGER.info("Displaying savings by month");
+        return result.toString();
+    }
+
+    /**
+     * Displays the savings of every month in the given range in chronological order,
+     * followed by the savings of the whole range.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The savings of the months and of the range.
+     */
+    public static String displaySavingsInRange(YearMonth from, YearMonth to){
+        assert !from.isAfter(to) : "The range cannot end before it starts";
+        SavingsTimeline savings = getTimeline();
+        StringBuilder result = new StringBuilder();
+        appendMonthlySavings(result, savings, from, to);
+        result.append("Total savings from ").append(from).append(" to ").append(to).append(": ")
+                .append(Money.format(savings.getSavingsInCents(from, to))).append("\n");
+        LOGGER.info("Displaying savings from " + from + " to " + to);
+        return result.toString();
+    }
 
-        if (ExpenseManager.getExpenses().size() > 0) {
-            for (Expense expense : ExpenseManager.getExpenses()) {
-                YearMonth expenseYearMonth = ExpenseManager.getYearMonthFromDate(expense.getDate());
-                int indexOfSaving = findYearMonthFromArray(listYearMonths, expenseYearMonth);
-                if (indexOfSaving == -1) {
-                    listYearMonths.add(expenseYearMonth);
-                    savings.add(new Saving(expenseYearMonth, -expense.getAmount()));
-                } else {
-                    savings.get(indexOfSaving).deductExpense(expense.getAmount());
-                }
-            }
+    private static void appendMonthlySavings(StringBuilder result, SavingsTimeline savings,
+            YearMonth from, YearMonth to){
+        for (Saving saving : savings.getMonthlySavings(from, to).values()){
+            result.append("Savings in ").append(saving.getYearMonth()).append(": ")
+                    .append(saving.getSavings()).append("\n");
         }
-        if (savings.size() == 0){
-            result = "Total savings: 0\n";
-            return result;
+    }
+
+    /**
+     * Records that an income or expense of the given month was added, removed or changed,
+     * so that the month is updated in the timeline before it is next read.
+     *
+     * @param month The month whose transactions changed.
+     */
+    public static void recordChange(YearMonth month) {
+        if (timeline != null) {
+            changedMonths.add(month);
         }
-        savings.sort(Comparator.comparing(Saving::getYearMonth));
-        for (Saving saving: savings){
-            result += "Savings in " + saving.getYearMonth() +": " + saving.getSavings() + "\n";
+    }
+
+    /**
+     * Discards the timeline after the incomes or expenses were replaced as a whole,
+     * so that it is built again when it is next read.
+     */
+    public static void invalidate() {
+        timeline = null;
+        changedMonths.clear();
+    }
+
+    /**
+     * Retrieves the savings timeline, after updating the months whose transactions changed since it was last read.
+     * Transactions that are not loaded, such as archived ones, are counted from their summary.
+     */
+    private static SavingsTimeline getTimeline(){
+        if (timeline == null) {
+            timeline = new SavingsTimeline();
+            addMonths(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH);
         }
-        LOGGER.info("Displaying savings by month");
-        return result;
+        for (YearMonth month : changedMonths) {
+            timeline.removeMonth(month);
+            addMonths(month, month);
+        }
+        changedMonths.clear();
+        return timeline;
     }
 
     /**
-     * Helper method to get the index of a specified YearMonth in the ArrayList to update savings.
-     * @param listYearMonth ArrayList containing all YearMonths of Saving objects.
-     * @param yearMonth Specific YearMonth to find in the ArrayList
-     * @return index of the YearMonth in the ArrayList, otherwise -1.
+     * Adds the totals of the incomes and expenses of the months in the given range to the timeline.
+     * Loading transactions on demand only moves them from the summary of those not loaded to the totals
+     * of the managers, so the totals of a month stay the same.
      */
-    private static int findYearMonthFromArray(ArrayList<YearMonth> listYearMonth, YearMonth yearMonth){
-        if (!listYearMonth.contains(yearMonth)){
-            return -1;
-        } else{
-            return listYearMonth.indexOf(yearMonth);
+    private static void addMonths(YearMonth from, YearMonth to){
+        LedgerSummary unloaded = OnDemandLoader.summarizeUnloaded(from, to);
+        for (Map.Entry<YearMonth, Long> entry : unloaded.getMonthlyIncomeTotals().entrySet()){
+            timeline.addIncome(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<YearMonth, Long> entry : IncomeManager.getLoadedMonthlyTotalsInCents(from, to).entrySet()){
+            timeline.addIncome(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<YearMonth, Long> entry : unloaded.getMonthlyExpenseTotals().entrySet()){
+            timeline.addExpense(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<YearMonth, Long> entry : ExpenseManager.getLoadedMonthlyTotalsInCents(from, to).entrySet()){
+            timeline.addExpense(entry.getKey(), entry.getValue());
         }
     }
 }
@@ -0,0 +1,190 @@
+package seedu.budgetbuddy.transaction.saving;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Holds the savings of every month that has transactions, in chronological order, with the cumulative
+ * savings up to each month, so that the savings of the whole ledger or of any range of months are read
+ * with a subtraction instead of by adding up the months.
+ * <p>
+ * Months are added from the totals of their incomes and expenses in cents, and a month whose transactions changed
+ * is removed and added again. The cumulative savings are brought up to date the first time they are needed
+ * after a change, from the earliest changed month onward, since those of the months before it still hold.
+ * Ranges are then located by binary search.
+ * </p>
+ */
+public class SavingsTimeline {
+    private final TreeMap<YearMonth, Saving> months = new TreeMap<>();
+    private final TreeSet<YearMonth> incomeMonths = new TreeSet<>();
+    private final TreeSet<YearMonth> expenseMonths = new TreeSet<>();
+
+    private YearMonth[] orderedMonths = new YearMonth[0];
+    /** The savings of every month before the month at the same position, with the total at the end. */
+    private long[] cumulativeSavings = new long[1];
+    /** The earliest month whose cumulative savings are out of date, or null if they are all up to date. */
+    private YearMonth firstStaleMonth = null;
+    private boolean isOrderStale = false;
+
+    /**
+     * Adds the total of the incomes of a month.
+     *
+     * @param month The month of the incomes.
+     * @param cents The total of the incomes in cents.
+     */
+    public void addIncome(YearMonth month, long cents) {
+        getSaving(month).addIncome(cents);
+        incomeMonths.add(month);
+    }
+
+    /**
+     * Adds the total of the expenses of a month.
+     *
+     * @param month The month of the expenses.
+     * @param cents The total of the expenses in cents.
+     */
+    public void addExpense(YearMonth month, long cents) {
+        getSaving(month).deductExpense(cents);
+        expenseMonths.add(month);
+    }
+
+    /**
+     * Removes a month with its incomes and expenses, so that its new totals can be added.
+     *
+     * @param month The month to remove.
+     */
+    public void removeMonth(YearMonth month) {
+        if (months.remove(month) != null) {
+            markStale(month);
+            isOrderStale = true;
+        }
+        incomeMonths.remove(month);
+        expenseMonths.remove(month);
+    }
+
+    /**
+     * Returns whether the timeline has no months.
+     *
+     * @return true if no incomes or expenses were added.
+     */
+    public boolean isEmpty() {
+        return months.isEmpty();
+    }
+
+    /**
+     * Retrieves the earliest month with incomes.
+     *
+     * @return The month, or null if there are no incomes.
+     */
+    public YearMonth getFirstIncomeMonth() {
+        return incomeMonths.isEmpty() ? null : incomeMonths.first();
+    }
+
+    /**
+     * Retrieves the earliest month with expenses.
+     *
+     * @return The month, or null if there are no expenses.
+     */
+    public YearMonth getFirstExpenseMonth() {
+        return expenseMonths.isEmpty() ? null : expenseMonths.first();
+    }
+
+    /**
+     * Retrieves the savings of every month together.
+     *
+     * @return The total savings in cents.
+     */
+    public long getTotalSavingsInCents() {
+        index();
+        return cumulativeSavings[orderedMonths.length];
+    }
+
+    /**
+     * Retrieves the savings of one month.
+     *
+     * @param month The month.
+     * @return The savings in cents, or 0 if the month has no transactions.
+     */
+    public long getSavingsInCents(YearMonth month) {
+        Saving saving = months.get(month);
+        return (saving == null) ? 0 : saving.getSavingsInCents();
+    }
+
+    /**
+     * Retrieves the savings of the months in the given range together.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The savings in cents, or 0 if the range is empty.
+     */
+    public long getSavingsInCents(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            return 0;
+        }
+        index();
+        return cumulativeSavings[findPosition(to.plusMonths(1))] - cumulativeSavings[findPosition(from)];
+    }
+
+    /**
+     * Retrieves the savings of every month in the given range that has transactions.
+     *
+     * @param from The first month of the range.
+     * @param to The last month of the range, inclusive.
+     * @return The savings of the months, in chronological order.
+     */
+    public Map<YearMonth, Saving> getMonthlySavings(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            return new TreeMap<>();
+        }
+        return months.subMap(from, true, to, true);
+    }
+
+    private Saving getSaving(YearMonth month) {
+        markStale(month);
+        Saving saving = months.get(month);
+        if (saving == null) {
+            saving = new Saving(month, 0);
+            months.put(month, saving);
+            isOrderStale = true;
+        }
+        return saving;
+    }
+
+    private void markStale(YearMonth month) {
+        if (firstStaleMonth == null || month.isBefore(firstStaleMonth)) {
+            firstStaleMonth = month;
+        }
+    }
+
+    /**
+     * Brings the cumulative savings up to date from the earliest month that changed since they were last
+     * computed. The months before it, and so their cumulative savings, are the same as before.
+     */
+    private void index() {
+        if (firstStaleMonth == null) {
+            return;
+        }
+        int position = findPosition(firstStaleMonth);
+        if (isOrderStale) {
+            orderedMonths = months.keySet().toArray(new YearMonth[0]);
+            cumulativeSavings = Arrays.copyOf(cumulativeSavings, orderedMonths.length + 1);
+            isOrderStale = false;
+        }
+        for (Saving saving : months.tailMap(firstStaleMonth, true).values()) {
+            cumulativeSavings[position + 1] = cumulativeSavings[position] + saving.getSavingsInCents();
+            position++;
+        }
+        firstStaleMonth = null;
+    }
+
+    /**
+     * Finds the position of the first month that is not before the given month.
+     */
+    private int findPosition(YearMonth month) {
+        int position = Arrays.binarySearch(orderedMonths, month);
+        return (position >= 0) ? position : -position - 1;
+    }
+}
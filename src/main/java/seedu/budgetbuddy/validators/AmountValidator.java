@@ -1,18 +1,21 @@
 package seedu.budgetbuddy.validators;
 
+import seedu.budgetbuddy.transaction.Money;
+
 /**
- * Validates and converts amount from String to double.
+ * Validates and converts amount from String to double, rounded to the cent.
  */
 public class AmountValidator {
     /**
-     * Converts amount from String to double.
+     * Converts amount from String to double, rounded to the cent as it is kept.
      *
      * @param part The String containing the amount.
      * @return The parsed amount or -1 if invalid.
      */
     public static double validateAmount(String part) {
         try {
-            return Double.parseDouble(part.substring(2));
+            double amount = Double.parseDouble(part.substring(2));
+            return Money.isValid(amount) ? Money.toAmount(Money.toCents(amount)) : -1;
         } catch (NumberFormatException e) {
             return -1;  // Indicates invalid amount
         }
@@ -23,6 +23,21 @@ public class DateValidator {
         }
     }
 
+    /**
+     * Validates the date in a command part that starts with the given prefix, such as {@code from/}.
+     *
+     * @param part The part containing the date.
+     * @param prefix The prefix before the date.
+     * @return The parsed date or null if invalid.
+     */
+    public static LocalDate validateDate(String part, String prefix) {
+        try {
+            return LocalDate.parse(part.substring(prefix.length()), DateTimeFormatter.ofPattern("d/M/yyyy"));
+        } catch (DateTimeParseException e) {
+            return null;  // Indicates invalid date
+        }
+    }
+
     /**
      * Parses the date from the command part.
      *
@@ -36,4 +51,19 @@ public class DateValidator {
             return null;  // Indicates invalid date
         }
     }
+
+    /**
+     * Parses the month from a command part that starts with the given prefix, such as {@code from/}.
+     *
+     * @param part The command part containing the month.
+     * @param prefix The prefix before the month.
+     * @return The parsed YearMonth or null if invalid.
+     */
+    public static YearMonth validateYearMonth(String part, String prefix) {
+        try {
+            return YearMonth.parse(part.substring(prefix.length()), DateTimeFormatter.ofPattern("MM/yyyy"));
+        } catch (DateTimeParseException e) {
+            return null;  // Indicates invalid date
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package seedu.budgetbuddy.validators;
+
+/**
+ * Validates the --page and --limit options of the list commands.
+ */
+public class PageValidator {
+    public static final String PAGE_OPTION = "--page";
+    public static final String LIMIT_OPTION = "--limit";
+    public static final String INVALID_PAGE_MESSAGE =
+            "Invalid page format. Use '--page P' and '--limit N' with positive numbers.";
+
+    /**
+     * Parses the value of a paging option in the command.
+     *
+     * @param command The command entered by the user.
+     * @param option The option, {@link #PAGE_OPTION} or {@link #LIMIT_OPTION}.
+     * @return The value of the option, 0 if the command does not have it,
+     *     or -1 if it is not followed by a positive number.
+     */
+    public static int validateOption(String command, String option) {
+        String[] parts = command.trim().split(" +");
+        for (int i = 0; i < parts.length; i++) {
+            if (!parts[i].equals(option)) {
+                continue;
+            }
+            try {
+                int value = Integer.parseInt(parts[i + 1]);
+                return (value > 0) ? value : -1;
+            } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                return -1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Removes the paging options and their values from the command.
+     *
+     * @param command The command entered by the user.
+     * @return The command without its paging options.
+     */
+    public static String removeOptions(String command) {
+        String[] parts = command.trim().split(" +");
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (parts[i].equals(PAGE_OPTION) || parts[i].equals(LIMIT_OPTION)) {
+                i++;
+            } else {
+                result.append((result.length() == 0) ? "" : " ").append(parts[i]);
+            }
+        }
+        return result.toString();
+    }
+}
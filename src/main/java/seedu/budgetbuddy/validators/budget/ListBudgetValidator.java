@@ -7,6 +7,11 @@ import seedu.budgetbuddy.commands.budget.ListBudgetCommand;
 import java.time.YearMonth;
 
 import static seedu.budgetbuddy.validators.DateValidator.validateYearMonth;
+import static seedu.budgetbuddy.validators.PageValidator.INVALID_PAGE_MESSAGE;
+import static seedu.budgetbuddy.validators.PageValidator.LIMIT_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.PAGE_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.removeOptions;
+import static seedu.budgetbuddy.validators.PageValidator.validateOption;
 
 /**
  * Validates user commands for listing budgets.
@@ -15,14 +20,21 @@ public class ListBudgetValidator {
 
     /**
      * Processes the command string to determine if it is valid for listing budgets.
-     * If valid, it returns a ListBudgetCommand with the parsed date.
+     * If valid, it returns a ListBudgetCommand with the parsed date, limited to the page
+     * given by the --page and --limit options.
      *
      * @param command The command string entered by the user.
      * @return A ListBudgetCommand if valid; otherwise, an IncorrectCommand.
      */
     public static Command processCommand(String command) {
+        int page = validateOption(command, PAGE_OPTION);
+        int limit = validateOption(command, LIMIT_OPTION);
+        if (page < 0 || limit < 0) {
+            return new IncorrectCommand(INVALID_PAGE_MESSAGE);
+        }
+        command = removeOptions(command);
         if (command.equals("list budget")) {
-            return new ListBudgetCommand(null); // No date provided, list all budgets
+            return new ListBudgetCommand(null, page, limit); // No date provided, list all budgets
         }
 
         // Check for date in the command
@@ -0,0 +1,33 @@
+package seedu.budgetbuddy.validators.budget;
+
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.commands.budget.ListRemainingBudgetCommand;
+
+import static seedu.budgetbuddy.validators.PageValidator.INVALID_PAGE_MESSAGE;
+import static seedu.budgetbuddy.validators.PageValidator.LIMIT_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.PAGE_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.validateOption;
+
+/**
+ * Validates user commands for listing remaining budgets.
+ */
+public class ListRemainingBudgetValidator {
+
+    /**
+     * Processes the command string to determine if it is valid for listing remaining budgets.
+     * If valid, it returns a ListRemainingBudgetCommand limited to the page given by the --page
+     * and --limit options.
+     *
+     * @param command The command string entered by the user.
+     * @return A ListRemainingBudgetCommand if valid; otherwise, an IncorrectCommand.
+     */
+    public static Command processCommand(String command) {
+        int page = validateOption(command, PAGE_OPTION);
+        int limit = validateOption(command, LIMIT_OPTION);
+        if (page < 0 || limit < 0) {
+            return new IncorrectCommand(INVALID_PAGE_MESSAGE);
+        }
+        return new ListRemainingBudgetCommand(page, limit);
+    }
+}
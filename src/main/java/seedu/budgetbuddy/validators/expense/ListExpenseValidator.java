@@ -6,24 +6,48 @@ import seedu.budgetbuddy.commands.expense.ListExpenseCommand;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.util.LoggerSetup;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.logging.Logger;
 
 import static seedu.budgetbuddy.validators.CategoryValidator.validateCategory;
+import static seedu.budgetbuddy.validators.DateValidator.validateDate;
 import static seedu.budgetbuddy.validators.DateValidator.validateYearMonth;
+import static seedu.budgetbuddy.validators.PageValidator.INVALID_PAGE_MESSAGE;
+import static seedu.budgetbuddy.validators.PageValidator.LIMIT_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.PAGE_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.removeOptions;
+import static seedu.budgetbuddy.validators.PageValidator.validateOption;
 
 public class ListExpenseValidator{
 
     private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String FROM_PREFIX = "from/";
+    private static final String TO_PREFIX = "to/";
 
     /**
      * Processes the command string to determine if it is valid for displaying expenses.
-     * If valid, it returns a DisplayExpenseCommand with the parsed date.
+     * If valid, it returns a DisplayExpenseCommand with the parsed date, limited to the page
+     * given by the --page and --limit options.
      *
      * @param command
      * @return
      */
     public static Command processCommand(String command) {
+        int page = validateOption(command, PAGE_OPTION);
+        int limit = validateOption(command, LIMIT_OPTION);
+        if (page < 0 || limit < 0) {
+            LOGGER.warning("Invalid page options: " + command);
+            return new IncorrectCommand(INVALID_PAGE_MESSAGE);
+        }
+        Command listCommand = processFilters(removeOptions(command));
+        if (listCommand instanceof ListExpenseCommand listExpenseCommand) {
+            listExpenseCommand.setPage(page, limit);
+        }
+        return listCommand;
+    }
+
+    private static Command processFilters(String command) {
         if (command.equals("list expenses")){
             return new ListExpenseCommand();
         }
@@ -34,6 +58,9 @@ public class ListExpenseValidator{
         //Process Initial Value
         YearMonth month = null;
         Category category = null;
+        LocalDate from = null;
+        LocalDate to = null;
+        boolean hasRange = false;
 
         //Process parts to extract details
         for (String part : parts) {
@@ -43,6 +70,13 @@ public class ListExpenseValidator{
                     LOGGER.warning("Invalid month format. Month found: " + part);
                     return new IncorrectCommand("Invalid month format. Use m/MM/yyyy.");
                 }
+            } else if (part.startsWith(FROM_PREFIX) || part.startsWith(TO_PREFIX)) {
+                hasRange = true;
+                if (part.startsWith(FROM_PREFIX)) {
+                    from = validateDate(part, FROM_PREFIX);
+                } else {
+                    to = validateDate(part, TO_PREFIX);
+                }
             } else if (part.startsWith("c/")) {
                 category = validateCategory(part);
                 if (category == null) {
@@ -52,10 +86,31 @@ public class ListExpenseValidator{
             }
         }
 
+        if (hasRange) {
+            return checkRange(from, to, category, month);
+        }
+
         //Check of Display Type
         return checkListType(category, month);
     }
 
+    /**
+     * Checks the dates of a range and returns the command listing the expenses between them.
+     */
+    private static Command checkRange(LocalDate from, LocalDate to, Category category, YearMonth month) {
+        if (from == null || to == null) {
+            LOGGER.warning("Invalid date range: from " + from + " to " + to);
+            return new IncorrectCommand("Invalid date range. Use from/dd/MM/yyyy to/dd/MM/yyyy.");
+        }
+        if (month != null) {
+            return new IncorrectCommand("Use either m/MM/yyyy or from/dd/MM/yyyy to/dd/MM/yyyy, not both.");
+        }
+        if (from.isAfter(to)) {
+            return new IncorrectCommand("The range cannot end before it starts.");
+        }
+        return new ListExpenseCommand(from, to, category);
+    }
+
     /**
      * Checks the value of category and date and returns the corresponding
      * DisplayExpenseCommand type
@@ -2,10 +2,13 @@ package seedu.budgetbuddy.validators.expense;
 
 import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.commands.expense.SearchExpenseCommand;
+import seedu.budgetbuddy.commands.expense.SearchExpenseCommand.MatchType;
 
 public class SearchExpenseValidator {
     /**
-     * Validates command input by user to see if string input has a keyword provided as a descriptor
+     * Validates command input by user to see if string input has a keyword provided as a descriptor.
+     * A keyword starting with "all/" or "any/" is split into words, which must all, or at least one,
+     * be found in a description.
      * @param command Command input by user.
      * @return new SearchExpenseCommand object.
      */
@@ -15,6 +18,12 @@ public class SearchExpenseValidator {
             return new SearchExpenseCommand();
         }
         String trimmedCommand = command.substring("search expense ".length());
+        if (trimmedCommand.startsWith("all/")) {
+            return new SearchExpenseCommand(trimmedCommand.substring("all/".length()).trim(), MatchType.ALL_WORDS);
+        }
+        if (trimmedCommand.startsWith("any/")) {
+            return new SearchExpenseCommand(trimmedCommand.substring("any/".length()).trim(), MatchType.ANY_WORD);
+        }
         return new SearchExpenseCommand(trimmedCommand);
     }
 }
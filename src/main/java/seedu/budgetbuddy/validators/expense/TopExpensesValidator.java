@@ -0,0 +1,76 @@
+package seedu.budgetbuddy.validators.expense;
+
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.commands.expense.TopExpensesCommand;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.util.LoggerSetup;
+
+import java.time.YearMonth;
+import java.util.logging.Logger;
+
+import static seedu.budgetbuddy.validators.CategoryValidator.validateCategory;
+import static seedu.budgetbuddy.validators.DateValidator.validateYearMonth;
+
+/**
+ * Validates the command to list the largest expenses, "top expenses k/N", with an optional
+ * category c/ and month m/MM/yyyy.
+ */
+public class TopExpensesValidator {
+
+    private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String INVALID_COUNT_MESSAGE = "Invalid number of expenses. Use k/N with a positive number.";
+    private static final String FORMAT = "top expenses k/N [c/CATEGORY] [m/MM/yyyy]";
+
+    /**
+     * Processes the command string to determine if it is valid for listing the largest expenses.
+     * Arguments other than the count, category and month are rejected.
+     *
+     * @param command The command entered by the user.
+     * @return A TopExpensesCommand with the parsed count, category and month, or an IncorrectCommand.
+     */
+    public static Command processCommand(String command) {
+        if (command.equals("top expenses")) {
+            return new IncorrectCommand(INVALID_COUNT_MESSAGE);
+        }
+        String[] parts = command.substring("top expenses ".length()).trim().split(" +");
+
+        int count = 0;
+        Category category = null;
+        YearMonth month = null;
+
+        for (String part : parts) {
+            if (part.startsWith("k/")) {
+                count = validateCount(part.substring(2));
+            } else if (part.startsWith("m/")) {
+                month = validateYearMonth(part);
+                if (month == null) {
+                    LOGGER.warning("Invalid month format. Month found: " + part);
+                    return new IncorrectCommand("Invalid month format. Use m/MM/yyyy.");
+                }
+            } else if (part.startsWith("c/")) {
+                category = validateCategory(part);
+                if (category == null) {
+                    LOGGER.warning("Invalid Category. Category found: " + part);
+                    return new IncorrectCommand("Unknown category. Use a valid category");
+                }
+            } else if (!part.isEmpty()) {
+                LOGGER.warning("Invalid argument in command: " + part);
+                return new IncorrectCommand("Unknown argument '" + part + "'. Expected format: '" + FORMAT + "'");
+            }
+        }
+        if (count <= 0) {
+            LOGGER.warning("Invalid number of expenses: " + command);
+            return new IncorrectCommand(INVALID_COUNT_MESSAGE);
+        }
+        return new TopExpensesCommand(count, category, month);
+    }
+
+    private static int validateCount(String count) {
+        try {
+            return Integer.parseInt(count);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import seedu.budgetbuddy.commands.Command;
 import seedu.budgetbuddy.commands.IncorrectCommand;
 import seedu.budgetbuddy.commands.income.DisplayIncomeSpentCommand;
 import seedu.budgetbuddy.exceptions.BudgetBuddyException;
+import seedu.budgetbuddy.storage.OnDemandLoader;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 
 import java.time.LocalDate;
@@ -12,7 +13,8 @@ import java.time.YearMonth;
 import static seedu.budgetbuddy.validators.DateValidator.validateYearMonth;
 
 /**
- * Validates and processes the command to display the percentage of income spent for a specified month.
+ * Validates and processes the command to display the percentage of income spent for a specified month,
+ * for every month of a year with {@code y/yyyy}, or for every month with {@code all}.
  */
 public class DisplayIncomeSpentValidator {
 
@@ -26,7 +28,11 @@ public class DisplayIncomeSpentValidator {
     public static Command processCommand(String command) throws BudgetBuddyException {
         YearMonth month = null;
 
-        if (command.equals("display income spent")) {
+        if (command.equals("display income spent all")) {
+            return new DisplayIncomeSpentCommand(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH);
+        } else if (command.startsWith("display income spent y/")) {
+            return processYear(command.substring("display income spent y/".length()));
+        } else if (command.equals("display income spent")) {
             month = YearMonth.from(LocalDate.now());
         } else {
             String trimmedCommand = command.substring("display income spent ".length());
@@ -49,4 +55,15 @@ public class DisplayIncomeSpentValidator {
 
         return new DisplayIncomeSpentCommand(month);
     }
+
+    /**
+     * Returns the command to display the percentage of income spent for every month of the given year.
+     */
+    private static Command processYear(String year) {
+        if (!year.matches("\\d{4}")) {
+            return new IncorrectCommand("Invalid year format. Use y/yyyy.");
+        }
+        int parsedYear = Integer.parseInt(year);
+        return new DisplayIncomeSpentCommand(YearMonth.of(parsedYear, 1), YearMonth.of(parsedYear, 12));
+    }
 }
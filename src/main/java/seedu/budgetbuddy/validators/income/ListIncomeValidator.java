@@ -0,0 +1,36 @@
+package seedu.budgetbuddy.validators.income;
+
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.commands.income.ListIncomeCommand;
+
+import static seedu.budgetbuddy.validators.PageValidator.INVALID_PAGE_MESSAGE;
+import static seedu.budgetbuddy.validators.PageValidator.LIMIT_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.PAGE_OPTION;
+import static seedu.budgetbuddy.validators.PageValidator.removeOptions;
+import static seedu.budgetbuddy.validators.PageValidator.validateOption;
+
+/**
+ * Validates user commands for listing incomes.
+ */
+public class ListIncomeValidator {
+
+    /**
+     * Processes the command string to determine if it is valid for listing incomes.
+     * If valid, it returns a ListIncomeCommand limited to the page given by the --page and --limit options.
+     *
+     * @param command The command string entered by the user.
+     * @return A ListIncomeCommand if valid; otherwise, an IncorrectCommand.
+     */
+    public static Command processCommand(String command) {
+        int page = validateOption(command, PAGE_OPTION);
+        int limit = validateOption(command, LIMIT_OPTION);
+        if (page < 0 || limit < 0) {
+            return new IncorrectCommand(INVALID_PAGE_MESSAGE);
+        }
+        if (!removeOptions(command).equals("list incomes")) {
+            return new IncorrectCommand("Invalid format. Use 'list incomes [--page P] [--limit N]'.");
+        }
+        return new ListIncomeCommand(page, limit);
+    }
+}
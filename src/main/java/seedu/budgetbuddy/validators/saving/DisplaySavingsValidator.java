@@ -5,19 +5,25 @@ import seedu.budgetbuddy.commands.saving.DisplaySavingsCommand;
 import seedu.budgetbuddy.exceptions.BudgetBuddyException;
 import seedu.budgetbuddy.util.LoggerSetup;
 
+import java.time.YearMonth;
 import java.util.logging.Logger;
 
+import static seedu.budgetbuddy.validators.DateValidator.validateYearMonth;
+
 /**
  * Validator class for validating user input and the "display savings" command.
  */
 public class DisplaySavingsValidator {
     private static final Logger LOGGER = LoggerSetup.getLogger();
+    private static final String FROM_PREFIX = "from/";
+    private static final String TO_PREFIX = "to/";
 
     /**
      * Validates command input by user to see if string input has a keyword provided as a descriptor
      * @param command Command input by user.
      * @return new DisplaySavingsCommand object.
-     * @throws BudgetBuddyException if user input is not "display savings" or "display savings m/"
+     * @throws BudgetBuddyException if user input is not "display savings", "display savings m/"
+     *     or "display savings from/MM/yyyy to/MM/yyyy"
      */
     public static Command processCommand(String command) throws BudgetBuddyException{
         assert command != null: "Command cannot be null";
@@ -25,8 +31,34 @@ public class DisplaySavingsValidator {
             return new DisplaySavingsCommand(true);
         } else if (command.equals("display savings")){
             return new DisplaySavingsCommand(false);
+        } else if (command.startsWith("display savings " + FROM_PREFIX)){
+            return processRange(command.substring("display savings ".length()));
         }
         LOGGER.info("Invalid display savings message by user.");
-        throw new BudgetBuddyException("Key in display savings m/ or display savings");
+        throw new BudgetBuddyException("Key in display savings m/, display savings "
+                + "or display savings from/MM/yyyy to/MM/yyyy");
+    }
+
+    private static Command processRange(String range) throws BudgetBuddyException{
+        YearMonth from = null;
+        YearMonth to = null;
+        for (String part : range.split(" +")){
+            if (part.startsWith(FROM_PREFIX)){
+                from = validateYearMonth(part, FROM_PREFIX);
+            } else if (part.startsWith(TO_PREFIX)){
+                to = validateYearMonth(part, TO_PREFIX);
+            } else {
+                from = null;
+                break;
+            }
+        }
+        if (from == null || to == null){
+            LOGGER.info("Invalid display savings range by user.");
+            throw new BudgetBuddyException("Invalid month range. Use from/MM/yyyy to/MM/yyyy.");
+        }
+        if (from.isAfter(to)){
+            throw new BudgetBuddyException("The range cannot end before it starts.");
+        }
+        return new DisplaySavingsCommand(from, to);
     }
 }
@@ -0,0 +1,66 @@
+package seedu.budgetbuddy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListingTest {
+
+    private static String render(Listing listing, int rows) {
+        for (int row = 1; row <= rows; row++) {
+            if (!listing.addNumberedRow("Row " + row)) {
+                break;
+            }
+        }
+        listing.finish("Nothing here.");
+        return listing.toString();
+    }
+
+    private static String renderToUser(int page, int limit, int rows) {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            render(Listing.toUser(page, limit), rows);
+        } finally {
+            System.setOut(originalOut);
+        }
+        return output.toString();
+    }
+
+    private static String displayed(String message) {
+        String lineSeparator = System.lineSeparator();
+        return Ui.SEPARATOR + lineSeparator + message + lineSeparator + Ui.SEPARATOR + lineSeparator;
+    }
+
+    @Test
+    void toText_rows_expectNumberedRows() {
+        assertEquals("1. Row 1\n2. Row 2\n", render(Listing.toText(), 2));
+        assertEquals("Nothing here.", render(Listing.toText(), 0));
+    }
+
+    @Test
+    void toUser_noPage_expectSameAsDisplayToUser() {
+        assertEquals(displayed("1. Row 1\n2. Row 2\n3. Row 3\n"), renderToUser(0, 0, 3));
+    }
+
+    @Test
+    void toUser_secondPage_expectRowsKeepTheirNumbers() {
+        assertEquals(displayed("3. Row 3\n4. Row 4\nThere are more entries, use --page 3 to see them."),
+                renderToUser(2, 2, 5));
+        assertEquals(displayed("5. Row 5\n"), renderToUser(3, 2, 5));
+        assertEquals(displayed("There are no entries on page 4."), renderToUser(4, 2, 5));
+    }
+
+    @Test
+    void addNumberedRow_pastThePage_expectFalse() {
+        Listing listing = Listing.toUser(0, 1);
+        assertTrue(listing.addNumberedRow("Row 1"));
+        assertFalse(listing.addNumberedRow("Row 2"));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BinaryLedgerFormatTest {
+
+    @Test
+    void encodeThenDecode_sampleLedger_expectSameLedger() throws IOException {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        expenses.add(new Expense("Café latte", 4.5, LocalDate.of(2024, 10, 1), Category.FOOD));
+        expenses.add(new Expense("Train", 1.2, LocalDate.of(2023, 12, 31), Category.TRANSPORT));
+        ArrayList<Income> incomes = new ArrayList<>();
+        incomes.add(new Income("Salary", 3000, LocalDate.of(2024, 10, 25)));
+        ArrayList<Budget> budgets = new ArrayList<>();
+        Budget budget = new Budget(YearMonth.of(2024, 10));
+        budget.addAmount(Category.FOOD, 300);
+        budget.addAmount(Category.OTHERS, 50.5);
+        budgets.add(budget);
+
+        byte[] bytes = BinaryLedgerFormat.encode(expenses, incomes, budgets, 7);
+
+        ArrayList<Expense> loadedExpenses = new ArrayList<>();
+        ArrayList<Income> loadedIncomes = new ArrayList<>();
+        ArrayList<Budget> loadedBudgets = new ArrayList<>();
+        int coveredGeneration = BinaryLedgerFormat.decode(new ByteArrayInputStream(bytes),
+                loadedExpenses, loadedIncomes, loadedBudgets);
+
+        assertEquals(7, coveredGeneration);
+        assertEquals(expenses.toString(), loadedExpenses.toString());
+        assertEquals(incomes.toString(), loadedIncomes.toString());
+        assertEquals(expenses.get(1).getId(), loadedExpenses.get(1).getId());
+        assertEquals(incomes.get(0).getId(), loadedIncomes.get(0).getId());
+        assertEquals(budgets.toString(), loadedBudgets.toString());
+    }
+
+    @Test
+    void decode_version3SnapshotWithDoubleAmounts_expectAmountsInCents() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(BinaryLedgerFormat.MAGIC);
+            out.writeShort(3);
+            out.writeInt(1); // expenses
+            out.writeInt(1); // incomes
+            out.writeInt(1); // budgets
+            out.writeInt(2); // covered generation
+            out.writeInt(0); // archive segments
+            out.writeLong(41);
+            writeString(out, "Train");
+            out.writeDouble(1.2);
+            out.writeInt((int) LocalDate.of(2023, 12, 31).toEpochDay());
+            out.writeByte(Category.TRANSPORT.ordinal());
+            out.writeLong(42);
+            writeString(out, "Salary");
+            out.writeDouble(3000.1);
+            out.writeInt((int) LocalDate.of(2024, 10, 25).toEpochDay());
+            out.writeInt(2024 * 12 + 9); // October 2024
+            out.writeByte(1);
+            out.writeByte(Category.OTHERS.ordinal());
+            out.writeDouble(50.5);
+        }
+
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        ArrayList<Budget> budgets = new ArrayList<>();
+        int coveredGeneration = BinaryLedgerFormat.decode(new ByteArrayInputStream(bytes.toByteArray()),
+                expenses, incomes, budgets);
+
+        assertEquals(2, coveredGeneration);
+        assertEquals(120L, expenses.get(0).getAmountInCents());
+        assertEquals(41L, expenses.get(0).getId());
+        assertEquals(300010L, incomes.get(0).getAmountInCents());
+        assertEquals(5050L, budgets.get(0).getCategoryBudgetInCents(Category.OTHERS));
+    }
+
+    @Test
+    void decode_emptyFile_expectEmptyLedger() throws IOException {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        ArrayList<Budget> budgets = new ArrayList<>();
+        int coveredGeneration = BinaryLedgerFormat.decode(new ByteArrayInputStream(new byte[0]),
+                expenses, incomes, budgets);
+        assertEquals(0, coveredGeneration);
+        assertEquals(0, expenses.size() + incomes.size() + budgets.size());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+}
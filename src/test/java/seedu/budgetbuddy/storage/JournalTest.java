@@ -0,0 +1,250 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.budgetbuddy.Storage;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.transaction.TransactionSlots;
+import seedu.budgetbuddy.transaction.budget.BudgetManager;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalTest {
+    private static final Expense LUNCH = new Expense("Lunch", 12.5, LocalDate.of(2024, 10, 1), Category.FOOD);
+    private static final Expense TAXI = new Expense("Taxi", 8, LocalDate.of(2024, 10, 3), Category.TRANSPORT);
+    private static final Expense MOVIE = new Expense("Movie", 10, LocalDate.of(2024, 11, 5),
+            Category.ENTERTAINMENT);
+    private static final Income SALARY = new Income("Salary", 3000, LocalDate.of(2024, 9, 30));
+
+    @TempDir
+    Path directory;
+
+    private Path dataFile;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = directory.resolve("BudgetBuddy.txt");
+        Journal.clearPendingRecords();
+    }
+
+    private Storage openStorage() throws IOException {
+        Storage storage = new Storage(dataFile.toString());
+        storage.createFileIfNotExists();
+        return storage;
+    }
+
+    /**
+     * Loads the ledger from the data file and its journals, as the lines the transactions are stored as.
+     */
+    private List<String> loadLines() throws IOException {
+        Storage storage = openStorage();
+        ArrayList<ArrayList<?>> data = storage.load();
+        storage.close();
+        ArrayList<String> lines = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            for (Object transaction : data.get(i)) {
+                lines.add(Storage.getString((Transaction) transaction));
+            }
+        }
+        return lines;
+    }
+
+    private void writeLines(String suffix, String... lines) throws IOException {
+        Files.write(Path.of(dataFile + suffix), List.of(lines));
+    }
+
+    /**
+     * Adds the given number of expenses to the ledger held by the managers, as commands would,
+     * and appends their records to the journal.
+     */
+    private List<String> addExpenses(Storage storage, int count) throws IOException {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            expenses.add(new Expense("Expense " + i, i + 1, LocalDate.of(2024, 1, 1).plusDays(i), Category.FOOD));
+        }
+        new ExpenseManager(new ArrayList<>(expenses), count);
+        new IncomeManager(new ArrayList<>(), 0);
+        new BudgetManager(new ArrayList<>(), 0);
+        ArrayList<String> lines = new ArrayList<>();
+        for (Expense expense : expenses) {
+            Journal.recordAdd(expense);
+            lines.add(Storage.getString(expense));
+        }
+        storage.appendJournal();
+        return lines;
+    }
+
+    @Test
+    void appendJournal_addAndDelete_expectReloadedLedgerToMatch() throws IOException {
+        Storage storage = openStorage();
+        storage.load();
+        Journal.recordAdd(LUNCH);
+        Journal.recordAdd(TAXI);
+        Journal.recordAdd(SALARY);
+        storage.appendJournal();
+        Journal.recordDelete(LUNCH);
+        Journal.recordAdd(MOVIE);
+        storage.appendJournal();
+        storage.close();
+
+        assertEquals("", Files.readString(dataFile));
+        List<String> journal = Files.readAllLines(Path.of(dataFile + ".journal"));
+        assertEquals(Journal.CHECKPOINT + "1", journal.get(0));
+        assertEquals(6, journal.size());
+        assertEquals(List.of(Storage.getString(TAXI), Storage.getString(MOVIE), Storage.getString(SALARY)),
+                loadLines());
+    }
+
+    @Test
+    void appendJournal_nothingRecorded_expectNoJournal() throws IOException {
+        Storage storage = openStorage();
+        storage.load();
+        storage.appendJournal();
+        storage.close();
+
+        assertEquals(false, Files.exists(Path.of(dataFile + ".journal")));
+    }
+
+    @Test
+    void load_journalNewerThanSnapshot_expectRecordsReplayed() throws IOException {
+        writeLines("", Storage.getString(LUNCH), Journal.CHECKPOINT + "1");
+        writeLines(".journal", Journal.CHECKPOINT + "2", "add | " + Storage.getString(TAXI));
+
+        assertEquals(List.of(Storage.getString(LUNCH), Storage.getString(TAXI)), loadLines());
+    }
+
+    @Test
+    void load_journalCoveredBySnapshot_expectRecordsSkipped() throws IOException {
+        writeLines("", Storage.getString(LUNCH), Storage.getString(TAXI), Journal.CHECKPOINT + "2");
+        writeLines(".journal", Journal.CHECKPOINT + "2", "add | " + Storage.getString(TAXI));
+
+        assertEquals(List.of(Storage.getString(LUNCH), Storage.getString(TAXI)), loadLines());
+    }
+
+    @Test
+    void replay_deleteOfUnknownId_expectSkippedAndLaterRecordsApplied() {
+        TransactionSlots<Expense> expenses = new TransactionSlots<>();
+        TransactionSlots<Income> incomes = new TransactionSlots<>();
+        Journal.replay("add | " + Storage.getString(LUNCH), expenses, incomes, new ArrayList<>());
+        Journal.replay("delete | expense | " + MOVIE.getId(), expenses, incomes, new ArrayList<>());
+        Journal.replay("delete | expense | lunch", expenses, incomes, new ArrayList<>());
+        Journal.replay("add | " + Storage.getString(TAXI), expenses, incomes, new ArrayList<>());
+
+        assertEquals(2, expenses.size());
+        assertEquals(Storage.getString(TAXI), Storage.getString(expenses.get(1)));
+    }
+
+    @Test
+    void replay_deleteAndEditById_expectTransactionsFoundWhateverTheirPosition() {
+        TransactionSlots<Expense> expenses = new TransactionSlots<>();
+        TransactionSlots<Income> incomes = new TransactionSlots<>();
+        expenses.setTransactions(new ArrayList<>(List.of(LUNCH, TAXI, MOVIE)));
+        incomes.setTransactions(new ArrayList<>(List.of(SALARY)));
+        Expense editedTaxi = new Expense(TAXI.getId(), "Taxi", 20, LocalDate.of(2024, 10, 4), Category.TRANSPORT);
+
+        Journal.replay("delete | expense | " + LUNCH.getId(), expenses, incomes, new ArrayList<>());
+        Journal.replay("edit | " + TAXI.getId() + " | " + Storage.getString(editedTaxi), expenses, incomes,
+                new ArrayList<>());
+        Journal.replay("delete | income | " + SALARY.getId(), expenses, incomes, new ArrayList<>());
+
+        assertEquals(List.of(Storage.getString(editedTaxi), Storage.getString(MOVIE)),
+                List.of(Storage.getString(expenses.get(0)), Storage.getString(expenses.get(1))));
+        assertEquals(2, expenses.size());
+        assertEquals(0, incomes.size());
+    }
+
+    @Test
+    void appendJournal_snapshotWithoutIds_expectSnapshotWrittenInsteadOfJournal() throws IOException {
+        writeLines("", "expense | Lunch | 12.5 | 1/10/2024 | FOOD", "expense | Taxi | 8.0 | 3/10/2024 | TRANSPORT");
+        Storage storage = openStorage();
+        ArrayList<ArrayList<?>> data = storage.load();
+        new ExpenseManager((ArrayList<Expense>) data.get(0), data.get(0).size());
+        new IncomeManager(new ArrayList<>(), 0);
+        new BudgetManager(new ArrayList<>(), 0);
+        Expense lunch = (Expense) data.get(0).get(0);
+        Journal.recordDelete(lunch);
+        ExpenseManager.getLoadedExpenses().remove(0);
+        storage.appendJournal();
+        storage.close();
+
+        assertEquals(false, Files.exists(Path.of(dataFile + ".journal")));
+        assertEquals(true, Files.exists(Path.of(dataFile + ".ids")));
+        List<String> lines = loadLines();
+        assertEquals(1, lines.size());
+        assertEquals(true, lines.get(0).startsWith("expense | Taxi | 8.0 | 3/10/2024 | TRANSPORT | "));
+    }
+
+    @Test
+    void appendJournal_belowRecordThreshold_expectJournalKept() throws IOException {
+        Storage storage = openStorage();
+        storage.load();
+        List<String> lines = addExpenses(storage, 999);
+        storage.close();
+
+        assertEquals("", Files.readString(dataFile));
+        assertEquals(1000, Files.readAllLines(Path.of(dataFile + ".journal")).size());
+        assertEquals(lines, loadLines());
+    }
+
+    @Test
+    void appendJournal_recordThresholdReached_expectJournalCompactedIntoSnapshot() throws IOException {
+        Storage storage = openStorage();
+        storage.load();
+        List<String> lines = addExpenses(storage, 1000);
+        storage.close();
+
+        List<String> snapshot = Files.readAllLines(dataFile);
+        assertEquals(Journal.CHECKPOINT + "1", snapshot.get(snapshot.size() - 1));
+        assertEquals(false, Files.exists(Path.of(dataFile + ".journal")));
+        assertEquals(false, Files.exists(Path.of(dataFile + ".journal.old")));
+        assertEquals(lines, loadLines());
+    }
+
+    @Test
+    void load_rotatedJournalNotYetReplaced_expectBothJournalsReplayedInOrder() throws IOException {
+        // Left behind by a crash after the journal was rotated out but before the snapshot was written
+        writeLines("", Storage.getString(LUNCH), Journal.CHECKPOINT + "1");
+        writeLines(".journal.old", Journal.CHECKPOINT + "2", "add | " + Storage.getString(TAXI));
+        writeLines(".journal", Journal.CHECKPOINT + "3", "add | " + Storage.getString(MOVIE),
+                "delete | expense | " + LUNCH.getId());
+        List<String> expected = List.of(Storage.getString(TAXI), Storage.getString(MOVIE));
+
+        assertEquals(expected, loadLines());
+
+        // The next compaction finishes the interrupted one
+        Storage storage = openStorage();
+        ArrayList<ArrayList<?>> data = storage.load();
+        new ExpenseManager((ArrayList<Expense>) data.get(0), data.get(0).size());
+        new IncomeManager(new ArrayList<>(), 0);
+        new BudgetManager(new ArrayList<>(), 0);
+        storage.compactInBackground();
+        storage.close();
+
+        List<String> snapshot = Files.readAllLines(dataFile);
+        assertEquals(Journal.CHECKPOINT + "3", snapshot.get(snapshot.size() - 1));
+        assertEquals(false, Files.exists(Path.of(dataFile + ".journal.old")));
+        assertEquals(expected, loadLines());
+    }
+
+    @Test
+    void load_rotatedJournalAlreadyInSnapshot_expectRecordsSkipped() throws IOException {
+        // Left behind by a crash after the snapshot was written but before the rotated journal was removed
+        writeLines("", Storage.getString(LUNCH), Storage.getString(TAXI), Journal.CHECKPOINT + "2");
+        writeLines(".journal.old", Journal.CHECKPOINT + "2", "add | " + Storage.getString(TAXI));
+
+        assertEquals(List.of(Storage.getString(LUNCH), Storage.getString(TAXI)), loadLines());
+    }
+}
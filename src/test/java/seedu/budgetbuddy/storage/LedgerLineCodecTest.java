@@ -0,0 +1,206 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.TransactionIds;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LedgerLineCodecTest {
+
+    private static String encode(Expense expense) {
+        return LedgerLineCodec.appendExpense(new StringBuilder(), expense).toString();
+    }
+
+    private static String encode(Income income) {
+        return LedgerLineCodec.appendIncome(new StringBuilder(), income).toString();
+    }
+
+    private static String encode(Budget budget) {
+        return LedgerLineCodec.appendBudget(new StringBuilder(), budget).toString();
+    }
+
+    private static double parseAmount(String amount) {
+        return LedgerLineCodec.parseAmount(amount, 0, amount.length());
+    }
+
+    private static LocalDate parseDate(String date) {
+        return LedgerLineCodec.parseDate(date, 0, date.length());
+    }
+
+    @Test
+    void appendExpense_expense_expectOriginalFormatWithId() {
+        Expense expense = new Expense("Lunch", 12.5, LocalDate.of(2024, 10, 1), Category.FOOD);
+
+        assertEquals("expense | Lunch | 12.5 | 1/10/2024 | FOOD | " + expense.getId(), encode(expense));
+    }
+
+    @Test
+    void appendIncome_income_expectOriginalFormatWithId() {
+        Income income = new Income("Salary", 3000, LocalDate.of(2024, 12, 25));
+
+        assertEquals("income | Salary | 3000.0 | 25/12/2024 | " + income.getId(), encode(income));
+    }
+
+    @Test
+    void appendBudget_budget_expectSameAsMapToString() {
+        Budget budget = new Budget(YearMonth.of(2024, 3));
+        budget.addAmount(Category.FOOD, 300);
+        budget.addAmount(Category.TRANSPORT, 50.5);
+        budget.addAmount(Category.OTHERS, 1e7);
+
+        assertEquals("budget | " + budget.getTotalMonthlyBudget() + " | 2024-03 | "
+                + budget.getCategoryBudgets(), encode(budget));
+    }
+
+    @Test
+    void decode_expenseLine_expectRoundTrip() {
+        Expense expense = new Expense("Bus", 0.1, LocalDate.of(2024, 2, 29), Category.TRANSPORT);
+        ArrayList<Expense> expenses = new ArrayList<>();
+
+        String line = encode(expense);
+        LedgerLineCodec.decode(line, 0, line.length(), expenses, new ArrayList<>(), new ArrayList<>());
+
+        assertEquals(1, expenses.size());
+        assertEquals("Bus", expenses.get(0).getDescription());
+        assertEquals(expense.getAmount(), expenses.get(0).getAmount());
+        assertEquals(expense.getDate(), expenses.get(0).getDate());
+        assertEquals(expense.getCategory(), expenses.get(0).getCategory());
+        assertEquals(line, encode(expenses.get(0)));
+    }
+
+    @Test
+    void decode_incomeLineInsideText_expectOnlyThatLineParsed() {
+        String text = "expense | Tea | 2.0 | 3/4/2024 | FOOD\nincome | Bonus | 150.75 | 30/6/2024\nbudget";
+        int start = text.indexOf("income");
+        int end = text.indexOf('\n', start);
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+
+        LedgerLineCodec.decode(text, start, end, expenses, incomes, new ArrayList<>());
+
+        assertEquals(0, expenses.size());
+        assertEquals(1, incomes.size());
+        assertEquals("income | Bonus | 150.75 | 30/6/2024 | " + incomes.get(0).getId(), encode(incomes.get(0)));
+    }
+
+    @Test
+    void decode_linesWithAndWithoutIds_expectStoredIdKeptAndNewIdsAfterIt() {
+        long storedId = TransactionIds.getNextId() + 1000;
+        String text = "expense | Tea | 2.0 | 3/4/2024 | FOOD | " + storedId + "\nincome | Bonus | 150.75 | 30/6/2024";
+        int lineEnd = text.indexOf('\n');
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+
+        LedgerLineCodec.decode(text, 0, lineEnd, expenses, incomes, new ArrayList<>());
+        LedgerLineCodec.decode(text, lineEnd + 1, text.length(), expenses, incomes, new ArrayList<>());
+
+        assertEquals(storedId, expenses.get(0).getId());
+        assertEquals(storedId + 1, incomes.get(0).getId());
+    }
+
+    @Test
+    void decode_budgetLine_expectRoundTrip() {
+        Budget budget = new Budget(YearMonth.of(2025, 11));
+        budget.addAmount(Category.FOOD, 123.45);
+        budget.addAmount(Category.UTILITIES, 80);
+        String line = encode(budget);
+        ArrayList<Budget> budgets = new ArrayList<>();
+
+        LedgerLineCodec.decode(line, 0, line.length(), new ArrayList<>(), new ArrayList<>(), budgets);
+
+        assertEquals(1, budgets.size());
+        assertEquals(YearMonth.of(2025, 11), budgets.get(0).getDate());
+        assertEquals(budget.getCategoryBudgets(), budgets.get(0).getCategoryBudgets());
+        assertEquals(line, encode(budgets.get(0)));
+    }
+
+    @Test
+    void decode_lowerCaseTypeAndCategory_expectParsed() {
+        String line = "EXPENSE | Movie | 10 | 05/01/2024 | entertainment";
+        ArrayList<Expense> expenses = new ArrayList<>();
+
+        LedgerLineCodec.decode(line, 0, line.length(), expenses, new ArrayList<>(), new ArrayList<>());
+
+        assertEquals(Category.ENTERTAINMENT, expenses.get(0).getCategory());
+        assertEquals(LocalDate.of(2024, 1, 5), expenses.get(0).getDate());
+    }
+
+    @Test
+    void decode_unknownType_expectNothingAdded() {
+        String line = "loan | Car | 100.0 | 1/1/2024";
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        ArrayList<Budget> budgets = new ArrayList<>();
+
+        LedgerLineCodec.decode(line, 0, line.length(), expenses, incomes, budgets);
+
+        assertEquals(0, expenses.size() + incomes.size() + budgets.size());
+    }
+
+    @Test
+    void decode_missingField_expectException() {
+        String line = "income | Salary | 3000.0";
+
+        assertThrows(IllegalArgumentException.class, () -> LedgerLineCodec.decode(line, 0, line.length(),
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+    }
+
+    @Test
+    void parseAmount_variousAmounts_expectSameAsParseDouble() {
+        String[] amounts = {"0", "12.5", "0.1", "0.30000000000000004", "1234567.891", "9007199254740993",
+            "123456789012345678901", "1.0E7", "5.", ".5", "+3.25", " 7.5 ", "4.35", "1e-3"};
+        for (String amount : amounts) {
+            assertEquals(Double.parseDouble(amount), parseAmount(amount), amount);
+        }
+    }
+
+    @Test
+    void parseAmount_notANumber_expectException() {
+        assertThrows(NumberFormatException.class, () -> parseAmount("12,50"));
+    }
+
+    @Test
+    void parseDate_variousDates_expectSameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/M/yyyy");
+        String[] dates = {"1/1/2024", "01/02/2024", "31/12/1999", "29/2/2024", "31/4/2024", "29/2/2023",
+            "5/6/0999"};
+        for (String date : dates) {
+            assertEquals(LocalDate.parse(date, formatter), parseDate(date), date);
+        }
+    }
+
+    @Test
+    void parseDate_invalidDate_expectException() {
+        assertThrows(RuntimeException.class, () -> parseDate("1/13/2024"));
+        assertThrows(RuntimeException.class, () -> parseDate("2024-01-01"));
+    }
+
+    @Test
+    void appendDate_unusualYears_expectSameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d/M/yyyy");
+        for (LocalDate date : new LocalDate[] {LocalDate.of(999, 5, 6), LocalDate.of(2024, 1, 9),
+                LocalDate.of(12345, 8, 7)}) {
+            assertEquals(date.format(formatter), LedgerLineCodec.appendDate(new StringBuilder(), date).toString());
+        }
+    }
+
+    @Test
+    void parseMonth_month_expectSameAsFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        for (String month : new String[] {"2024-01", "1999-12", "0999-05"}) {
+            assertEquals(YearMonth.parse(month, formatter), LedgerLineCodec.parseMonth(month, 0, month.length()));
+            assertEquals(month, LedgerLineCodec.appendMonth(new StringBuilder(),
+                    YearMonth.parse(month, formatter)).toString());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LedgerSummaryTest {
+
+    @Test
+    void of_sampleTransactions_expectTotalsPerMonthAndCategory() {
+        LedgerSummary summary = LedgerSummary.of(List.of(
+                new Expense("Lunch", 12.5, LocalDate.of(2023, 3, 1), Category.FOOD),
+                new Expense("Dinner", 7.5, LocalDate.of(2023, 3, 20), Category.FOOD),
+                new Expense("Bus", 2, LocalDate.of(2023, 3, 2), Category.TRANSPORT)),
+                List.of(new Income("Salary", 100, LocalDate.of(2023, 3, 25))));
+
+        assertEquals(22.0, summary.getExpenseTotal(YearMonth.of(2023, 3)));
+        assertEquals(20.0, summary.getExpenseTotal(YearMonth.of(2023, 3), Category.FOOD));
+        assertEquals(0.0, summary.getExpenseTotal(YearMonth.of(2023, 4)));
+        assertEquals(100.0, summary.getIncomeTotal(YearMonth.of(2023, 3)));
+    }
+
+    @Test
+    void encodeThenDecode_sampleSummary_expectSameTotals() {
+        LedgerSummary summary = new LedgerSummary();
+        summary.addExpense(YearMonth.of(2023, 12), Category.UTILITIES, 80.25);
+        summary.addIncome(YearMonth.of(2023, 11), 3000);
+
+        LedgerSummary decoded = LedgerSummary.decode(summary.encode());
+
+        assertEquals(summary.encode(), decoded.encode());
+        assertEquals(80.25, decoded.getExpenseTotal(YearMonth.of(2023, 12), Category.UTILITIES));
+        assertEquals(3000.0, decoded.getIncomeTotal(YearMonth.of(2023, 11)));
+    }
+}
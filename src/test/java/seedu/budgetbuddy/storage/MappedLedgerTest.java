@@ -0,0 +1,138 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.expense.ExpenseManager;
+import seedu.budgetbuddy.transaction.income.Income;
+import seedu.budgetbuddy.transaction.income.IncomeManager;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MappedLedgerTest {
+
+    @TempDir
+    Path directory;
+
+    private static MappedLedger reopen(Path directory, MappedLedger ledger) throws IOException {
+        ledger.close();
+        OnDemandLoader.unregister(ledger);
+        new ExpenseManager(new ArrayList<>(), 0);
+        new IncomeManager(new ArrayList<>(), 0);
+        return MappedLedger.open(directory, new ArrayList<>());
+    }
+
+    @Test
+    void writeChanges_addEditAndDelete_expectReopenedLedgerToMatch() throws IOException {
+        new ExpenseManager(new ArrayList<>(), 0);
+        new IncomeManager(new ArrayList<>(), 0);
+        MappedLedger ledger = MappedLedger.open(directory, new ArrayList<>());
+
+        Expense lunch = new Expense("Lunch", 12.5, LocalDate.of(2024, 10, 1), Category.FOOD);
+        Expense taxi = new Expense("Taxi", 8, LocalDate.of(2024, 10, 3), Category.TRANSPORT);
+        new ExpenseManager(new ArrayList<>(List.of(lunch, taxi)), 2);
+        new IncomeManager(new ArrayList<>(List.of(new Income("Salary", 3000, LocalDate.of(2024, 9, 30)))), 1);
+        ledger.writeChanges(Set.of(YearMonth.of(2024, 9), YearMonth.of(2024, 10)));
+
+        lunch.editDate(LocalDate.of(2024, 11, 2));
+        lunch.editAmount(14);
+        new ExpenseManager(new ArrayList<>(List.of(lunch)), 1);
+        ledger.writeChanges(Set.of(YearMonth.of(2024, 10), YearMonth.of(2024, 11)));
+
+        ledger = reopen(directory, ledger);
+        assertEquals(1, ledger.countUnloadedExpenses());
+        assertEquals(1, ledger.countUnloadedIncomes());
+
+        LedgerSummary summary = new LedgerSummary();
+        ledger.summarize(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH, summary);
+        assertEquals(14.0, summary.getExpenseTotal(YearMonth.of(2024, 11), Category.FOOD));
+        assertEquals(0.0, summary.getExpenseTotal(YearMonth.of(2024, 10)));
+        assertEquals(3000.0, summary.getIncomeTotal(YearMonth.of(2024, 9)));
+
+        ledger.load(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH);
+        assertEquals(1, ExpenseManager.getLoadedExpenses().size());
+        assertEquals("Description: Lunch  Amount: 14.0  Date: 2024-11-02  Category: FOOD",
+                ExpenseManager.getLoadedExpenses().get(0).toString());
+        assertEquals("Salary", IncomeManager.getLoadedIncomes().get(0).getDescription());
+
+        ledger.close();
+        OnDemandLoader.unregister(ledger);
+        new ExpenseManager(new ArrayList<>(), 0);
+        new IncomeManager(new ArrayList<>(), 0);
+    }
+
+    @Test
+    void open_version2FilesWithDoubleAmounts_expectAmountsMigratedToCents() throws IOException {
+        byte[] description = "Train".getBytes(StandardCharsets.UTF_8);
+        LocalDate date = LocalDate.of(2024, 10, 5);
+        ByteBuffer records = ByteBuffer.allocate(32 + 40);
+        records.putInt(0, 0x42424D4C).putInt(4, 2).putInt(8, 1).putInt(12, description.length).putInt(16, 1);
+        records.put(32, (byte) 1).put(33, (byte) Category.TRANSPORT.ordinal())
+                .putInt(36, date.getYear() * 12 + date.getMonthValue() - 1).putLong(40, date.toEpochDay())
+                .putDouble(48, 1.2).putInt(56, 0).putInt(60, description.length).putLong(64, 77);
+        Files.write(directory.resolve(MappedLedger.RECORDS_FILE), records.array());
+        Files.write(directory.resolve(MappedLedger.STRINGS_FILE), description);
+        new ExpenseManager(new ArrayList<>(), 0);
+        new IncomeManager(new ArrayList<>(), 0);
+
+        MappedLedger ledger = MappedLedger.open(directory, new ArrayList<>());
+        LedgerSummary summary = new LedgerSummary();
+        ledger.summarize(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH, summary);
+        assertEquals(1.2, summary.getExpenseTotal(YearMonth.of(2024, 10), Category.TRANSPORT));
+
+        ledger = reopen(directory, ledger);
+        ledger.load(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH);
+        Expense train = ExpenseManager.getLoadedExpenses().get(0);
+        assertEquals(120L, train.getAmountInCents());
+        assertEquals(77L, train.getId());
+
+        ledger.close();
+        OnDemandLoader.unregister(ledger);
+        new ExpenseManager(new ArrayList<>(), 0);
+        new IncomeManager(new ArrayList<>(), 0);
+    }
+
+    @Test
+    void deleteExpense_recordsNotLoaded_expectOnlyMonthOfExpenseLoaded() throws IOException {
+        new ExpenseManager(new ArrayList<>(), 0);
+        new IncomeManager(new ArrayList<>(), 0);
+        MappedLedger ledger = MappedLedger.open(directory, new ArrayList<>());
+        Expense book = new Expense("Book", 15, LocalDate.of(2024, 8, 2), Category.EDUCATION);
+        Expense lunch = new Expense("Lunch", 12.5, LocalDate.of(2024, 9, 1), Category.FOOD);
+        Expense taxi = new Expense("Taxi", 8, LocalDate.of(2024, 9, 3), Category.TRANSPORT);
+        Expense movie = new Expense("Movie", 10, LocalDate.of(2024, 10, 5), Category.ENTERTAINMENT);
+        new ExpenseManager(new ArrayList<>(List.of(book, lunch, taxi, movie)), 4);
+        ledger.writeChanges(Set.of(YearMonth.of(2024, 8), YearMonth.of(2024, 9), YearMonth.of(2024, 10)));
+        ledger = reopen(directory, ledger);
+        new ExpenseManager(new ArrayList<>(), 4);
+
+        ExpenseManager.deleteExpense(2);
+        assertEquals(2, ledger.countUnloadedExpenses());
+        assertEquals(List.of("Lunch"), ExpenseManager.getLoadedExpenses().stream()
+                .map(Expense::getDescription).toList());
+
+        ledger.writeChanges(Journal.getChangedMonths());
+        Journal.clearPendingRecords();
+        ledger = reopen(directory, ledger);
+        ledger.load(OnDemandLoader.FIRST_MONTH, OnDemandLoader.LAST_MONTH);
+        assertEquals(List.of("Book", "Lunch", "Movie"), ExpenseManager.getLoadedExpenses().stream()
+                .map(Expense::getDescription).toList());
+
+        ledger.close();
+        OnDemandLoader.unregister(ledger);
+        new ExpenseManager(new ArrayList<>(), 0);
+        new IncomeManager(new ArrayList<>(), 0);
+    }
+}
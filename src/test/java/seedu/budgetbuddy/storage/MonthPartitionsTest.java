@@ -0,0 +1,64 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.expense.Expense;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MonthPartitionsTest {
+
+    @Test
+    void mergeByMonth_olderPartitionLoaded_expectInsertedBeforeLaterMonths() {
+        Expense october = new Expense("Lunch", 12.5, LocalDate.of(2024, 10, 1), Category.FOOD);
+        Expense december = new Expense("Gift", 30, LocalDate.of(2024, 12, 24), Category.OTHERS);
+        Expense backdated = new Expense("Taxi", 8, LocalDate.of(2024, 9, 30), Category.TRANSPORT);
+        ArrayList<Expense> expenses = new ArrayList<>(List.of(october, december, backdated));
+
+        Expense august = new Expense("Book", 15, LocalDate.of(2024, 8, 2), Category.EDUCATION);
+        Expense november = new Expense("Movie", 10, LocalDate.of(2024, 11, 5), Category.ENTERTAINMENT);
+        MonthPartitions.mergeByMonth(expenses, List.of(august, november), Expense::getDate);
+
+        assertEquals(List.of(august, october, november, december, backdated), expenses);
+    }
+
+    @Test
+    void findUnloadedMonth_olderPartitionsNotLoaded_expectSamePositionsAsMergedList() {
+        Expense october = new Expense("Lunch", 12.5, LocalDate.of(2024, 10, 1), Category.FOOD);
+        Expense december = new Expense("Gift", 30, LocalDate.of(2024, 12, 24), Category.OTHERS);
+        Expense backdated = new Expense("Taxi", 8, LocalDate.of(2024, 9, 30), Category.TRANSPORT);
+        List<Expense> expenses = List.of(october, december, backdated);
+        TreeMap<YearMonth, Integer> unloadedCounts = new TreeMap<>();
+        unloadedCounts.put(YearMonth.of(2024, 8), 2);
+        unloadedCounts.put(YearMonth.of(2024, 11), 1);
+
+        // Once loaded, the list is: August, August, October, November, December, September
+        List<YearMonth> months = new ArrayList<>();
+        List<Integer> unloadedBefore = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            months.add(MonthPartitions.findUnloadedMonth(i, expenses, unloadedCounts, Expense::getDate));
+            unloadedBefore.add(MonthPartitions.countUnloadedBefore(i, expenses, unloadedCounts, Expense::getDate));
+        }
+
+        assertEquals(Arrays.asList(YearMonth.of(2024, 8), YearMonth.of(2024, 8), null, YearMonth.of(2024, 11),
+                null, null), months);
+        assertEquals(List.of(2, 3, 3), List.of(unloadedBefore.get(2), unloadedBefore.get(4), unloadedBefore.get(5)));
+    }
+
+    @Test
+    void mergeByMonth_nothingLoaded_expectListUnchanged() {
+        Expense october = new Expense("Lunch", 12.5, LocalDate.of(2024, 10, 1), Category.FOOD);
+        ArrayList<Expense> expenses = new ArrayList<>(List.of(october));
+
+        MonthPartitions.mergeByMonth(expenses, new ArrayList<>(), Expense::getDate);
+
+        assertEquals(List.of(october), expenses);
+    }
+}
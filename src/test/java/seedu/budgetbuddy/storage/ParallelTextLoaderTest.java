@@ -0,0 +1,116 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.budgetbuddy.Storage;
+import seedu.budgetbuddy.transaction.Category;
+import seedu.budgetbuddy.transaction.Transaction;
+import seedu.budgetbuddy.transaction.budget.Budget;
+import seedu.budgetbuddy.transaction.expense.Expense;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ParallelTextLoaderTest {
+    private static final String CRLF = "\r\n";
+
+    @TempDir
+    Path directory;
+
+    private static String expenseLine(int i, String description) {
+        return Storage.getString(new Expense(i + 1, description, i + 1,
+                LocalDate.of(2024, 1, 1).plusDays(i % 365), Category.FOOD));
+    }
+
+    private static String incomeLine(int i) {
+        return Storage.getString(new Income(i + 1, "Income " + i, i + 1,
+                LocalDate.of(2024, 1, 1).plusDays(i % 365)));
+    }
+
+    /**
+     * Parses the content line by line on the calling thread, as the data file was read before it was
+     * split into chunks.
+     */
+    private static List<String> parseSequentially(String content, List<String> archivedSegments) {
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        ArrayList<Budget> budgets = new ArrayList<>();
+        for (String line : content.split("\r?\n")) {
+            if (line.startsWith(ColdArchive.ARCHIVE)) {
+                archivedSegments.addAll(List.of(line.substring(ColdArchive.ARCHIVE.length()).split(" \\| ")));
+            } else if (!line.startsWith(Journal.CHECKPOINT) && !line.isEmpty()) {
+                LedgerLineCodec.decode(line, 0, line.length(), expenses, incomes, budgets);
+            }
+        }
+        return toLines(expenses, incomes, budgets);
+    }
+
+    private static List<String> toLines(List<Expense> expenses, List<Income> incomes, List<Budget> budgets) {
+        ArrayList<String> lines = new ArrayList<>();
+        for (Transaction transaction : expenses) {
+            lines.add(Storage.getString(transaction));
+        }
+        for (Transaction transaction : incomes) {
+            lines.add(Storage.getString(transaction));
+        }
+        for (Budget budget : budgets) {
+            lines.add(Storage.getString(budget));
+        }
+        return lines;
+    }
+
+    @Test
+    void load_contentOverSeveralChunks_expectSameOrderAsSequentialParser() throws IOException {
+        StringBuilder content = new StringBuilder();
+        // Every line up to the first chunk boundary uses CRLF, and the last one straddles it
+        int i = 0;
+        int numberOfLines = 1;
+        while (content.length() < ParallelTextLoader.CHUNK_SIZE - 200) {
+            content.append((i % 3 == 0) ? incomeLine(i) : expenseLine(i, "Expense " + i)).append(CRLF);
+            i++;
+            numberOfLines++;
+        }
+        int padding = ParallelTextLoader.CHUNK_SIZE - 1 - content.length() - expenseLine(i, "").length();
+        String straddling = expenseLine(i, "x".repeat(padding));
+        content.append(straddling).append(CRLF);
+        assertEquals('\r', content.charAt(ParallelTextLoader.CHUNK_SIZE - 1));
+        assertEquals('\n', content.charAt(ParallelTextLoader.CHUNK_SIZE));
+        i++;
+
+        while (content.length() < 2 * ParallelTextLoader.CHUNK_SIZE) {
+            content.append(expenseLine(i, "Later " + i)).append(System.lineSeparator());
+            content.append(incomeLine(i)).append(System.lineSeparator());
+            i++;
+            numberOfLines += 2;
+        }
+        content.append(Storage.getString(new Budget(YearMonth.of(2024, 2)))).append(System.lineSeparator());
+        content.append(ColdArchive.ARCHIVE).append("2022.seg | 2023.seg").append(System.lineSeparator());
+        content.append(Journal.CHECKPOINT).append(7).append(System.lineSeparator());
+        Path file = directory.resolve("BudgetBuddy.txt");
+        Files.writeString(file, content, Charset.defaultCharset());
+
+        ArrayList<Expense> expenses = new ArrayList<>();
+        ArrayList<Income> incomes = new ArrayList<>();
+        ArrayList<Budget> budgets = new ArrayList<>();
+        ArrayList<String> archivedSegments = new ArrayList<>();
+        int coveredGeneration = ParallelTextLoader.load(file, expenses, incomes, budgets, archivedSegments);
+
+        ArrayList<String> expectedSegments = new ArrayList<>();
+        List<String> lines = toLines(expenses, incomes, budgets);
+        assertEquals(parseSequentially(content.toString(), expectedSegments), lines);
+        assertEquals(numberOfLines + 1, lines.size());
+        assertEquals(true, lines.contains(straddling));
+        assertEquals(List.of("2022.seg", "2023.seg"), archivedSegments);
+        assertEquals(expectedSegments, archivedSegments);
+        assertEquals(7, coveredGeneration);
+    }
+}
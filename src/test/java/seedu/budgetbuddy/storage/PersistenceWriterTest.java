@@ -0,0 +1,101 @@
+package seedu.budgetbuddy.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PersistenceWriterTest {
+
+    @TempDir
+    Path directory;
+
+    private Path dataFile;
+    private Path journalFile;
+    private PersistenceWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        dataFile = directory.resolve("BudgetBuddy.txt");
+        journalFile = directory.resolve("BudgetBuddy.txt.journal");
+        writer = new PersistenceWriter(dataFile.toString(), journalFile.toString());
+    }
+
+    private static byte[] toBytes(String text) {
+        return text.getBytes(Charset.defaultCharset());
+    }
+
+    @Test
+    void appendRecords_severalBatches_expectOneCheckpointAndRecordsInOrder() throws IOException {
+        writer.appendRecords(List.of("add | a", "add | b"), 4);
+        writer.appendRecords(List.of("add | c"), 4);
+        writer.appendRecords(List.of("delete | expense | 0"), 4);
+        writer.flush();
+        writer.appendRecords(List.of("add | d"), 4);
+        writer.close();
+
+        assertEquals(List.of(Journal.CHECKPOINT + "4", "add | a", "add | b", "add | c", "delete | expense | 0",
+                "add | d"), Files.readAllLines(journalFile));
+    }
+
+    @Test
+    void close_snapshotQueuedBetweenAppends_expectEverythingWrittenInOrder() throws IOException {
+        writer.appendRecords(List.of("add | a"), 1);
+        writer.writeSnapshot(toBytes("snapshot"));
+        writer.appendRecords(List.of("add | b"), 2);
+        writer.close();
+
+        assertEquals("snapshot", Files.readString(dataFile, Charset.defaultCharset()));
+        assertEquals(List.of(Journal.CHECKPOINT + "2", "add | b"), Files.readAllLines(journalFile));
+        assertEquals(false, Files.exists(Path.of(writer.getRotatedJournalPath())));
+        assertEquals(false, writer.isSnapshotPending());
+    }
+
+    @Test
+    void writeSnapshot_rotatedJournalLeftBehind_expectBothJournalsRemoved() throws IOException {
+        Path rotatedFile = Path.of(writer.getRotatedJournalPath());
+        Files.write(rotatedFile, List.of(Journal.CHECKPOINT + "2", "add | a"));
+        writer.appendRecords(List.of("add | b"), 3);
+        writer.writeSnapshot(toBytes("snapshot"));
+        writer.flush();
+
+        assertEquals("snapshot", Files.readString(dataFile, Charset.defaultCharset()));
+        assertEquals(false, Files.exists(journalFile));
+        assertEquals(false, Files.exists(rotatedFile));
+        writer.close();
+    }
+
+    @Test
+    void writeFiles_replacedThenDeleted_expectLastWriteToWin() throws IOException {
+        Path partition = directory.resolve("partitions").resolve("2024-10.txt");
+        writer.writeFiles(Map.of(partition, toBytes("first")));
+        writer.writeFiles(Map.of(partition, toBytes("second")));
+        writer.flush();
+        assertEquals("second", Files.readString(partition, Charset.defaultCharset()));
+
+        HashMap<Path, byte[]> deleted = new HashMap<>();
+        deleted.put(partition, null);
+        writer.writeFiles(deleted);
+        writer.close();
+        assertEquals(false, Files.exists(partition));
+    }
+
+    @Test
+    void close_calledTwice_expectLaterFlushToReturn() throws IOException {
+        writer.appendRecords(List.of("add | a"), 1);
+        writer.close();
+        writer.close();
+        writer.flush();
+
+        assertEquals(List.of(Journal.CHECKPOINT + "1", "add | a"), Files.readAllLines(journalFile));
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.budgetbuddy.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class MoneyTest {
+
+    @Test
+    void toCents_amountsNearHalfCent_expectRoundedAsWritten() {
+        assertEquals(435L, Money.toCents(4.35));
+        assertEquals(101L, Money.toCents(1.005));
+        assertEquals(-101L, Money.toCents(-1.005));
+        assertEquals(1L, Money.toCents(0.006));
+        assertEquals(0L, Money.toCents(0.004));
+    }
+
+    @Test
+    void format_amountsInCents_expectSameAsDouble() {
+        assertEquals("12.0", Money.format(1200));
+        assertEquals("3.3", Money.format(330));
+        assertEquals("-0.05", Money.format(-5));
+        assertEquals(String.valueOf(1234567.89), Money.format(123456789));
+    }
+
+    @Test
+    void toCents_manySmallAmounts_expectExactTotal() {
+        long total = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            total += Money.toCents(0.1);
+        }
+
+        assertEquals("100000.0", Money.format(total));
+        assertFalse(Money.isValid(Double.NaN));
+        assertFalse(Money.isValid(Double.POSITIVE_INFINITY));
+    }
+}
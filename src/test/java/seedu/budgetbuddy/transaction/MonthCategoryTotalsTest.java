@@ -0,0 +1,57 @@
+package seedu.budgetbuddy.transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MonthCategoryTotalsTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+    private static final YearMonth APRIL = YearMonth.of(2024, 4);
+
+    @Test
+    void add_expensesInTwoCategories_expectTotalsAndCounts() {
+        MonthCategoryTotals totals = new MonthCategoryTotals();
+        totals.add(MARCH, Category.FOOD, 1250);
+        totals.add(MARCH, Category.FOOD, 750);
+        totals.add(MARCH, Category.TRANSPORT, 300);
+        totals.add(APRIL, Category.FOOD, 100);
+
+        assertEquals(23.0, totals.getTotal(MARCH));
+        assertEquals(20.0, totals.getTotal(MARCH, Category.FOOD));
+        assertEquals(2, totals.getCount(MARCH, Category.FOOD));
+        assertEquals(3, totals.getCount(MARCH));
+        assertEquals(0.0, totals.getTotal(MARCH, Category.OTHERS));
+        assertEquals(100L, (long) totals.getTotalsInCents(MARCH, APRIL).get(APRIL));
+    }
+
+    @Test
+    void remove_afterManySmallAmounts_expectNoDrift() {
+        MonthCategoryTotals totals = new MonthCategoryTotals();
+        totals.add(MARCH, Category.FOOD, 435);
+        for (int i = 0; i < 1000; i++) {
+            totals.add(MARCH, Category.FOOD, 10);
+        }
+        for (int i = 0; i < 1000; i++) {
+            totals.remove(MARCH, Category.FOOD, 10);
+        }
+
+        assertEquals(4.35, totals.getTotal(MARCH, Category.FOOD));
+        assertEquals(435L, totals.getTotalInCents(MARCH));
+    }
+
+    @Test
+    void remove_lastTransactionOfMonth_expectMonthDropped() {
+        MonthCategoryTotals totals = new MonthCategoryTotals();
+        totals.add(MARCH, Category.FOOD, 10);
+        totals.add(MARCH, null, 20);
+        totals.remove(MARCH, Category.FOOD, 10);
+        totals.remove(MARCH, null, 20);
+
+        assertEquals(0.0, totals.getTotal(MARCH));
+        assertEquals(0, totals.getCount(MARCH));
+        assertEquals(0, totals.getTotalsInCents(MARCH, APRIL).size());
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.budgetbuddy.transaction;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.income.Income;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionSlotsTest {
+
+    private static ArrayList<Income> createIncomes(int count) {
+        ArrayList<Income> incomes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            incomes.add(new Income("Income " + i, i + 1, LocalDate.of(2024, 1, 1).plusDays(i)));
+        }
+        return incomes;
+    }
+
+    @Test
+    void removeSlot_someTransactions_expectPositionsOfLiveOnesAndSlotsKept() {
+        ArrayList<Income> incomes = createIncomes(10);
+        TransactionSlots<Income> slots = new TransactionSlots<>();
+        for (Income income : incomes) {
+            slots.add(income);
+        }
+
+        slots.removeSlot(slots.findSlot(2));
+        slots.removeSlot(slots.findSlot(0));
+        slots.removeSlot(slots.findSlot(5));
+
+        assertEquals(7, slots.size());
+        assertEquals(10, slots.getNumberOfSlots());
+        assertEquals(incomes.get(1), slots.get(0));
+        assertEquals(incomes.get(3), slots.get(1));
+        assertEquals(incomes.get(9), slots.get(6));
+        assertEquals(8, slots.findSlot(5));
+        assertEquals(4, slots.findPosition(incomes.get(6)));
+        assertEquals(-1, slots.findPosition(incomes.get(7)));
+        assertEquals(null, slots.getSlot(2));
+        ArrayList<Income> iterated = new ArrayList<>();
+        slots.forEach(iterated::add);
+        assertEquals(List.of(incomes.get(1), incomes.get(3), incomes.get(4), incomes.get(5), incomes.get(6),
+                incomes.get(8), incomes.get(9)), iterated);
+    }
+
+    @Test
+    void add_afterTombstones_expectNewTransactionAtLastPosition() {
+        ArrayList<Income> incomes = createIncomes(5);
+        TransactionSlots<Income> slots = new TransactionSlots<>();
+        slots.setTransactions(new ArrayList<>(incomes.subList(0, 4)));
+        slots.removeSlot(slots.findSlot(1));
+
+        assertEquals(4, slots.add(incomes.get(4)));
+        assertEquals(incomes.get(4), slots.get(3));
+        assertEquals(3, slots.findPosition(incomes.get(4)));
+    }
+
+    @Test
+    void replaceSlot_transactionWithSameId_expectFoundFromIdInItsSlot() {
+        ArrayList<Income> incomes = createIncomes(3);
+        TransactionSlots<Income> slots = new TransactionSlots<>();
+        slots.setTransactions(new ArrayList<>(incomes));
+        slots.removeSlot(slots.findSlot(0));
+        Income edited = new Income(incomes.get(2).getId(), "Bonus", 50, LocalDate.of(2024, 2, 1));
+
+        slots.replaceSlot(slots.findSlotById(edited.getId()), edited);
+
+        assertEquals(2, slots.findSlotById(edited.getId()));
+        assertEquals(-1, slots.findSlotById(incomes.get(0).getId()));
+        assertEquals(edited, slots.get(1));
+        assertEquals(1, slots.findPosition(edited));
+    }
+
+    @Test
+    void getTransactions_sparseSlots_expectCompactedListAndSlotsFromIds() {
+        ArrayList<Income> incomes = createIncomes(6);
+        TransactionSlots<Income> slots = new TransactionSlots<>();
+        slots.setTransactions(new ArrayList<>(incomes));
+        for (int i = 0; i < 4; i++) {
+            slots.removeSlot(slots.findSlot(0));
+        }
+
+        assertEquals(true, slots.isSparse());
+        assertEquals(List.of(incomes.get(4), incomes.get(5)), slots.getTransactions());
+        assertEquals(false, slots.hasTombstones());
+        assertEquals(1, slots.findSlotOf(incomes.get(5)));
+    }
+}
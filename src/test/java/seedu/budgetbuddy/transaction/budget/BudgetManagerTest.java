@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.YearMonth;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -60,4 +61,18 @@ public class BudgetManagerTest {
         Budget result = BudgetManager.getBudget(YearMonth.of(2024, 12));
         assertNull(result);
     }
+
+    @Test
+    public void testGetBudgets_budgetsAddedOutOfOrder_returnsRangeLatestFirst() {
+        Budget march = new Budget(YearMonth.of(2024, 3));
+        Budget january = new Budget(YearMonth.of(2024, 1));
+        Budget june = new Budget(YearMonth.of(2024, 6));
+        BudgetManager.addBudget(march);
+        BudgetManager.addBudget(january);
+        BudgetManager.addBudget(june);
+
+        assertEquals(List.of(june, march, january), BudgetManager.getBudgets());
+        assertEquals(List.of(march, january), BudgetManager.getBudgets(YearMonth.of(2023, 12), YearMonth.of(2024, 5)));
+        assertTrue(BudgetManager.getBudgets(YearMonth.of(2024, 7), YearMonth.of(2024, 1)).isEmpty());
+    }
 }
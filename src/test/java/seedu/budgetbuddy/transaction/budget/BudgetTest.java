@@ -59,4 +59,19 @@ public class BudgetTest {
         Budget budget = new Budget(YearMonth.of(2024, 9));
         assertEquals(YearMonth.of(2024, 9), budget.getDate());
     }
+
+    @Test
+    public void testDeductExpense_belowZero_keepsCategoryAndRunningTotal() {
+        Budget budget = new Budget(YearMonth.of(2024, 9));
+        budget.addAmount(Category.TRANSPORT, 0.2);
+        budget.addAmount(Category.FOOD, 0.1);
+        Budget remaining = new Budget(budget);
+        remaining.deductExpense(Category.FOOD, 30);
+        remaining.deductExpense(Category.OTHERS, 5);
+
+        assertEquals(-0.05, remaining.getTotalMonthlyBudget());
+        assertEquals(0.3, budget.getTotalMonthlyBudget());
+        assertEquals("Total Monthly Budget: -0.05  Date: 2024-09  Category: {FOOD=-0.2, TRANSPORT=0.2, OTHERS=-0.05}",
+                remaining.toString());
+    }
 }
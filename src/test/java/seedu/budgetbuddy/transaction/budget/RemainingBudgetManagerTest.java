@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.budgetbuddy.Listing;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.transaction.expense.Expense;
 import seedu.budgetbuddy.transaction.expense.ExpenseManager;
@@ -59,4 +60,25 @@ public class RemainingBudgetManagerTest {
         assertEquals("The remaining budget for 2024-10 in the EDUCATION category is: 480.0", result);
     }
 
+    @Test
+    public void listRemainingBudgets_budgetsAndExpenseOnlyMonth_expectBudgetsFirst() {
+        Listing listing = Listing.toText();
+        remainingBudgetManager.listRemainingBudgets(listing);
+
+        assertEquals("All budgets after deductions:\n"
+                + "Total Monthly Budget: 500.0  Date: 2024-10  Category: {EDUCATION=500.0}\n"
+                + "Total Monthly Budget: 270.0  Date: 2024-09  Category: {OTHERS=270.0}\n"
+                + "Total Monthly Budget: -50.0  Date: 2024-11  Category: {FOOD=-50.0}\n", listing.toString());
+    }
+
+    @Test
+    public void getRemainingBudgets_expenseDeleted_expectBudgetRestored() {
+        ExpenseManager.deleteExpense(1);
+
+        String result = remainingBudgetManager.getRemainingBudgets(LocalDate.of(2024, 9, 25), Category.OTHERS);
+        assertEquals("The remaining budget for 2024-09 in the OTHERS category is: 300.0", result);
+        ExpenseManager.deleteExpense(0);
+        assertEquals("No budget found for 2024-11.",
+                remainingBudgetManager.getRemainingBudgets(LocalDate.of(2024, 11, 5), Category.FOOD));
+    }
 }
@@ -0,0 +1,105 @@
+package seedu.budgetbuddy.transaction.expense;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.transaction.Category;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DescriptionIndexTest {
+    private static final String[] WORDS = {"lunch", "Dinner", "taxi", "grab", "movie", "tickets", "ticket",
+        "book", "coffee", "bubble", "tea", "rent", "gift", "mrt", "bus"};
+
+    /**
+     * Generates expenses with descriptions of one to four words, so that words repeat across many expenses.
+     */
+    private static ArrayList<Expense> generateExpenses(int count) {
+        Random random = new Random(42);
+        ArrayList<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder description = new StringBuilder();
+            int numberOfWords = 1 + random.nextInt(4);
+            for (int j = 0; j < numberOfWords; j++) {
+                description.append(j == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            expenses.add(new Expense(description.toString(), 1 + random.nextInt(100),
+                    LocalDate.of(2024, 1, 1).plusDays(i % 366), Category.OTHERS));
+        }
+        return expenses;
+    }
+
+    private static DescriptionIndex createIndex(List<Expense> expenses) {
+        DescriptionIndex index = new DescriptionIndex();
+        for (Expense expense : expenses) {
+            index.add(expense);
+        }
+        return index;
+    }
+
+    /**
+     * Finds the expenses holding every word, or any word, of the query by going through each description.
+     */
+    private static List<Expense> scan(List<Expense> expenses, String query, boolean isEveryWordRequired) {
+        List<String> queryWords = List.of(query.toLowerCase().split(" "));
+        ArrayList<Expense> found = new ArrayList<>();
+        for (Expense expense : expenses) {
+            List<String> words = List.of(expense.getDescription().toLowerCase().split(" "));
+            boolean isMatch = isEveryWordRequired ? words.containsAll(queryWords)
+                    : queryWords.stream().anyMatch(words::contains);
+            if (isMatch) {
+                found.add(expense);
+            }
+        }
+        return found;
+    }
+
+    @Test
+    void find_generatedLedger_expectSameExpensesAsScanningEveryDescription() {
+        ArrayList<Expense> expenses = generateExpenses(20000);
+        DescriptionIndex index = createIndex(expenses);
+
+        for (String query : List.of("lunch", "dinner", "ticket", "bubble tea", "taxi grab", "tea tickets lunch",
+                "tick", "unknown", "coffee unknown")) {
+            assertEquals(scan(expenses, query, true), index.find(expenses, query, true), "all/" + query);
+            assertEquals(scan(expenses, query, false), index.find(expenses, query, false), "any/" + query);
+        }
+    }
+
+    @Test
+    void find_afterDeletionsAndRebuild_expectDeletedExpensesLeftOut() {
+        ArrayList<Expense> expenses = generateExpenses(5000);
+        DescriptionIndex index = createIndex(expenses);
+        for (int i = expenses.size() - 1; i >= 0; i -= 3) {
+            index.remove(expenses.remove(i));
+        }
+
+        assertEquals(scan(expenses, "bubble tea", true), index.find(expenses, "bubble tea", true));
+        assertEquals(scan(expenses, "rent gift", false), index.find(expenses, "rent gift", false));
+
+        index.invalidate();
+        assertEquals(scan(expenses, "mrt bus", true), index.find(expenses, "mrt bus", true));
+        assertEquals(scan(expenses, "mrt bus", false), index.find(expenses, "mrt bus", false));
+    }
+
+    @Test
+    void findContaining_generatedLedger_expectEveryDescriptionContainingKeyword() {
+        ArrayList<Expense> expenses = generateExpenses(5000);
+        DescriptionIndex index = createIndex(expenses);
+
+        for (String keyword : List.of("tick", "a t", "ub", "e", "lunch dinner")) {
+            ArrayList<Expense> expected = new ArrayList<>();
+            for (Expense expense : expenses) {
+                if (expense.getDescription().toLowerCase().contains(keyword)) {
+                    expected.add(expense);
+                }
+            }
+            List<Expense> candidates = new ArrayList<>(index.findContaining(expenses, keyword));
+            candidates.removeIf(expense -> !expense.getDescription().toLowerCase().contains(keyword));
+            assertEquals(expected, candidates, keyword);
+        }
+    }
+}
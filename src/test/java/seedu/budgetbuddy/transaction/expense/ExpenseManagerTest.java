@@ -6,6 +6,7 @@ import seedu.budgetbuddy.transaction.Category;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -79,4 +80,179 @@ class ExpenseManagerTest {
         assertEquals("1. Description: New Food  Amount: 12.0  Date: 2024-02-12  Category: FOOD\n",
                 ExpenseManager.searchExpenses("New"));
     }
+
+    @Test
+    void reindexExpense_dateMovedToAnotherMonth_expectListedUnderNewMonth() {
+        Expense lunch = new Expense("Lunch", 10, LocalDate.of(2024, 3, 5), Category.FOOD);
+        Expense dinner = new Expense("Dinner", 20, LocalDate.of(2024, 4, 9), Category.FOOD);
+        new ExpenseManager(new ArrayList<>(List.of(lunch, dinner)), 2);
+
+        LocalDate previousDate = lunch.getDate();
+        lunch.editDate(LocalDate.of(2024, 4, 1));
+        ExpenseManager.reindexExpense(lunch, previousDate, lunch.getAmountInCents(), lunch.getCategory());
+
+        assertEquals(EMPTY_DISPLAY_STRING, ExpenseManager.listExpensesWithDate(YearMonth.of(2024, 3)));
+        assertEquals("1. " + lunch + "\n2. " + dinner + "\n",
+                ExpenseManager.listExpensesWithDate(YearMonth.of(2024, 4)));
+        assertEquals(30.0, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 4)));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void reindexExpense_movedBetweenExpensesOfNewMonth_expectListOrderWithinMonth() {
+        Expense breakfast = new Expense("Breakfast", 3, LocalDate.of(2024, 4, 2), Category.FOOD);
+        Expense lunch = new Expense("Lunch", 10, LocalDate.of(2024, 3, 5), Category.FOOD);
+        Expense dinner = new Expense("Dinner", 20, LocalDate.of(2024, 4, 9), Category.FOOD);
+        Expense supper = new Expense("Supper", 8, LocalDate.of(2024, 3, 30), Category.FOOD);
+        new ExpenseManager(new ArrayList<>(List.of(breakfast, lunch, dinner, supper)), 4);
+
+        LocalDate previousDate = lunch.getDate();
+        lunch.editDate(LocalDate.of(2024, 4, 20));
+        ExpenseManager.reindexExpense(lunch, previousDate, lunch.getAmountInCents(), lunch.getCategory());
+        previousDate = supper.getDate();
+        supper.editDate(LocalDate.of(2024, 4, 21));
+        ExpenseManager.reindexExpense(supper, previousDate, supper.getAmountInCents(), supper.getCategory());
+
+        assertEquals("1. " + breakfast + "\n2. " + lunch + "\n3. " + dinner + "\n4. " + supper + "\n",
+                ExpenseManager.listExpensesWithDate(YearMonth.of(2024, 4)));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void addLoadedExpenses_monthAlreadyInMemory_expectListOrderWithinMonth() {
+        Expense existing = new Expense("Existing", 5, LocalDate.of(2024, 6, 20), Category.OTHERS);
+        new ExpenseManager(new ArrayList<>(List.of(existing)), 2);
+        Expense loaded = new Expense("Loaded", 7, LocalDate.of(2024, 6, 1), Category.OTHERS);
+
+        ExpenseManager.addLoadedExpenses(List.of(loaded));
+
+        assertEquals("1. " + existing + "\n2. " + loaded + "\n",
+                ExpenseManager.listExpensesWithDate(YearMonth.of(2024, 6)));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void getMonthlyExpense_expenseEditedThenDeleted_expectTotalsFollow() {
+        Expense bus = new Expense("Bus", 0.1, LocalDate.of(2024, 8, 2), Category.TRANSPORT);
+        Expense taxi = new Expense("Taxi", 0.2, LocalDate.of(2024, 8, 3), Category.TRANSPORT);
+        new ExpenseManager(new ArrayList<>(List.of(bus, taxi)), 2);
+
+        taxi.editAmount(15);
+        taxi.editCategory(Category.OTHERS);
+        ExpenseManager.reindexExpense(taxi, taxi.getDate(), 20, Category.TRANSPORT);
+        assertEquals(15.1, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 8)));
+
+        ExpenseManager.deleteExpense(1);
+        assertEquals(0.1, ExpenseManager.getMonthlyExpense(YearMonth.of(2024, 8)));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void searchExpenses_keywordInsideAndAcrossWords_expectSameAsContains() {
+        Expense tickets = new Expense("Movie Tickets", 20, LocalDate.of(2024, 5, 1), Category.ENTERTAINMENT);
+        Expense bus = new Expense("Bus ticket", 2, LocalDate.of(2024, 5, 2), Category.TRANSPORT);
+        Expense tea = new Expense("Tea", 3, LocalDate.of(2024, 5, 3), Category.FOOD);
+        new ExpenseManager(new ArrayList<>(List.of(tickets, bus, tea)), 3);
+
+        assertEquals("1. " + tickets + "\n2. " + bus + "\n", ExpenseManager.searchExpenses("TICK"));
+        assertEquals("1. " + tickets + "\n", ExpenseManager.searchExpenses("ie tic"));
+
+        ExpenseManager.deleteExpense(0);
+        assertEquals("1. " + bus + "\n", ExpenseManager.searchExpenses("tick"));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void searchExpensesByKeywords_everyOrAnyKeyword_expectMatchingExpensesInListOrder() {
+        Expense lunch = new Expense("Lunch with team", 30, LocalDate.of(2024, 7, 1), Category.FOOD);
+        Expense taxi = new Expense("Taxi to lunch", 15, LocalDate.of(2024, 7, 2), Category.TRANSPORT);
+        Expense team = new Expense("Team outing", 50, LocalDate.of(2024, 7, 3), Category.ENTERTAINMENT);
+        new ExpenseManager(new ArrayList<>(List.of(lunch, taxi)), 2);
+        ExpenseManager.addExpense(team);
+
+        assertEquals("1. " + lunch + "\n", ExpenseManager.searchExpensesByKeywords("team lunch", true));
+        assertEquals("1. " + lunch + "\n2. " + taxi + "\n3. " + team + "\n",
+                ExpenseManager.searchExpensesByKeywords("taxi team", false));
+        assertEquals(EMPTY_DISPLAY_STRING, ExpenseManager.searchExpensesByKeywords("taxi outing", true));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void searchExpenses_repeatedAndShortKeywords_expectSameAsContains() {
+        Expense banana = new Expense("Banana bread", 6, LocalDate.of(2024, 9, 1), Category.FOOD);
+        Expense nan = new Expense("Naan", 4, LocalDate.of(2024, 9, 2), Category.FOOD);
+        Expense ban = new Expense("Bandana", 9, LocalDate.of(2024, 9, 3), Category.OTHERS);
+        new ExpenseManager(new ArrayList<>(List.of(banana, nan, ban)), 3);
+
+        assertEquals("1. " + banana + "\n", ExpenseManager.searchExpenses("anana"));
+        assertEquals("1. " + banana + "\n2. " + ban + "\n", ExpenseManager.searchExpenses("ana"));
+        assertEquals("1. " + banana + "\n2. " + nan + "\n3. " + ban + "\n", ExpenseManager.searchExpenses("Na"));
+        assertEquals("1. " + banana + "\n", ExpenseManager.searchExpenses("a b"));
+        assertEquals(EMPTY_DISPLAY_STRING, ExpenseManager.searchExpenses("nanas"));
+        ExpenseManager.reset();
+    }
+
+    @Test
+    void listExpensesBetween_backDatedAddAndDateEdit_expectDateOrder() {
+        Expense lunch = new Expense("Lunch", 10, LocalDate.of(2024, 3, 5), Category.FOOD);
+        Expense bus = new Expense("Bus", 2, LocalDate.of(2024, 3, 20), Category.TRANSPORT);
+        new ExpenseManager(new ArrayList<>(List.of(lunch, bus)), 2);
+        Expense snack = new Expense("Snack", 3, LocalDate.of(2024, 3, 5), Category.FOOD);
+        ExpenseManager.addExpense(snack);
+        ExpenseManager.addExpense(new Expense("Cake", 8, LocalDate.of(2024, 2, 28), Category.FOOD));
+
+        LocalDate previousDate = lunch.getDate();
+        lunch.editDate(LocalDate.of(2024, 3, 21));
+        ExpenseManager.reindexExpense(lunch, previousDate, lunch.getAmountInCents(), lunch.getCategory());
+
+        assertEquals("1. " + snack + "\n2. " + bus + "\n3. " + lunch + "\n",
+                ExpenseManager.listExpensesBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), null));
+        assertEquals("1. " + snack + "\n2. " + lunch + "\n",
+                ExpenseManager.listExpensesBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31),
+                        Category.FOOD));
+        ExpenseManager.deleteExpense(2);
+        assertEquals(EMPTY_DISPLAY_STRING,
+                ExpenseManager.listExpensesBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 5), null));
+    }
+
+    @Test
+    void listTopExpenses_categoryAndMonth_expectLargestFirstWithTiesInListOrder() {
+        Expense lunch = new Expense("Lunch", 10, LocalDate.of(2024, 3, 5), Category.FOOD);
+        Expense bus = new Expense("Bus", 30, LocalDate.of(2024, 3, 6), Category.TRANSPORT);
+        Expense dinner = new Expense("Dinner", 25, LocalDate.of(2024, 3, 7), Category.FOOD);
+        Expense snack = new Expense("Snack", 10, LocalDate.of(2024, 3, 8), Category.FOOD);
+        Expense cake = new Expense("Cake", 40, LocalDate.of(2024, 4, 1), Category.FOOD);
+        new ExpenseManager(new ArrayList<>(List.of(lunch, bus, dinner, snack, cake)), 5);
+
+        assertEquals("5. " + cake + "\n2. " + bus + "\n",
+                ExpenseManager.listTopExpenses(2, null, null));
+        assertEquals("3. " + dinner + "\n1. " + lunch + "\n4. " + snack + "\n",
+                ExpenseManager.listTopExpenses(5, Category.FOOD, YearMonth.of(2024, 3)));
+
+        ExpenseManager.deleteExpense(0);
+        assertEquals("4. " + cake + "\n1. " + bus + "\n",
+                ExpenseManager.listTopExpenses(2, null, null));
+        assertEquals(EMPTY_DISPLAY_STRING, ExpenseManager.listTopExpenses(3, Category.OTHERS, null));
+    }
+
+    @Test
+    void deleteExpense_severalExpenses_expectNumberingAndCategoryListingFollowLiveExpenses() {
+        Expense lunch = new Expense("Lunch", 10, LocalDate.of(2024, 6, 1), Category.FOOD);
+        Expense bus = new Expense("Bus", 2, LocalDate.of(2024, 6, 2), Category.TRANSPORT);
+        Expense dinner = new Expense("Dinner", 25, LocalDate.of(2024, 6, 3), Category.FOOD);
+        Expense taxi = new Expense("Taxi", 15, LocalDate.of(2024, 6, 4), Category.TRANSPORT);
+        new ExpenseManager(new ArrayList<>(List.of(lunch, bus, dinner, taxi)), 4);
+
+        ExpenseManager.deleteExpense(1);
+        dinner.editAmount(30);
+        ExpenseManager.reindexExpense(dinner, dinner.getDate(), 2500, Category.FOOD);
+
+        assertEquals(1, ExpenseManager.findPosition(dinner));
+        assertEquals("1. " + lunch + "\n2. " + dinner + "\n",
+                ExpenseManager.listExpensesWithCategory(Category.FOOD));
+        assertEquals(4000L, ExpenseManager.getMonthlyExpenseInCents(YearMonth.of(2024, 6), Category.FOOD));
+        ExpenseManager.deleteExpense(0);
+        assertEquals(List.of(dinner, taxi), ExpenseManager.getExpenses());
+        ExpenseManager.reset();
+    }
 }
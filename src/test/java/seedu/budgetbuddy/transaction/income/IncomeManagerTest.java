@@ -70,5 +70,21 @@ class IncomeManagerTest {
         YearMonth expected = YearMonth.of(2024, 10);
         assertEquals(expected, IncomeManager.getYearMonthFromDate(date));
     }
-}
 
+    @Test
+    void getIncomesInMonth_afterAddAndDelete_returnsMonthInListOrder() {
+        Income salary = new Income("Salary", 5000, LocalDate.of(2024, 10, 1));
+        Income bonus = new Income("Bonus", 300.5, LocalDate.of(2024, 10, 20));
+        IncomeManager.addIncome(salary);
+        IncomeManager.addIncome(new Income("Gift", 20, LocalDate.of(2024, 9, 5)));
+        IncomeManager.addIncome(bonus);
+        IncomeManager.addIncome(new Income("Refund", 10, LocalDate.of(2024, 10, 2)));
+        IncomeManager.deleteIncome(3);
+
+        assertEquals(2, IncomeManager.getIncomesInMonth(YearMonth.of(2024, 10)).size());
+        assertEquals(bonus, IncomeManager.getIncomesInMonth(YearMonth.of(2024, 10)).get(1));
+        assertEquals(5300.5, IncomeManager.getMonthlyIncome(YearMonth.of(2024, 10)));
+        assertEquals(2000L, (long) IncomeManager.getMonthlyIncomesInCents(YearMonth.of(2024, 1),
+                YearMonth.of(2024, 12)).get(YearMonth.of(2024, 9)));
+    }
+}
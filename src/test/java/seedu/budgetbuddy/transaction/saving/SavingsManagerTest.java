@@ -8,6 +8,7 @@ import seedu.budgetbuddy.transaction.income.Income;
 import seedu.budgetbuddy.transaction.income.IncomeManager;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -68,4 +69,30 @@ public class SavingsManagerTest {
         initializeTestContent(false, false);
         assertEquals("Savings in 2024-10: 900.0\n", SavingsManager.displayTotalSavingsByMonth());
     }
+
+    @Test
+    void displaySavingsInRange_afterExpenseDeleted_expectUpdatedSavings(){
+        initializeTestContent(false, false);
+        IncomeManager.addIncome(new Income("bonus", 50, LocalDate.parse("2024-12-01")));
+        assertEquals("Savings in 2024-10: 900.0\nSavings in 2024-12: 50.0\n"
+                + "Total savings from 2024-09 to 2024-12: 950.0\n",
+                SavingsManager.displaySavingsInRange(YearMonth.of(2024, 9), YearMonth.of(2024, 12)));
+
+        ExpenseManager.deleteExpense(0);
+        assertEquals("Savings in 2024-10: 1000.0\nTotal savings from 2024-10 to 2024-11: 1000.0\n",
+                SavingsManager.displaySavingsInRange(YearMonth.of(2024, 10), YearMonth.of(2024, 11)));
+    }
+
+    @Test
+    void displayTotalSavings_expenseAddedToEarlierMonth_expectUpdatedSavings(){
+        initializeTestContent(false, false);
+        assertEquals("Total savings: 900.0\nFirst income: 2024-10\nFirst expense: 2024-10\n",
+                SavingsManager.displayTotalSavings());
+
+        ExpenseManager.addExpense(new Expense("Book", 20, LocalDate.parse("2024-08-01"), Category.EDUCATION));
+        assertEquals("Total savings: 880.0\nFirst income: 2024-10\nFirst expense: 2024-08\n",
+                SavingsManager.displayTotalSavings());
+        assertEquals("Savings in 2024-08: -20.0\nSavings in 2024-10: 900.0\n",
+                SavingsManager.displayTotalSavingsByMonth());
+    }
 }
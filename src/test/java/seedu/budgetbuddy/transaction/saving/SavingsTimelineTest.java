@@ -0,0 +1,69 @@
+package seedu.budgetbuddy.transaction.saving;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SavingsTimelineTest {
+
+    @Test
+    void getSavingsInCents_monthsAddedOutOfOrder_expectRangeSums() {
+        SavingsTimeline timeline = new SavingsTimeline();
+        timeline.addIncome(YearMonth.of(2024, 3), 50000);
+        timeline.addExpense(YearMonth.of(2024, 1), 1234);
+        timeline.addIncome(YearMonth.of(2024, 1), 10000);
+        timeline.addExpense(YearMonth.of(2024, 5), 20000);
+
+        assertEquals(38766L, timeline.getTotalSavingsInCents());
+        assertEquals(8766L, timeline.getSavingsInCents(YearMonth.of(2024, 1)));
+        assertEquals(58766L, timeline.getSavingsInCents(YearMonth.of(2023, 12), YearMonth.of(2024, 4)));
+        assertEquals(30000L, timeline.getSavingsInCents(YearMonth.of(2024, 2), YearMonth.of(2024, 5)));
+        assertEquals(0L, timeline.getSavingsInCents(YearMonth.of(2024, 6), YearMonth.of(2024, 12)));
+        assertEquals(YearMonth.of(2024, 1), timeline.getFirstIncomeMonth());
+        assertEquals(YearMonth.of(2024, 1), timeline.getFirstExpenseMonth());
+
+        timeline.addIncome(YearMonth.of(2024, 4), 1);
+        assertEquals(38767L, timeline.getTotalSavingsInCents());
+        assertEquals(2, timeline.getMonthlySavings(YearMonth.of(2024, 2), YearMonth.of(2024, 4)).size());
+    }
+
+    @Test
+    void removeMonth_monthChangedAfterIndexing_expectSameSavingsAsNewTimeline() {
+        SavingsTimeline timeline = new SavingsTimeline();
+        for (int month = 1; month <= 12; month++) {
+            timeline.addIncome(YearMonth.of(2024, month), 1000L * month);
+            timeline.addExpense(YearMonth.of(2024, month), 300);
+        }
+        assertEquals(74400L, timeline.getTotalSavingsInCents());
+
+        timeline.removeMonth(YearMonth.of(2024, 6));
+        timeline.addExpense(YearMonth.of(2024, 6), 500);
+        timeline.removeMonth(YearMonth.of(2024, 9));
+        timeline.addIncome(YearMonth.of(2023, 12), 100);
+
+        SavingsTimeline expected = new SavingsTimeline();
+        expected.addIncome(YearMonth.of(2023, 12), 100);
+        for (int month = 1; month <= 12; month++) {
+            if (month == 6) {
+                expected.addExpense(YearMonth.of(2024, month), 500);
+            } else if (month != 9) {
+                expected.addIncome(YearMonth.of(2024, month), 1000L * month);
+                expected.addExpense(YearMonth.of(2024, month), 300);
+            }
+        }
+        assertEquals(expected.getTotalSavingsInCents(), timeline.getTotalSavingsInCents());
+        for (int month = 1; month <= 12; month++) {
+            YearMonth to = YearMonth.of(2024, month);
+            assertEquals(expected.getSavingsInCents(YearMonth.of(2023, 12), to),
+                    timeline.getSavingsInCents(YearMonth.of(2023, 12), to));
+        }
+        assertEquals(11, timeline.getMonthlySavings(YearMonth.of(2024, 1), YearMonth.of(2024, 12)).size());
+        assertEquals(YearMonth.of(2023, 12), timeline.getFirstIncomeMonth());
+
+        timeline.removeMonth(YearMonth.of(2023, 12));
+        assertEquals(YearMonth.of(2024, 1), timeline.getFirstIncomeMonth());
+        assertEquals(expected.getTotalSavingsInCents() - 100, timeline.getTotalSavingsInCents());
+    }
+}
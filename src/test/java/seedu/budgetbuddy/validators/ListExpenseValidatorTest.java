@@ -5,6 +5,7 @@ import seedu.budgetbuddy.commands.expense.ListExpenseCommand;
 import seedu.budgetbuddy.transaction.Category;
 import seedu.budgetbuddy.validators.expense.ListExpenseValidator;
 
+import java.time.LocalDate;
 import java.time.YearMonth;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -41,4 +42,15 @@ class DisplayExpenseValidatorTest {
         assertEquals(category, command.getCategory());
         assertEquals(yearMonth,command.getMonth());
     }
+
+    @Test
+    void processCommand_dateRangeWithCategory_expectRangeCommand(){
+        ListExpenseCommand command = (ListExpenseCommand) ListExpenseValidator.processCommand(
+                "list expenses from/01/03/2024 to/31/03/2024 c/food");
+        assertEquals(LocalDate.of(2024, 3, 1), command.getFrom());
+        assertEquals(LocalDate.of(2024, 3, 31), command.getTo());
+        assertEquals(Category.FOOD, command.getCategory());
+        assertEquals(false, ListExpenseValidator.processCommand("list expenses from/01/03/2024")
+                instanceof ListExpenseCommand);
+    }
 }
@@ -0,0 +1,30 @@
+package seedu.budgetbuddy.validators;
+
+import org.junit.jupiter.api.Test;
+import seedu.budgetbuddy.commands.Command;
+import seedu.budgetbuddy.commands.IncorrectCommand;
+import seedu.budgetbuddy.commands.expense.TopExpensesCommand;
+import seedu.budgetbuddy.validators.expense.TopExpensesValidator;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopExpensesValidatorTest {
+
+    @Test
+    void processCommand_countCategoryAndMonth_expectTopExpensesCommand() {
+        Command result = TopExpensesValidator.processCommand("top expenses k/5 c/FOOD m/10/2024");
+        assertTrue(result instanceof TopExpensesCommand);
+    }
+
+    @Test
+    void processCommand_unknownArgument_expectIncorrectCommand() {
+        Command result = TopExpensesValidator.processCommand("top expenses k/5 foo");
+        assertTrue(result instanceof IncorrectCommand);
+    }
+
+    @Test
+    void processCommand_missingCount_expectIncorrectCommand() {
+        Command result = TopExpensesValidator.processCommand("top expenses c/FOOD");
+        assertTrue(result instanceof IncorrectCommand);
+    }
+}